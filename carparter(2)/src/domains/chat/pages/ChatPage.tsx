@@ -23,12 +23,17 @@ export default function ChatPage() {
   const [selectedRoom, setSelectedRoom] = useState<ChatRoom | null>(null);
   const [messages, setMessages] = useState<ChatMessage[]>([]);
   const [newMessage, setNewMessage] = useState("");
+  // 이전 대화 페이지 커서 (null이면 더 불러올 내역 없음)
+  const [historyCursor, setHistoryCursor] = useState<string | null>(null);
+  const [loadingOlder, setLoadingOlder] = useState(false);
 
   const chatEndRef = useRef<HTMLDivElement | null>(null);
   const clientRef = useRef<Client | null>(null); // ✅ Stomp 클라이언트 인스턴스를 저장할 ref
 
   // ✅ 구독 객체를 저장하기 위한 ref 추가
   const subscriptionRef = useRef<StompSubscription | null>(null);
+  // 이전 메시지를 앞에 붙일 때는 맨 아래로 스크롤하지 않기 위한 플래그
+  const skipScrollRef = useRef(false);
 
   // 1. 채팅방 목록을 실제 API로 불러오기
   useEffect(() => {
@@ -59,16 +64,23 @@ export default function ChatPage() {
     fetchAndSelectInitialRoom();
   }, []);
 
+  const selectedRoomIdRef = useRef<string | null>(null);
+
   // 2. 선택된 채팅방이 바뀌면 -> 이전 대화내역 로드 + WebSocket 연결
   useEffect(() => {
     if (!selectedRoom) return;
+    selectedRoomIdRef.current = selectedRoom.roomId;
 
     // ✅ roomId가 실제 DB에 존재하는 방일 경우에만 API를 호출하도록 조건 추가
     if (selectedRoom.roomId && !selectedRoom.roomId.toString().startsWith('temp-id-')) {
-      ChatApiService.fetchChatHistory(selectedRoom.roomId).then(setMessages);
+      ChatApiService.fetchChatHistory(selectedRoom.roomId).then(page => {
+        setMessages(page.items);
+        setHistoryCursor(page.hasNext ? page.nextCursor : null);
+      });
     } else {
       // 새로운 방(임시 ID)이면 메시지 목록을 그냥 비워둠
       setMessages([]);
+      setHistoryCursor(null);
     }
 
     // StompJS의 Client 객체를 생성하기 전에 토큰을 가져옵니다.
@@ -127,8 +139,34 @@ webSocketFactory: () => new SockJS('http://192.168.210.38:9000/ws-chat'),
 
   // 메시지가 업데이트될 때마다 맨 아래로 스크롤
   useEffect(() => {
+    if (skipScrollRef.current) {
+      skipScrollRef.current = false;
+      return;
+    }
     chatEndRef.current?.scrollIntoView({ behavior: "smooth" });
   }, [messages]);
+
+  // 이전 메시지 한 페이지를 더 불러와 목록 앞에 붙이기
+  const handleLoadOlder = async () => {
+    if (!selectedRoom || !historyCursor || loadingOlder) return;
+    const roomId = selectedRoom.roomId;
+    setLoadingOlder(true);
+    try {
+      const page = await ChatApiService.fetchChatHistory(roomId, historyCursor);
+      // 불러오는 사이 다른 방으로 옮겼으면 버림
+      if (selectedRoomIdRef.current !== roomId) return;
+      skipScrollRef.current = true;
+      setMessages(prev => {
+        const loadedIds = new Set(prev.map(msg => msg.messageId));
+        return [...page.items.filter(msg => !loadedIds.has(msg.messageId)), ...prev];
+      });
+      setHistoryCursor(page.hasNext ? page.nextCursor : null);
+    } catch (error) {
+      console.error("이전 대화 내역 조회 실패:", error);
+    } finally {
+      setLoadingOlder(false);
+    }
+  };
   
   // 3. 메시지 전송 (WebSocket publish)
   const handleSendMessage = () => {
@@ -238,6 +276,13 @@ webSocketFactory: () => new SockJS('http://192.168.210.38:9000/ws-chat'),
               </div>
               <ScrollArea className="flex-1 p-4 bg-gray-50">
                 <div className="space-y-4">
+                  {historyCursor && (
+                    <div className="flex justify-center">
+                      <Button variant="outline" size="sm" onClick={handleLoadOlder} disabled={loadingOlder}>
+                        {loadingOlder ? "불러오는 중..." : "이전 메시지 불러오기"}
+                      </Button>
+                    </div>
+                  )}
                   {messages.map((message) => {
                   // [수정] 현재 로그인한 유저의 고유 ID(user.id)와
                   //       메시지를 보낸 사람의 고유 ID(message.senderId)를 비교해야 합니다.
@@ -35,8 +35,8 @@ export default function SearchResultsPage() {
       setError(null);
       try {
         // ✅ 부품 검색 전용 API 호출
-        const parts = await carCenterApi.searchParts(searchQuery);
-        setResults(parts);
+        const page = await carCenterApi.searchParts(searchQuery);
+        setResults(page.content);
       } catch (e) {
         setError("검색 중 오류가 발생했습니다.");
         console.error(e);
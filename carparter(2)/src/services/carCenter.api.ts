@@ -25,6 +25,8 @@ export interface ReservationReqDTO { customerName: string; customerPhone: string
 export interface ReservationResDTO { reservationId: number; centerId: string; customerName: string; customerPhone: string; carInfo: string; reservationDate: string; requestDetails?: string; }
 export interface UsedPartReqDTO { partName: string; description: string; price: number; category: string; compatibleCarModel: string; }
 export interface UsedPartResDTO { partId: number; centerId: string; partName: string; description: string; price: number; category: string; compatibleCarModel: string; createdAt: string; imageUrls: string[]; centerPhoneNumber: string; }
+/** Spring Data Page 응답 (필요한 필드만) */
+export interface PageResponse<T> { content: T[]; totalElements: number; totalPages: number; number: number; size: number; last: boolean; }
 export interface EstimateItemReqDTO { itemName: string; price: number; requiredHours: number; partType: string; }
 export interface EstimateItemResDTO { itemId: number; itemName: string; price: number; requiredHours: number; partType: string; }
 export interface EstimateReqDTO { requestId: number; estimatedCost: number; details: string; estimateItems: EstimateItemReqDTO[];  workDuration: string; validUntil: string; }
@@ -175,9 +177,12 @@ class CarCenterApiService extends BaseApiService {
   deleteUsedPart(partId: number): Promise<void> {
     return this.request('DELETE', `/car-centers/used-parts/${partId}`);
   }
-  searchParts(query: string): Promise<UsedPartResDTO[]> {
-    if (!query.trim()) { return Promise.resolve([]); }
-    return this.request('GET', `/parts/search?query=${encodeURIComponent(query)}`);
+  /** 중고 부품 검색 (관련도 순, 페이지 단위 응답: content / totalElements) */
+  searchParts(query: string, page: number = 0, size: number = 20): Promise<PageResponse<UsedPartResDTO>> {
+    if (!query.trim()) {
+      return Promise.resolve({ content: [], totalElements: 0, totalPages: 0, number: page, size, last: true });
+    }
+    return this.request('GET', `/parts/search?query=${encodeURIComponent(query)}&page=${page}&size=${size}`);
   }
   
   getRecentParts(limit: number = 3): Promise<UsedPartResDTO[]> {
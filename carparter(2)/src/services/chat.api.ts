@@ -1,6 +1,6 @@
 // 파일 경로: src/services/chat.api.ts (새 파일)
 
-import { ChatRoom, ChatMessage } from '@/types/chat.types';
+import { ChatRoom, ChatHistoryPage } from '@/types/chat.types';
 
 const API_BASE_URL = '/api/chat';
 
@@ -48,10 +48,15 @@ export const ChatApiService = {
 
   /**
    * 특정 채팅방의 이전 대화 내역을 조회하는 API
-   * GET /api/chat/history/{roomId}
+   * GET /api/chat/history/{roomId}?cursor=&size=
+   * cursor 없이 부르면 최근 메시지 한 페이지, 이전 응답의 nextCursor를 넘기면 그보다 오래된 페이지를 받아 옵니다.
    */
-  async fetchChatHistory(roomId: string): Promise<ChatMessage[]> {
-    const response = await fetch(`${API_BASE_URL}/history/${roomId}`, {
+  async fetchChatHistory(roomId: string, cursor?: string | null, size = 50): Promise<ChatHistoryPage> {
+    const params = new URLSearchParams({ size: String(size) });
+    if (cursor) {
+      params.set('cursor', cursor);
+    }
+    const response = await fetch(`${API_BASE_URL}/history/${roomId}?${params.toString()}`, {
       headers: getAuthHeaders(),
     });
     if (!response.ok) {
@@ -22,4 +22,11 @@ export interface ChatMessage {
   senderType: 'USER' | 'CAR_CENTER'; // ✅ [추가] 보낸 사람의 타입을 명시
   content: string;
   createdAt: string;
+}
+
+// 대화 내역 한 페이지 (GET /api/chat/history/{roomId})
+export interface ChatHistoryPage {
+  items: ChatMessage[];   // 오래된 순
+  nextCursor: string | null;
+  hasNext: boolean;
 }
\ No newline at end of file
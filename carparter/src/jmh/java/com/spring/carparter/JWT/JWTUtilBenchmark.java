@@ -0,0 +1,71 @@
+package com.spring.carparter.JWT;
+
+import com.spring.carparter.security.CustomUserDetails;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWTFilter 한 번의 요청에서 발생하는 토큰 처리 비용 비교
+ * - legacyFivePasses: 기존 방식 (isExpired/getUserId/getUsername/getRole/getUserType 마다 파서 생성 + 서명 검증)
+ * - singleParseUncached: 파서 재사용 + 1회 파싱 (캐시 미적중, 첫 요청)
+ * - singleParseCached: 같은 토큰 재요청 (캐시 적중, 서명 검증 생략)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JWTUtilBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private SecretKey secretKey;
+    private JWTUtil cachedJwtUtil;
+    private JWTUtil uncachedJwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        cachedJwtUtil = new JWTUtil(SECRET, 10_000);
+        uncachedJwtUtil = new JWTUtil(SECRET, 0);
+        token = cachedJwtUtil.createJwt(
+                new CustomUserDetails("user001", null, "고객001", "ROLE_USER", "USER"), 1000L * 60 * 60);
+    }
+
+    @Benchmark
+    public void legacyFivePasses(Blackhole bh) {
+        bh.consume(legacyPayload().getExpiration());
+        bh.consume(legacyPayload().get("userId", String.class));
+        bh.consume(legacyPayload().get("username", String.class));
+        bh.consume(legacyPayload().get("role", String.class));
+        bh.consume(legacyPayload().get("userType", String.class));
+    }
+
+    @Benchmark
+    public JwtClaims singleParseUncached() {
+        return uncachedJwtUtil.parseClaims(token);
+    }
+
+    @Benchmark
+    public JwtClaims singleParseCached() {
+        return cachedJwtUtil.parseClaims(token);
+    }
+
+    private Claims legacyPayload() {
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+    }
+}
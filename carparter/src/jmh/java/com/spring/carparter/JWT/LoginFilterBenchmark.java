@@ -0,0 +1,86 @@
+package com.spring.carparter.JWT;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.gson.Gson;
+import com.spring.carparter.security.CustomUserDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * LoginFilter 한 번의 로그인에서 JSON 요청을 읽고 응답을 쓰는 비용 비교
+ * - legacyLogin: 기존 방식 (본문 전체를 문자열로 모음 + 요청마다 ObjectMapper 생성 + Map 변환, 응답마다 Gson 생성 + Map 직렬화)
+ * - sharedLogin: 공유 ObjectReader/ObjectWriter로 스트림에서 레코드로 바로 읽고, 레코드를 스트림에 바로 씀
+ *
+ * 로그인당 할당량은 gc 프로파일러의 gc.alloc.rate.norm(B/op)으로 비교합니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=LoginFilterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoginFilterBenchmark {
+
+    private byte[] requestBody;
+    private CustomUserDetails principal;
+    private ObjectReader loginRequestReader;
+    private ObjectWriter loginResponseWriter;
+
+    @Setup
+    public void setUp() {
+        requestBody = "{\"username\":\"user001\",\"password\":\"password-0123456789\"}".getBytes(StandardCharsets.UTF_8);
+        principal = new CustomUserDetails("user001", null, "고객001", "ROLE_USER", "USER");
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        loginRequestReader = objectMapper.readerFor(LoginFilter.LoginRequest.class);
+        loginResponseWriter = objectMapper.writerFor(LoginFilter.LoginResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public byte[] legacyLogin() throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(requestBody), StandardCharsets.UTF_8));
+        String body = reader.lines().collect(Collectors.joining(System.lineSeparator()));
+        Map<String, String> loginData = new ObjectMapper().readValue(body, Map.class);
+        if (!principal.getUserId().equals(loginData.get("username"))) {
+            throw new IllegalStateException();
+        }
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("userId", principal.getUserId());
+        map.put("name", principal.getName());
+        map.put("role", principal.getRole());
+        map.put("userType", principal.getUserType());
+        return new Gson().toJson(map).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] sharedLogin() throws IOException {
+        LoginFilter.LoginRequest loginRequest = loginRequestReader.readValue(new ByteArrayInputStream(requestBody));
+        if (!principal.getUserId().equals(loginRequest.username())) {
+            throw new IllegalStateException();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+        loginResponseWriter.writeValue(out, LoginFilter.LoginResponse.from(principal));
+        return out.toByteArray();
+    }
+}
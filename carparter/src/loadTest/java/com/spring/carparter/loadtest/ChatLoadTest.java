@@ -0,0 +1,184 @@
+package com.spring.carparter.loadtest;
+
+import com.spring.carparter.JWT.JWTUtil;
+import com.spring.carparter.security.CustomUserDetails;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채팅 WebSocket 부하 테스트
+ *
+ * 내장 서버(ChatLoadTestServer)를 임의 포트로 띄우고, 방마다 정상 클라이언트 여러 개가 메시지를 주고받는 동안
+ * 일부 방에는 수신을 멈춘 클라이언트(StalledStompClient)를 섞어 둡니다.
+ * 멈춘 구독자가 있는 방과 없는 방의 전달 지연/누락을 비교해, 느린 세션이 다른 브로드캐스트를 막지 않는지 확인합니다.
+ *
+ * 실행: ./gradlew chatLoadTest -Prooms=2000 -PclientsPerRoom=2 -PmessagesPerClient=20 -PstalledRooms=50
+ */
+public class ChatLoadTest {
+
+    private static final String SECRET = "load-test-secret-key-load-test-secret-key-0123456789";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int rooms = Integer.parseInt(options.getOrDefault("rooms", "1000"));
+        int clientsPerRoom = Integer.parseInt(options.getOrDefault("clientsPerRoom", "2"));
+        int messagesPerClient = Integer.parseInt(options.getOrDefault("messagesPerClient", "20"));
+        int stalledRooms = Integer.parseInt(options.getOrDefault("stalledRooms", String.valueOf(Math.max(rooms / 100, 1))));
+        long intervalMs = Long.parseLong(options.getOrDefault("intervalMs", "50"));
+        int payloadBytes = Integer.parseInt(options.getOrDefault("payloadBytes", "512"));
+
+        ServletWebServerApplicationContext context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(ChatLoadTestServer.class)
+                .properties(
+                        "server.port=0",
+                        "spring.jwt.secret=" + SECRET,
+                        "chat.ws.send-buffer-size-limit=" + options.getOrDefault("sendBufferSizeLimit", "524288"),
+                        "chat.ws.send-time-limit-ms=" + options.getOrDefault("sendTimeLimitMs", "10000"),
+                        "server.tomcat.threads.max=400",
+                        "server.tomcat.max-connections=" + (rooms * (clientsPerRoom + 1) + 100))
+                .run();
+        int port = context.getWebServer().getPort();
+        String url = "ws://localhost:" + port + "/ws-chat/websocket";
+        String token = context.getBean(JWTUtil.class).createJwt(
+                new CustomUserDetails("loadtest", null, "부하테스트", "ROLE_USER", "USER"), 1000L * 60 * 60);
+
+        System.out.printf("내장 서버 포트 %d: 방 %d개 × 클라이언트 %d개, 클라이언트당 메시지 %d건, 멈춘 구독자 방 %d개%n",
+                port, rooms, clientsPerRoom, messagesPerClient, stalledRooms);
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        stompClient.setInboundMessageSizeLimit(1024 * 1024);
+
+        LongAdder delivered = new LongAdder();
+        ConcurrentLinkedQueue<Long> normalLatencies = new ConcurrentLinkedQueue<>();
+        ConcurrentLinkedQueue<Long> stalledRoomLatencies = new ConcurrentLinkedQueue<>();
+
+        // 1. 연결 + 구독
+        List<StompSession> sessions = new ArrayList<>(rooms * clientsPerRoom);
+        List<Integer> sessionRooms = new ArrayList<>(rooms * clientsPerRoom);
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + token);
+        for (int room = 1; room <= rooms; room++) {
+            boolean stalledRoom = room <= stalledRooms;
+            ConcurrentLinkedQueue<Long> latencies = stalledRoom ? stalledRoomLatencies : normalLatencies;
+            for (int c = 0; c < clientsPerRoom; c++) {
+                StompSession session = stompClient.connectAsync(url, new WebSocketHttpHeaders(), connectHeaders,
+                        new StompSessionHandlerAdapter() { }).get(10, TimeUnit.SECONDS);
+                session.subscribe("/topic/room/" + room, new LatencyRecorder(delivered, latencies));
+                sessions.add(session);
+                sessionRooms.add(room);
+            }
+        }
+        List<StalledStompClient> stalledClients = new ArrayList<>(stalledRooms);
+        for (int room = 1; room <= stalledRooms; room++) {
+            stalledClients.add(new StalledStompClient("localhost", port, "/ws-chat/websocket", token, room));
+        }
+        Thread.sleep(1_000); // 구독이 브로커에 등록될 때까지 대기
+
+        // 2. 전송: 모든 정상 클라이언트가 intervalMs 간격으로 messagesPerClient건씩 보냄
+        String filler = "x".repeat(payloadBytes);
+        ScheduledExecutorService senders = Executors.newScheduledThreadPool(Math.min(sessions.size(), 64));
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < sessions.size(); i++) {
+            StompSession session = sessions.get(i);
+            int room = sessionRooms.get(i);
+            for (int m = 0; m < messagesPerClient; m++) {
+                senders.schedule(() -> {
+                    if (session.isConnected()) {
+                        Map<String, Object> message = new HashMap<>();
+                        message.put("content", filler);
+                        message.put("sentNanos", System.nanoTime());
+                        session.send("/app/chat/send/" + room, message);
+                    }
+                }, m * intervalMs + (i % Math.max(intervalMs, 1)), TimeUnit.MILLISECONDS);
+            }
+        }
+        senders.shutdown();
+        senders.awaitTermination(10, TimeUnit.MINUTES);
+
+        long expected = (long) rooms * clientsPerRoom * messagesPerClient * clientsPerRoom;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (delivered.sum() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+
+        // 3. 결과
+        System.out.println("===== 채팅 부하 테스트 결과 =====");
+        System.out.printf("전달: %d / %d (%.2f%%), %.1f초, %.0f msg/s%n",
+                delivered.sum(), expected, 100.0 * delivered.sum() / expected, elapsedSeconds, delivered.sum() / elapsedSeconds);
+        printLatency("멈춘 구독자 없는 방", normalLatencies);
+        printLatency("멈춘 구독자 있는 방(정상 구독자 기준)", stalledRoomLatencies);
+        MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+        System.out.printf("아웃바운드 거부: %.0f건%n", meterRegistry.counter("chat.ws.outbound.rejected").count());
+        System.out.println("세션 통계: " + context.getBean(WebSocketMessageBrokerStats.class).getWebSocketSessionStats());
+
+        for (StalledStompClient stalled : stalledClients) {
+            stalled.close();
+        }
+        sessions.forEach(StompSession::disconnect);
+        stompClient.stop();
+        context.close();
+    }
+
+    private static void printLatency(String label, ConcurrentLinkedQueue<Long> latencies) {
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        if (sorted.length == 0) {
+            System.out.printf("%s: 수신 없음%n", label);
+            return;
+        }
+        System.out.printf("%s: %d건, p50 %.1fms, p99 %.1fms, max %.1fms%n", label, sorted.length,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.floor(p * sorted.length))] / 1e6;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        Arrays.stream(args)
+                .filter(arg -> arg.startsWith("--") && arg.contains("="))
+                .forEach(arg -> options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1)));
+        return options;
+    }
+
+    /** 수신 메시지의 sentNanos로 전달 지연을 기록합니다. (같은 JVM이므로 nanoTime 비교 가능) */
+    private record LatencyRecorder(LongAdder delivered, ConcurrentLinkedQueue<Long> latencies) implements StompFrameHandler {
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return Map.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            Object sentNanos = ((Map<?, ?>) payload).get("sentNanos");
+            if (sentNanos instanceof Number number) {
+                latencies.add(System.nanoTime() - number.longValue());
+            }
+            delivered.increment();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.spring.carparter.loadtest;
+
+import com.spring.carparter.JWT.JWTUtil;
+import com.spring.carparter.config.AsyncConfig;
+import com.spring.carparter.config.WebSocketConfig;
+import com.spring.carparter.service.ChatRoomBroker;
+import com.spring.carparter.service.LoopbackChatBrokerTransport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketServletAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Controller;
+
+import java.util.Map;
+
+/**
+ * 부하 테스트용 내장 서버 구성
+ *
+ * 운영과 같은 WebSocketConfig(JWT 인증, 세션별 전송 제한, 전용 인/아웃바운드 풀)와 ChatRoomBroker를 그대로 올리고,
+ * DB 의존성이 있는 ChatController 대신 같은 목적지(/app/chat/send/{roomId})를 받아 방에 다시 뿌리는 에코 컨트롤러를 둡니다.
+ * (MySQL/MongoDB 없이 브로커와 전송 경로만 측정)
+ */
+@SpringBootConfiguration
+@ImportAutoConfiguration({
+        ServletWebServerFactoryAutoConfiguration.class,
+        DispatcherServletAutoConfiguration.class,
+        JacksonAutoConfiguration.class,
+        WebSocketServletAutoConfiguration.class
+})
+@Import({
+        AsyncConfig.class,
+        WebSocketConfig.class,
+        JWTUtil.class,
+        ChatRoomBroker.class,
+        LoopbackChatBrokerTransport.class,
+        ChatLoadTestServer.EchoController.class
+})
+public class ChatLoadTestServer {
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Controller
+    static class EchoController {
+
+        private final ChatRoomBroker chatRoomBroker;
+
+        EchoController(ChatRoomBroker chatRoomBroker) {
+            this.chatRoomBroker = chatRoomBroker;
+        }
+
+        @MessageMapping("/chat/send/{roomId}")
+        public void echo(@DestinationVariable Integer roomId, @Payload Map<String, Object> message) {
+            chatRoomBroker.publish(roomId, message);
+        }
+    }
+}
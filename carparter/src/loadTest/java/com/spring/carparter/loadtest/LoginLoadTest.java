@@ -0,0 +1,119 @@
+package com.spring.carparter.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.carparter.JWT.JWTUtil;
+import com.spring.carparter.JWT.LoginFilter;
+import com.spring.carparter.security.CustomUserDetails;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 필터 부하 테스트
+ *
+ * 운영과 같은 LoginFilter를 여러 스레드에서 동시에 호출해 로그인 처리량과 로그인당 할당량(B/login)을 측정합니다.
+ * 비밀번호 해시(BCrypt)와 DB 조회 비용을 빼고 JSON 읽기/쓰기와 JWT 발급만 보도록,
+ * AuthenticationManager는 고정 계정을 돌려주는 스텁을 씁니다. (실패 비율 failureRate만큼은 401 경로)
+ * 할당량은 스레드별 할당 바이트(com.sun.management.ThreadMXBean)로 잽니다.
+ *
+ * 실행: ./gradlew loginLoadTest -Pthreads=16 -PloginsPerThread=50000 -PfailureRate=0.1
+ */
+public class LoginLoadTest {
+
+    private static final String SECRET = "load-test-secret-key-load-test-secret-key-0123456789";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int threads = Integer.parseInt(options.getOrDefault("threads", "8"));
+        int loginsPerThread = Integer.parseInt(options.getOrDefault("loginsPerThread", "20000"));
+        double failureRate = Double.parseDouble(options.getOrDefault("failureRate", "0.1"));
+        int warmupLogins = Integer.parseInt(options.getOrDefault("warmupLogins", "20000"));
+
+        CustomUserDetails principal = new CustomUserDetails("user001", null, "고객001", "ROLE_USER", "USER");
+        AuthenticationManager authenticationManager = authentication -> {
+            if (!"password".equals(authentication.getCredentials())) {
+                throw new BadCredentialsException("bad credentials");
+            }
+            return UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities());
+        };
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        LoginFilter loginFilter = new LoginFilter(authenticationManager, new JWTUtil(SECRET, 0), objectMapper);
+        loginFilter.setFilterProcessesUrl("/api/login");
+
+        byte[] okBody = "{\"username\":\"user001\",\"password\":\"password\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] badBody = "{\"username\":\"user001\",\"password\":\"wrong\"}".getBytes(StandardCharsets.UTF_8);
+
+        System.out.printf("스레드 %d개 × 로그인 %d건, 실패 비율 %.0f%%%n", threads, loginsPerThread, failureRate * 100);
+        runLogins(loginFilter, okBody, badBody, failureRate, warmupLogins); // JIT 워밍업
+
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<long[]>> results = new ArrayList<>(threads);
+        long startNanos = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            results.add(pool.submit(() -> {
+                long threadId = Thread.currentThread().getId();
+                long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+                long failures = runLogins(loginFilter, okBody, badBody, failureRate, loginsPerThread);
+                return new long[]{threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore, failures};
+            }));
+        }
+        long allocated = 0;
+        long failures = 0;
+        for (Future<long[]> result : results) {
+            long[] values = result.get();
+            allocated += values[0];
+            failures += values[1];
+        }
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+        pool.shutdown();
+        pool.awaitTermination(1, TimeUnit.MINUTES);
+
+        long logins = (long) threads * loginsPerThread;
+        System.out.println("===== 로그인 부하 테스트 결과 =====");
+        System.out.printf("로그인 %d건 (실패 %d건), %.1f초, %.0f login/s%n", logins, failures, elapsedSeconds, logins / elapsedSeconds);
+        System.out.printf("로그인당 할당: %.0f B (mock 요청/응답 객체 포함)%n", (double) allocated / logins);
+    }
+
+    /** @return 401로 끝난 로그인 수 */
+    private static long runLogins(LoginFilter loginFilter, byte[] okBody, byte[] badBody, double failureRate, int count) throws Exception {
+        long failures = 0;
+        int failureEvery = failureRate > 0 ? (int) Math.max(1, Math.round(1 / failureRate)) : Integer.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/login");
+            request.setServletPath("/api/login");
+            request.setContentType("application/json");
+            request.setContent(i % failureEvery == failureEvery - 1 ? badBody : okBody);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            loginFilter.doFilter(request, response, new MockFilterChain());
+            if (response.getStatus() == 401) {
+                failures++;
+            }
+        }
+        return failures;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        Arrays.stream(args)
+                .filter(arg -> arg.startsWith("--") && arg.contains("="))
+                .forEach(arg -> options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1)));
+        return options;
+    }
+}
@@ -0,0 +1,90 @@
+package com.spring.carparter.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 구독만 하고 수신 데이터를 전혀 읽지 않는 "멈춘" 모바일 클라이언트 흉내
+ *
+ * 소켓 수신 버퍼를 작게 잡고 읽지 않으므로, 서버 쪽 TCP 송신 버퍼가 곧 가득 차고
+ * 그 뒤의 메시지는 서버의 세션 전송 버퍼에 쌓이다가 제한을 넘으면 세션이 끊겨야 합니다.
+ */
+final class StalledStompClient implements AutoCloseable {
+
+    private final Socket socket;
+
+    StalledStompClient(String host, int port, String path, String token, int roomId) throws IOException {
+        socket = new Socket();
+        socket.setReceiveBufferSize(4096);
+        socket.connect(new java.net.InetSocketAddress(host, port), 5_000);
+
+        OutputStream out = socket.getOutputStream();
+        byte[] keyBytes = new byte[16];
+        ThreadLocalRandom.current().nextBytes(keyBytes);
+        String handshake = "GET " + path + " HTTP/1.1\r\n"
+                + "Host: " + host + ":" + port + "\r\n"
+                + "Upgrade: websocket\r\n"
+                + "Connection: Upgrade\r\n"
+                + "Sec-WebSocket-Key: " + Base64.getEncoder().encodeToString(keyBytes) + "\r\n"
+                + "Sec-WebSocket-Version: 13\r\n"
+                + "Sec-WebSocket-Protocol: v12.stomp\r\n\r\n";
+        out.write(handshake.getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+        readHandshakeResponse(socket.getInputStream());
+
+        sendText(out, "CONNECT\naccept-version:1.2\nheart-beat:0,0\nAuthorization:Bearer " + token + "\n\n\0");
+        sendText(out, "SUBSCRIBE\nid:sub-0\ndestination:/topic/room/" + roomId + "\n\n\0");
+        // 이후로는 아무것도 읽지 않습니다.
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+
+    private static void readHandshakeResponse(InputStream in) throws IOException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        int matched = 0;
+        byte[] terminator = {'\r', '\n', '\r', '\n'};
+        while (matched < terminator.length) {
+            int b = in.read();
+            if (b < 0) {
+                throw new IOException("핸드셰이크 응답이 끊겼습니다.");
+            }
+            header.write(b);
+            matched = (b == terminator[matched]) ? matched + 1 : (b == '\r' ? 1 : 0);
+        }
+        String status = header.toString(StandardCharsets.US_ASCII).lines().findFirst().orElse("");
+        if (!status.contains(" 101 ")) {
+            throw new IOException("WebSocket 업그레이드 실패: " + status);
+        }
+    }
+
+    /** 클라이언트 → 서버 텍스트 프레임 (RFC 6455: 클라이언트 프레임은 반드시 마스킹) */
+    private static void sendText(OutputStream out, String text) throws IOException {
+        byte[] payload = text.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream frame = new ByteArrayOutputStream(payload.length + 14);
+        frame.write(0x81);
+        if (payload.length < 126) {
+            frame.write(0x80 | payload.length);
+        } else {
+            frame.write(0x80 | 126);
+            frame.write(payload.length >>> 8);
+            frame.write(payload.length & 0xFF);
+        }
+        byte[] mask = new byte[4];
+        ThreadLocalRandom.current().nextBytes(mask);
+        frame.write(mask);
+        for (int i = 0; i < payload.length; i++) {
+            frame.write(payload[i] ^ mask[i % 4]);
+        }
+        out.write(frame.toByteArray());
+        out.flush();
+    }
+}
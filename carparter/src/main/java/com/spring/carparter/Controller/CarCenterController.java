@@ -55,6 +55,28 @@ public class CarCenterController {
     }
 
 
+    /**
+     * 주변 카센터 검색 (공개)
+     * 예시: GET /api/car-centers/nearby?lat=37.49&lng=127.02&radiusKm=3  (반경 검색)
+     *       GET /api/car-centers/nearby?lat=37.49&lng=127.02&limit=5     (가까운 5곳)
+     * 반경은 최대 50km, 개수는 1~100으로 잘라내며, 좌표 범위를 벗어나면 400을 반환합니다.
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<?> findNearbyCenters(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<NearbyCarCenterResDTO> centers = carCenterService.findNearbyCenters(lat, lng, radiusKm, limit);
+            return ResponseEntity.ok(centers);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST, e, "주변 카센터 검색 파라미터 오류. lat: " + lat + ", lng: " + lng);
+        } catch (Exception e) {
+            return createErrorResponse("주변 카센터 검색 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR, e, "주변 카센터 검색 중 오류 발생. lat: " + lat + ", lng: " + lng);
+        }
+    }
+
     @GetMapping("/quote-requests")
 
     public ResponseEntity<?> getAllQuoteRequests() { // ⬅️ 이 메서드 이름은 URL과 관련있어 그대로 둬도 괜찮습니다.
@@ -71,6 +93,47 @@ public class CarCenterController {
             return createErrorResponse("전체 견적 요청 목록 조회 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR, e, "전체 견적 요청 목록 조회 중 오류 발생");
         }
     }
+    /**
+     * 내 카센터 주변의 대기 중인 견적 요청 (가까운 순)
+     * 예시: GET /api/car-centers/quote-requests/nearby?radiusKm=10&limit=50
+     * 반경은 최대 50km, 개수는 1~200으로 잘라냅니다.
+     */
+    @GetMapping("/quote-requests/nearby")
+    public ResponseEntity<?> getNearbyQuoteRequests(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(defaultValue = "10") double radiusKm,
+            @RequestParam(defaultValue = "50") int limit) {
+        try {
+            String centerId = userDetails.getUsername();
+            List<NearbyQuoteRequestResDTO> requests =
+                    quoteRequestService.getNearbyQuoteRequestsForCenter(centerId, radiusKm, limit);
+            return ResponseEntity.ok(requests);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST, e, "주변 견적 요청 파라미터 오류. radiusKm: " + radiusKm);
+        } catch (Exception e) {
+            return createErrorResponse("주변 견적 요청 조회 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR, e, "주변 견적 요청 조회 중 오류 발생");
+        }
+    }
+
+    /**
+     * 대기 중인 견적 요청 피드 (최신순, 커서 기반 페이지)
+     * 예시: GET /api/car-centers/quote-requests/feed?size=20
+     *       GET /api/car-centers/quote-requests/feed?cursor={이전 응답의 nextCursor}&size=20
+     */
+    @GetMapping("/quote-requests/feed")
+    public ResponseEntity<?> getQuoteRequestFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            CursorPageResDTO<QuoteRequestResDTO> feed =
+                    quoteRequestService.getQuoteRequestFeed(cursor, Math.min(Math.max(size, 1), 100));
+            return ResponseEntity.ok(feed);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST, e, "견적 요청 피드 커서 오류. Cursor: " + cursor);
+        } catch (Exception e) {
+            return createErrorResponse("견적 요청 피드 조회 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR, e, "견적 요청 피드 조회 중 오류 발생");
+        }
+    }
     // =================== 1. 카센터 계정 관리 API ===================
 
     @PostMapping("/register")
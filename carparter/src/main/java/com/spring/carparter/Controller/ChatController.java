@@ -3,23 +3,16 @@ package com.spring.carparter.controller;
 
 import com.spring.carparter.document.ChatMessageDocument;
 import com.spring.carparter.document.SenderType;
-import com.spring.carparter.dto.CarCenterResDTO;
-import com.spring.carparter.dto.UserResDTO;
-import com.spring.carparter.entity.CarCenter;
-import com.spring.carparter.entity.User;
-import com.spring.carparter.repository.CarCenterRepository;
-import com.spring.carparter.repository.ChatMessageRepository;
-import com.spring.carparter.repository.UserRepository;
 import com.spring.carparter.security.CustomUserDetails;
-import com.spring.carparter.service.CarCenterService;
-import com.spring.carparter.service.UserService;
+import com.spring.carparter.service.ChatMessageWriteBehind;
+import com.spring.carparter.service.ChatRoomBroker;
+import com.spring.carparter.service.SenderNameCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Controller;
@@ -36,13 +29,10 @@ import java.time.LocalDateTime;
 @CrossOrigin(origins = {"http://localhost:8080", "http://192.168.210.38:8080"})
 public class ChatController {
 
-    private final ChatMessageRepository chatMessageRepository;
-    private final SimpMessagingTemplate messagingTemplate;
-    // ✅ [추가] 이름 조회를 위해 UserRepository와 CarCenterRepository를 주입받습니다.
-    private final UserRepository userRepository;
-    private final CarCenterRepository carCenterRepository;
-    private final CarCenterService carCenterService;
-    private final UserService userService;
+    private final ChatMessageWriteBehind chatMessageWriteBehind;
+    private final ChatRoomBroker chatRoomBroker;
+    // ✅ 발신자 이름은 ID별 캐시에서 가져옵니다. (메시지마다 DB를 읽지 않음)
+    private final SenderNameCache senderNameCache;
 
 
     @MessageMapping("/chat/send/{roomId}")
@@ -74,24 +64,13 @@ public class ChatController {
                 .sentAt(LocalDateTime.now())
                 .build();
 
-        chatMessageRepository.save(toSave);
-        messagingTemplate.convertAndSend("/topic/room/" + roomId, toSave);
+        // 저장은 지연 쓰기 버퍼에 맡기고(ID는 즉시 부여), 브로드캐스트는 Mongo 왕복 없이 바로 보냅니다.
+        chatMessageWriteBehind.enqueue(toSave);
+        chatRoomBroker.publish(roomId, toSave);
     }
 
     private String resolveSenderName(CustomUserDetails user, SenderType senderType) {
-        // senderType에 따라 다르게 반환
-        if (senderType == SenderType.CAR_CENTER) {
-            CarCenterResDTO center = carCenterService.findCarCenterById(user.getUserId());
-            return center.getCenterName() != null ? center.getCenterName() : "카센터";
-        } else {
-            // 일반 사용자라면 그냥 이름
-            UserResDTO userRes = userService.getUser(user.getUserId());
-            return userRes.getName() != null ? userRes.getName() : "사용자";
-        }
-
+        // senderType에 따라 카센터명/사용자 이름을 반환 (캐시 미스일 때만 이름 컬럼 한 번 조회)
+        return senderNameCache.resolve(senderType, user.getUserId(), user.getName());
     }
-
-
-
-
 }
\ No newline at end of file
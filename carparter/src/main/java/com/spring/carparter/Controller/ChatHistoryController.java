@@ -1,30 +1,40 @@
 package com.spring.carparter.Controller;
 
 import com.spring.carparter.document.ChatMessageDocument;
-import com.spring.carparter.repository.ChatMessageRepository;
+import com.spring.carparter.dto.CursorPageResDTO;
+import com.spring.carparter.service.ChatHistoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 @CrossOrigin(origins = {"http://localhost:8080", "http://192.168.210.38:8080"})
 public class ChatHistoryController {
 
-    private final ChatMessageRepository chatMessageRepository;
+    private final ChatHistoryService chatHistoryService;
 
     /**
-     * 특정 채팅방의 이전 대화 내역을 조회하는 API
+     * 특정 채팅방의 이전 대화 내역을 조회하는 API (최근 메시지부터 거꾸로 페이지 단위)
+     * 예시: GET /api/chat/history/{roomId}?size=50
+     *       GET /api/chat/history/{roomId}?cursor={이전 응답의 nextCursor}&size=50
      * @param roomId 조회할 채팅방의 ID
-     * @return 해당 채팅방의 메시지 목록
+     * @return 커서 이전 메시지 목록(오래된 순)과 다음 커서
      */
     @GetMapping("/api/chat/history/{roomId}")
-    public ResponseEntity<List<ChatMessageDocument>> getChatHistory(@PathVariable Integer roomId) {
-        List<ChatMessageDocument> history = chatMessageRepository.findByRoomIdOrderBySentAtAsc(roomId);
-        return ResponseEntity.ok(history);
+    public ResponseEntity<?> getChatHistory(@PathVariable Integer roomId,
+                                            @RequestParam(required = false) String cursor,
+                                            @RequestParam(defaultValue = "50") int size) {
+        try {
+            CursorPageResDTO<ChatMessageDocument> history =
+                    chatHistoryService.getHistoryBefore(roomId, cursor, Math.min(Math.max(size, 1), 200));
+            return ResponseEntity.ok(history);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,8 @@
 
 package com.spring.carparter.controller;
 
+import com.spring.carparter.document.SenderType;
+import com.spring.carparter.dto.ChatInboxItemResDTO;
 import com.spring.carparter.dto.ChatRoomReqDTO;
 import com.spring.carparter.dto.ChatRoomResDTO;
 import com.spring.carparter.dto.EstimateResDTO;
@@ -9,7 +11,11 @@ import com.spring.carparter.entity.ChatRoom;
 import com.spring.carparter.entity.Estimate;
 import com.spring.carparter.service.ChatRoomService;
 import com.spring.carparter.service.EstimateService;
+import com.spring.carparter.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -71,4 +77,39 @@ public class ChatRoomController {
         }
         return ResponseEntity.ok(rooms);
     }
-}
\ No newline at end of file
+
+    /**
+     * 채팅 목록(받은편지함) API: 방마다 마지막 메시지와 안 읽은 수를 포함하며, 최근 활동 순으로 페이지 단위 반환합니다.
+     * 예시: GET /api/chat/inbox?page=0&size=20
+     */
+    @GetMapping("/api/chat/inbox")
+    public ResponseEntity<Page<ChatInboxItemResDTO>> getMyInbox(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Page<ChatInboxItemResDTO> inbox = chatRoomService.getInbox(
+                userDetails.getUsername(), readerOf(userDetails),
+                PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 100)));
+        return ResponseEntity.ok(inbox);
+    }
+
+    /**
+     * 채팅방 읽음 처리 API (방을 열었거나 새 메시지를 확인했을 때 호출)
+     */
+    @PostMapping("/api/chat/rooms/{roomId}/read")
+    public ResponseEntity<?> markRoomAsRead(@AuthenticationPrincipal UserDetails userDetails,
+                                            @PathVariable Integer roomId) {
+        try {
+            chatRoomService.markRead(roomId, userDetails.getUsername(), readerOf(userDetails));
+            return ResponseEntity.noContent().build();
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    private static SenderType readerOf(UserDetails userDetails) {
+        boolean isCenter = userDetails.getAuthorities().stream()
+                .anyMatch(auth -> "ROLE_CAR_CENTER".equals(auth.getAuthority()));
+        return isCenter ? SenderType.CAR_CENTER : SenderType.USER;
+    }
+}
@@ -1,6 +1,7 @@
 package com.spring.carparter.JWT;
 
 import com.spring.carparter.security.CustomUserDetails;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -45,19 +46,24 @@ public class JWTFilter extends OncePerRequestFilter {
         }
         // ▲▲▲▲▲ [수정된 부분 끝] ▲▲▲▲▲
 
-        // 토큰 만료 여부 확인
-        if (jwtUtil.isExpired(token)) {
+        // 토큰을 한 번만 파싱/검증합니다. (같은 토큰의 재요청은 캐시에서 바로 반환)
+        JwtClaims claims;
+        try {
+            claims = jwtUtil.parseClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("유효하지 않은 JWT 토큰으로 인증 없이 진행합니다: {}", e.getMessage());
             filterChain.doFilter(request, response);
             return;
         }
 
-        // 토큰에서 정보 추출 후 인증 처리 (기존 로직과 동일)
-        String userId = jwtUtil.getUserId(token);
-        String username = jwtUtil.getUsername(token);
-        String role = jwtUtil.getRole(token);
-        String userType = jwtUtil.getUserType(token);
+        // 토큰 만료 여부 확인
+        if (claims.isExpired()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-        CustomUserDetails customUserDetails = new CustomUserDetails(userId, null, username, role, userType);
+        // 클레임에서 정보 추출 후 인증 처리
+        CustomUserDetails customUserDetails = claims.toUserDetails();
         Authentication authToken = new UsernamePasswordAuthenticationToken(customUserDetails, null, customUserDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authToken);
 
@@ -1,6 +1,8 @@
 package com.spring.carparter.JWT;
 
 import com.spring.carparter.security.CustomUserDetails;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -22,18 +24,41 @@ import java.util.List;
 public class JWTUtil {
 
     private final SecretKey secretKey;
+    // 파서는 불변/스레드 안전하므로 한 번만 만들어 재사용합니다.
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
+    public JWTUtil(@Value("${spring.jwt.secret}") String secret,
+                   @Value("${spring.jwt.verified-cache-size:10000}") int verifiedCacheSize) {
         this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
+        this.verifiedTokenCache = new VerifiedTokenCache(verifiedCacheSize);
+    }
 
-
+    /**
+     * 토큰을 한 번만 파싱/서명 검증하여 클레임을 반환합니다.
+     * 같은 토큰으로 다시 요청하면 캐시에서 바로 꺼내므로 서명 검증(HMAC)을 다시 하지 않습니다.
+     *
+     * @param token JWT 문자열
+     * @return 검증된 클레임
+     * @throws JwtException 서명이 잘못되었거나, 형식이 잘못되었거나, 만료된 경우
+     */
+    public JwtClaims parseClaims(String token) {
+        String cacheKey = VerifiedTokenCache.digest(token);
+        JwtClaims cached = verifiedTokenCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        JwtClaims claims = JwtClaims.from(jwtParser.parseSignedClaims(token).getPayload());
+        verifiedTokenCache.put(cacheKey, claims);
+        return claims;
     }
 
-    public String getUserId(String token) { return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("userId", String.class); }
-    public String getUsername(String token) { return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("username", String.class); }
-    public String getRole(String token) { return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class); }
-    public String getUserType(String token) { return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("userType", String.class); }
-    public Boolean isExpired(String token) { return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date()); }
+    public String getUserId(String token) { return parseClaims(token).userId(); }
+    public String getUsername(String token) { return parseClaims(token).username(); }
+    public String getRole(String token) { return parseClaims(token).role(); }
+    public String getUserType(String token) { return parseClaims(token).userType(); }
+    public Boolean isExpired(String token) { return parseClaims(token).isExpired(); }
 
     public String createJwt(CustomUserDetails customUserDetails, Long expiredMs) {
         return Jwts.builder()
@@ -55,15 +80,9 @@ public class JWTUtil {
      */
     public boolean validateToken(String token) {
         try {
-            // 토큰의 만료 시간을 확인합니다. 만료되었으면 false를 반환합니다.
-            if (isExpired(token)) {
-                return false;
-            }
-            // Jwts.parser()를 사용하여 토큰을 파싱하고 서명을 검증합니다.
-            // 서명이 유효하지 않거나 토큰이 잘못된 형식일 경우 예외가 발생합니다.
-            Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
+            // 서명/형식이 잘못되었거나 만료된 토큰은 parseClaims에서 예외가 발생합니다.
+            return !parseClaims(token).isExpired();
+        } catch (JwtException | IllegalArgumentException e) {
             // 토큰 검증 중 어떤 예외라도 발생하면 유효하지 않은 토큰으로 간주합니다.
             log.error("유효하지 않은 JWT 토큰입니다.", e);
             return false;
@@ -76,20 +95,18 @@ public class JWTUtil {
      * @return Authentication 객체
      */
     public Authentication getAuthentication(String token) {
-        // 토큰에서 사용자 ID와 역할을 추출합니다.
-        String userId = getUserId(token);
-        String role = getRole(token);
-        String userType = getUserType(token);
-        String username = getUsername(token);
+        return getAuthentication(parseClaims(token), token);
+    }
 
-        // ✅ [수정] CustomUserDetails 생성자에 'role' 문자열을 직접 전달합니다.
-        // 아마도 생성자 형식은 (아이디, 비밀번호, 역할, 이름, 타입)일 것입니다.
-        CustomUserDetails principal = new CustomUserDetails(userId, null, role, username, userType);
+    /**
+     * 이미 파싱한 클레임으로 Authentication 객체를 생성합니다. (토큰을 다시 파싱하지 않음)
+     */
+    public Authentication getAuthentication(JwtClaims claims, String token) {
+        CustomUserDetails principal = claims.toUserDetails();
 
         // Spring Security의 Authentication 객체를 생성할 때는 여전히 권한 '목록'이 필요합니다.
-        List<GrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority(role));
+        List<GrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority(claims.role()));
         return new UsernamePasswordAuthenticationToken(principal, token, authorities);
     }
-    // ▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,38 @@
+package com.spring.carparter.JWT;
+
+import com.spring.carparter.security.CustomUserDetails;
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 JWT에서 꺼낸 클레임 값 (불변)
+ * 토큰을 한 번만 파싱해서 필터/웹소켓 인증에 필요한 값을 모두 담아 둡니다.
+ */
+public record JwtClaims(
+        String userId,
+        String username,
+        String role,
+        String userType,
+        Instant expiresAt
+) {
+
+    static JwtClaims from(Claims claims) {
+        return new JwtClaims(
+                claims.get("userId", String.class),
+                claims.get("username", String.class),
+                claims.get("role", String.class),
+                claims.get("userType", String.class),
+                claims.getExpiration().toInstant()
+        );
+    }
+
+    public boolean isExpired() {
+        return expiresAt.isBefore(Instant.now());
+    }
+
+    /** 인증 객체의 principal로 사용할 CustomUserDetails를 만듭니다. (비밀번호는 담지 않음) */
+    public CustomUserDetails toUserDetails() {
+        return new CustomUserDetails(userId, null, username, role, userType);
+    }
+}
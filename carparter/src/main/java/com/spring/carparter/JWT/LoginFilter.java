@@ -1,104 +1,111 @@
 package com.spring.carparter.JWT;
 
-import com.fasterxml.jackson.databind.ObjectMapper; // 👈 Jackson ObjectMapper 임포트
-import com.google.gson.Gson;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.spring.carparter.security.CustomUserDetails;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.stream.Collectors;
-
+import java.io.UncheckedIOException;
+
+/**
+ * JSON 로그인 필터 (/api/login)
+ *
+ * - 요청 본문을 문자열로 모으지 않고 입력 스트림에서 바로 LoginRequest 레코드로 읽습니다.
+ * - 읽기/쓰기에는 스프링 ObjectMapper에서 미리 만들어 둔 ObjectReader/ObjectWriter를 재사용합니다. (요청마다 매퍼 생성 X)
+ * - 응답도 중간 Map 없이 레코드를 출력 스트림에 바로 씁니다. 실패 응답은 내용이 고정이라 한 번만 직렬화해 둡니다.
+ */
 @Slf4j
-// 💡 @RequiredArgsConstructor는 final 필드에 대한 생성자를 만들므로, 직접 생성자를 만들 경우 제거해도 됩니다.
 public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
+    private static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+
     private final AuthenticationManager authenticationManager;
     private final JWTUtil jwtUtil;
+    private final ObjectReader loginRequestReader;
+    private final ObjectWriter loginResponseWriter;
+    private final byte[] failureBody;
 
-    // 💡 생성자를 명확하게 정의합니다.
-    public LoginFilter(AuthenticationManager authenticationManager, JWTUtil jwtUtil) {
+    public LoginFilter(AuthenticationManager authenticationManager, JWTUtil jwtUtil, ObjectMapper objectMapper) {
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
+        this.loginRequestReader = objectMapper.readerFor(LoginRequest.class);
+        // 응답 스트림은 컨테이너가 닫으므로 직렬화 후 닫지 않습니다.
+        this.loginResponseWriter = objectMapper.writerFor(LoginResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try {
+            this.failureBody = objectMapper.writeValueAsBytes(new LoginFailureResponse("ID 또는 비밀번호를 다시 확인해주세요."));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     /**
-     * 🔄 [수정된 부분] 인증을 시도하는 핵심 메소드
-     * 기존의 폼 데이터 방식 대신, Request Body의 JSON을 직접 읽어 처리하도록 수정합니다.
+     * Request Body의 JSON({"username", "password"})을 읽어 인증을 시도합니다.
      */
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
-        log.info("===== LoginFilter.attemptAuthentication 실행 =====");
-
+        LoginRequest loginRequest;
         try {
-            // 1. Request Body에서 JSON 데이터를 읽어옵니다.
-            String requestBody = request.getReader().lines().collect(Collectors.joining(System.lineSeparator()));
-            log.info("요청받은 JSON Body: " + requestBody);
-
-            // 2. Jackson ObjectMapper를 사용하여 JSON을 Map 형태로 변환합니다.
-            ObjectMapper objectMapper = new ObjectMapper();
-            Map<String, String> loginData = objectMapper.readValue(requestBody, Map.class);
-
-            // 3. Map에서 username과 password를 추출합니다.
-            String username = loginData.get("username");
-            String password = loginData.get("password");
-
-            log.info("추출된 username: " + username);
-
-            // 4. 추출한 정보로 인증 토큰을 생성합니다.
-            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(username, password, null);
-
-            // 5. AuthenticationManager에 인증을 위임합니다.
-            return authenticationManager.authenticate(authToken);
-
+            loginRequest = loginRequestReader.readValue(request.getInputStream());
         } catch (IOException e) {
-            log.error("JSON 파싱 중 에러 발생", e);
-            throw new RuntimeException("로그인 데이터 처리 중 오류가 발생했습니다.", e);
+            // 본문이 비었거나 JSON이 아니면 로그인 실패(401)로 처리합니다.
+            log.warn("로그인 요청 본문을 읽을 수 없습니다: {}", e.getMessage());
+            throw new AuthenticationServiceException("로그인 요청 형식이 올바르지 않습니다.", e);
         }
-    }
+        if (loginRequest == null) {
+            throw new AuthenticationServiceException("로그인 요청 본문이 비어 있습니다.");
+        }
+        log.debug("로그인 시도: username={}", loginRequest.username());
 
+        UsernamePasswordAuthenticationToken authToken =
+                UsernamePasswordAuthenticationToken.unauthenticated(loginRequest.username(), loginRequest.password());
+        return authenticationManager.authenticate(authToken);
+    }
 
     @Override
     protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain, Authentication authentication) throws IOException {
-        log.info("로그인 성공!");
-        response.setContentType("application/json;charset=UTF-8");
-
         CustomUserDetails customUserDetails = (CustomUserDetails) authentication.getPrincipal();
+        log.info("로그인 성공: userId={}, type={}", customUserDetails.getUserId(), customUserDetails.getUserType());
+
         String token = jwtUtil.createJwt(customUserDetails, 1000L * 60 * 60 * 4); // 4시간
         response.addHeader("Authorization", "Bearer " + token);
-
-        Map<String, Object> map = new HashMap<>();
-        map.put("userId", customUserDetails.getUserId());
-        map.put("name", customUserDetails.getName());
-        map.put("role", customUserDetails.getRole());
-        map.put("userType", customUserDetails.getUserType());
-
-        Gson gson = new Gson();
-        String result = gson.toJson(map);
-        response.getWriter().print(result);
+        response.setContentType(CONTENT_TYPE);
+        loginResponseWriter.writeValue(response.getOutputStream(), LoginResponse.from(customUserDetails));
     }
 
     @Override
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) throws IOException {
-        log.error("로그인 실패: " + failed.getMessage());
-        response.setContentType("application/json;charset=UTF-8");
-        response.setStatus(401); // 401 Unauthorized 상태 코드 반환
+        log.info("로그인 실패: {}", failed.getMessage());
+        response.setContentType(CONTENT_TYPE);
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.getOutputStream().write(failureBody);
+    }
+
+    /** 로그인 요청 본문 */
+    record LoginRequest(String username, String password) {}
+
+    /** 로그인 성공 응답 본문 */
+    record LoginResponse(String userId, String name, String role, String userType) {
 
-        Map<String, Object> map = new HashMap<>();
-        map.put("error", "ID 또는 비밀번호를 다시 확인해주세요.");
-        Gson gson = new Gson();
-        String result = gson.toJson(map);
-        response.getWriter().print(result);
+        static LoginResponse from(CustomUserDetails userDetails) {
+            return new LoginResponse(userDetails.getUserId(), userDetails.getName(),
+                    userDetails.getRole(), userDetails.getUserType());
+        }
     }
-}
\ No newline at end of file
+
+    /** 로그인 실패 응답 본문 */
+    record LoginFailureResponse(String error) {}
+}
@@ -0,0 +1,58 @@
+package com.spring.carparter.JWT;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 서명 검증이 끝난 토큰의 클레임을 보관하는 LRU 캐시
+ * - 키는 토큰 원문이 아니라 SHA-256 다이제스트입니다. (메모리에 토큰 원문을 오래 들고 있지 않기 위함)
+ * - 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거합니다.
+ * - 만료 시간이 지난 항목은 조회 시점에 제거되어 재검증(=만료 예외)으로 이어집니다.
+ */
+class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private final Map<String, JwtClaims> entries;
+
+    VerifiedTokenCache(int maxSize) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JwtClaims> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    static String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+
+    synchronized JwtClaims get(String key) {
+        JwtClaims claims = entries.get(key);
+        if (claims != null && claims.isExpired()) {
+            entries.remove(key);
+            return null;
+        }
+        return claims;
+    }
+
+    synchronized void put(String key, JwtClaims claims) {
+        entries.put(key, claims);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+}
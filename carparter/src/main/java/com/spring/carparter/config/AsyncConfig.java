@@ -0,0 +1,203 @@
+package com.spring.carparter.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 요청 스레드 밖에서 실행되는 비동기 작업용 스레드 풀 설정
+ * 모든 풀은 큐 크기가 제한되어 있으며, 큐 적재량을 Micrometer 게이지로 노출합니다.
+ */
+@Configuration
+@Slf4j
+public class AsyncConfig {
+
+    /**
+     * 전체 카센터 알림 팬아웃 작업(청크 조회 + 배치 INSERT)을 실행하는 풀
+     * 팬아웃은 DB 부하가 크므로 동시에 하나씩만 처리하고, 나머지는 큐에서 대기합니다.
+     */
+    @Bean(name = "notificationFanoutExecutor")
+    public ThreadPoolTaskExecutor notificationFanoutExecutor(
+            @Value("${notification.fanout.queue-capacity:100}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("noti-fanout-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        registerQueueGauge(meterRegistry, "notification.fanout.queue.size", executor);
+        return executor;
+    }
+
+    /**
+     * SSE 실시간 전송 전용 풀
+     * 느린 클라이언트 하나가 팬아웃 전체를 막지 않도록 전송만 따로 처리하며,
+     * 큐가 가득 차면 호출 측에서 TaskRejectedException을 받아 전송을 버립니다.
+     * (알림은 이미 DB에 저장되어 있으므로 목록 조회로 확인 가능)
+     */
+    @Bean(name = "sseDeliveryExecutor")
+    public ThreadPoolTaskExecutor sseDeliveryExecutor(
+            @Value("${notification.sse.pool-size:4}") int poolSize,
+            @Value("${notification.sse.queue-capacity:10000}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("sse-send-");
+        registerQueueGauge(meterRegistry, "notification.sse.queue.size", executor);
+        return executor;
+    }
+
+    /**
+     * 중고 부품 이미지 S3 업로드 전용 풀
+     * 한 요청의 이미지들을 병렬로 올리되 전체 동시 업로드 수는 풀 크기로 제한합니다.
+     * 큐까지 가득 차면 요청 스레드가 직접 업로드하여(CallerRuns) 자연스럽게 속도를 늦춥니다.
+     */
+    @Bean(name = "imageUploadExecutor")
+    public ThreadPoolTaskExecutor imageUploadExecutor(
+            @Value("${s3.upload.pool-size:8}") int poolSize,
+            @Value("${s3.upload.queue-capacity:200}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("s3-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        registerQueueGauge(meterRegistry, "s3.upload.queue.size", executor);
+        return executor;
+    }
+
+    /**
+     * 커밋 이후의 S3 이미지 삭제(교체된 이미지, 실패한 업로드 보상) 전용 풀
+     * 업로드 풀과 분리하여 삭제가 몰려도 업로드 응답 시간에 영향을 주지 않게 합니다.
+     */
+    @Bean(name = "imageCleanupExecutor")
+    public ThreadPoolTaskExecutor imageCleanupExecutor(
+            @Value("${s3.cleanup.queue-capacity:1000}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("s3-cleanup-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        registerQueueGauge(meterRegistry, "s3.cleanup.queue.size", executor);
+        return executor;
+    }
+
+    /**
+     * 아웃박스 전달 루프 실행용 풀 (단일 스레드)
+     * 커밋 신호가 몰려도 대기 중인 실행 하나면 충분하므로, 큐가 차 있으면 새 신호는 버립니다.
+     */
+    @Bean(name = "outboxRelayExecutor")
+    public ThreadPoolTaskExecutor outboxRelayExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("outbox-relay-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        return executor;
+    }
+
+    /**
+     * STOMP 인바운드(클라이언트 → 서버) 메시지 처리 풀
+     * 큐까지 가득 차면 WebSocket 수신 스레드가 직접 처리하여(CallerRuns) 보내는 쪽 연결의 읽기 속도를 늦춥니다.
+     */
+    @Bean(name = "chatInboundExecutor")
+    public ThreadPoolTaskExecutor chatInboundExecutor(
+            @Value("${chat.ws.inbound.pool-size:8}") int poolSize,
+            @Value("${chat.ws.inbound.queue-capacity:1000}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ws-inbound-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        registerQueueGauge(meterRegistry, "chat.ws.inbound.queue.size", executor);
+        return executor;
+    }
+
+    /**
+     * STOMP 아웃바운드(서버 → 클라이언트) 전송 풀
+     * 느린 세션은 세션별 전송 버퍼/시간 제한(WebSocketConfig)과 세션별 대기 프레임 제한(ChatOutboundSessionLimiter)에서
+     * 끊기므로, 한 세션이 큐를 다 차지하지 못합니다.
+     * 그래도 큐가 가득 차면 브로드캐스트 스레드를 막지 않도록 해당 전송을 버리고, 세션 ID와 함께 경고로 남깁니다.
+     */
+    @Bean(name = "chatOutboundExecutor")
+    public ThreadPoolTaskExecutor chatOutboundExecutor(
+            @Value("${chat.ws.outbound.pool-size:16}") int poolSize,
+            @Value("${chat.ws.outbound.queue-capacity:10000}") int queueCapacity,
+            ChatOutboundSessionLimiter sessionLimiter,
+            MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ws-outbound-");
+        executor.setRejectedExecutionHandler((task, pool) -> sessionLimiter.rejected(task, pool.getQueue().size()));
+        registerQueueGauge(meterRegistry, "chat.ws.outbound.queue.size", executor);
+        return executor;
+    }
+
+    /**
+     * 카센터 주소 지오코딩 결과 반영 풀 (가입/주소 수정 커밋 이후 실행)
+     * 큐가 가득 차면 버립니다. 좌표는 비어 있는 채로 남고 지오코딩 백필이 다시 채웁니다.
+     */
+    @Bean(name = "geocodingExecutor")
+    public ThreadPoolTaskExecutor geocodingExecutor(
+            @Value("${geocoding.async.pool-size:4}") int poolSize,
+            @Value("${geocoding.async.queue-capacity:1000}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        Counter rejected = meterRegistry.counter("geocoding.async.rejected");
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("geocoding-");
+        executor.setRejectedExecutionHandler((task, pool) -> rejected.increment());
+        registerQueueGauge(meterRegistry, "geocoding.async.queue.size", executor);
+        return executor;
+    }
+
+    /**
+     * 오래 걸리는 야간 작업(지오코딩 백필, 채팅 기록 보관, 리뷰 집계 재계산) 실행 풀
+     * 스케줄러(SchedulingConfig)는 시작만 하고 바로 돌아가, 다른 스케줄 작업이 밀리지 않게 합니다.
+     * 같은 작업이 아직 돌고 있는데 또 쌓이면 버리고 batch.job.rejected로 셉니다. (다음 주기에 이어서 처리)
+     */
+    @Bean(name = "batchJobExecutor")
+    public ThreadPoolTaskExecutor batchJobExecutor(
+            @Value("${batch.job.pool-size:2}") int poolSize,
+            MeterRegistry meterRegistry) {
+        Counter rejected = meterRegistry.counter("batch.job.rejected");
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize);
+        executor.setThreadNamePrefix("batch-job-");
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            log.warn("야간 작업 풀이 가득 차 작업 실행을 건너뜁니다.");
+        });
+        registerQueueGauge(meterRegistry, "batch.job.queue.size", executor);
+        return executor;
+    }
+
+    private void registerQueueGauge(MeterRegistry meterRegistry, String name, ThreadPoolTaskExecutor executor) {
+        Gauge.builder(name, executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .register(meterRegistry);
+    }
+}
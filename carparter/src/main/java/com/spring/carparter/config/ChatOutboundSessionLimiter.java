@@ -0,0 +1,131 @@
+package com.spring.carparter.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 아웃바운드 전송을 세션별로 제한합니다.
+ *
+ * 아웃바운드 풀(chatOutboundExecutor)의 큐는 모든 세션이 나눠 쓰므로, 한 세션에 프레임이 몰리면 큐가 차서
+ * 다른 정상 세션의 전송까지 거부됩니다. 그래서 세션마다 아직 보내지 못한 프레임 수를 세고,
+ * pending-limit을 넘긴 세션은 그 뒤 프레임을 큐에 넣지 않고 연결을 끊습니다. (클라이언트는 재연결 후 기록 조회로 따라잡음)
+ * 그래도 큐가 가득 차 거부된 전송은 세션 ID와 함께 경고로 남깁니다. (AsyncConfig.chatOutboundExecutor)
+ */
+@Component
+@Slf4j
+public class ChatOutboundSessionLimiter implements ExecutorChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    private final int pendingLimit;
+    private final Map<String, Integer> pending = new ConcurrentHashMap<>();
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    private final Counter rejectedCounter;
+    private final Counter slowSessionClosedCounter;
+
+    public ChatOutboundSessionLimiter(@Value("${chat.ws.outbound.session-pending-limit:1000}") int pendingLimit,
+                                      MeterRegistry meterRegistry) {
+        this.pendingLimit = pendingLimit;
+        this.rejectedCounter = meterRegistry.counter("chat.ws.outbound.rejected");
+        this.slowSessionClosedCounter = meterRegistry.counter("chat.ws.outbound.slow-session.closed");
+    }
+
+    // == 아웃바운드 채널 인터셉터 == //
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId == null) {
+            return message;
+        }
+        int count = pending.merge(sessionId, 1, Integer::sum);
+        if (count > pendingLimit) {
+            release(sessionId);
+            rejectedCounter.increment();
+            closeSlowSession(sessionId, count - 1);
+            return null;
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId != null) {
+            release(sessionId);
+        }
+    }
+
+    /** 아웃바운드 풀의 큐가 가득 차 전송 작업이 거부됐을 때 호출됩니다. (AsyncConfig.chatOutboundExecutor) */
+    void rejected(Runnable task, int queueSize) {
+        rejectedCounter.increment();
+        String sessionId = null;
+        if (task instanceof MessageHandlingRunnable sendTask) {
+            sessionId = SimpMessageHeaderAccessor.getSessionId(sendTask.getMessage().getHeaders());
+        }
+        if (sessionId != null) {
+            release(sessionId);
+        }
+        log.warn("WebSocket 아웃바운드 큐가 가득 차 세션 {}의 전송을 버립니다. (세션 대기 {}건, 큐 대기 {}건)",
+                sessionId, sessionId == null ? 0 : pending.getOrDefault(sessionId, 0), queueSize);
+    }
+
+    // == 세션 추적 == //
+
+    /** 느린 세션을 끊을 수 있도록 연결된 WebSocket 세션을 ID로 기억합니다. */
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), session);
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                pending.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    // == 내부 헬퍼 == //
+
+    private void release(String sessionId) {
+        pending.computeIfPresent(sessionId, (id, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private void closeSlowSession(String sessionId, int pendingCount) {
+        WebSocketSession session = sessions.remove(sessionId);
+        if (session == null) {
+            // 이미 끊는 중인 세션: 남은 프레임만 버립니다.
+            return;
+        }
+        slowSessionClosedCounter.increment();
+        log.warn("WebSocket 세션 {}에 보내지 못한 프레임이 {}건 쌓여 연결을 끊습니다.", sessionId, pendingCount);
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.warn(" -> 세션 {} 종료 실패: {}", sessionId, e.getMessage());
+        }
+    }
+}
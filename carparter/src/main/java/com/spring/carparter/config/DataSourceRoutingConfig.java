@@ -0,0 +1,129 @@
+package com.spring.carparter.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaVendorAdapter;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 전용 복제본 라우팅 DataSource 설정
+ *
+ * spring.datasource.replica.url이 있을 때만 켜집니다. 없으면 기존처럼 spring.datasource 하나만 씁니다.
+ * - 주 DB 풀: spring.datasource.* / spring.datasource.hikari.* (기존 설정 그대로)
+ * - 복제본 풀: spring.datasource.replica.* / spring.datasource.replica.hikari.*
+ *   (복제본 장애 시 빨리 주 DB로 넘어가도록 connection-timeout을 짧게 잡는 것을 권장)
+ * - 라우팅 동작: datasource.routing.max-lag-ms, lag-check-interval-ms, read-your-writes-ms
+ * - 복제본에서 읽은 (늦을 수 있는) 값이 2차 캐시에 들어가지 않도록, 실제로 복제본에 연결된 읽기 전용 트랜잭션은
+ *   캐시를 읽기만 합니다.
+ *   (ReadOnlyCacheModeJpaDialect)
+ *
+ * 두 H2 인스턴스로 확인하는 테스트: ReplicaRoutingDataSourceTest
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource.replica.url")
+@Slf4j
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        if (!StringUtils.hasText(dataSource.getPoolName())) {
+            dataSource.setPoolName("primary");
+        }
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(Environment environment) {
+        Binder binder = Binder.get(environment);
+        DataSourceProperties properties = binder.bind("spring.datasource.replica", DataSourceProperties.class)
+                .orElseThrow(() -> new IllegalStateException("spring.datasource.replica 설정이 없습니다."));
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.replica.hikari", Bindable.ofInstance(dataSource));
+        if (!StringUtils.hasText(dataSource.getPoolName())) {
+            dataSource.setPoolName("replica");
+        }
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${datasource.routing.read-your-writes-ms:3000}") long windowMs) {
+        return new ReadYourWritesTracker(windowMs);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReadYourWritesTracker readYourWritesTracker,
+            @Value("${datasource.routing.max-lag-ms:1000}") long maxLagMs,
+            @Value("${datasource.routing.lag-check-interval-ms:1000}") long checkIntervalMs,
+            @Value("${datasource.routing.read-your-writes-ms:3000}") long windowMs,
+            MeterRegistry meterRegistry) {
+        // 쓰기 직후 구간이 끝날 때는 허용 지연만큼 늦은 복제본에도 그 쓰기가 보여야 합니다.
+        if (windowMs < maxLagMs + checkIntervalMs) {
+            log.warn("datasource.routing.read-your-writes-ms({})가 max-lag-ms + lag-check-interval-ms({})보다 짧아 "
+                    + "쓰기 직후 조회에서 이전 데이터가 보일 수 있습니다.", windowMs, maxLagMs + checkIntervalMs);
+        }
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSource, readYourWritesTracker, maxLagMs, meterRegistry);
+    }
+
+    /**
+     * Boot 기본 JpaVendorAdapter와 같은 설정에 JpaDialect만 ReadOnlyCacheModeJpaDialect로 바꿉니다.
+     */
+    @Bean
+    public JpaVendorAdapter jpaVendorAdapter(JpaProperties jpaProperties) {
+        HibernateJpaVendorAdapter adapter = new HibernateJpaVendorAdapter() {
+            private final ReadOnlyCacheModeJpaDialect jpaDialect = new ReadOnlyCacheModeJpaDialect();
+
+            @Override
+            public ReadOnlyCacheModeJpaDialect getJpaDialect() {
+                return jpaDialect;
+            }
+        };
+        adapter.setShowSql(jpaProperties.isShowSql());
+        if (jpaProperties.getDatabase() != null) {
+            adapter.setDatabase(jpaProperties.getDatabase());
+        }
+        if (jpaProperties.getDatabasePlatform() != null) {
+            adapter.setDatabasePlatform(jpaProperties.getDatabasePlatform());
+        }
+        adapter.setGenerateDdl(jpaProperties.isGenerateDdl());
+        return adapter;
+    }
+
+    /**
+     * JPA/JdbcTemplate이 쓰는 기본 DataSource
+     * 트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 연결을 고르도록 LazyConnectionDataSourceProxy로 감쌉니다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                primaryDataSource, replicaDataSource, replicaLagMonitor, readYourWritesTracker, meterRegistry));
+    }
+}
@@ -0,0 +1,101 @@
+package com.spring.carparter.config;
+
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시(JCache, Ehcache 3) 설정
+ *
+ * - 자주 읽고 드물게 바뀌는 CarCenter / User / UserCar 엔티티를 리전별로 캐시합니다. (READ_WRITE)
+ *   리전마다 최대 항목 수(힙)와 TTL을 두어 메모리와 오래된 데이터가 무한히 쌓이지 않게 합니다.
+ * - 쿼리 캐시: 가입 중복 검사(existsBy...)와 findByUserId 결과를 lookup-query 리전에 캐시합니다.
+ *   테이블이 바뀌면 Hibernate가 update-timestamps 리전으로 해당 쿼리 결과를 무효화합니다.
+ *   (update-timestamps 리전은 만료되면 오래된 쿼리 결과가 살아날 수 있어 TTL을 두지 않습니다)
+ * - 통계를 켜 두면 hibernate-micrometer가 리전별 hit/miss/put을 hibernate.second.level.cache.* 지표로 노출합니다.
+ * - CacheManager는 애플리케이션 컨텍스트마다 고유 URI로 따로 만듭니다. (JVM 기본 CacheManager를 쓰면 테스트처럼
+ *   컨텍스트가 여러 번 뜰 때 같은 리전을 다시 만들다 실패하고, 닫을 때 다른 컨텍스트의 캐시까지 닫힙니다)
+ *
+ * 한계: 캐시는 노드별 힙에만 있고 노드 간 무효화가 없습니다. 한 노드에서 고친 엔티티를 다른 노드는
+ * 엔티티 TTL(entity-ttl-seconds, 기본 120초)까지, 쿼리 결과는 query-ttl-seconds(기본 60초)까지 이전 값으로 읽을 수 있습니다.
+ * 비밀번호/권한처럼 바로 반영돼야 하는 검사는 캐시된 엔티티에 기대지 말고, 여러 노드로 늘릴 때는 TTL을 더 줄이거나
+ * 클러스터 캐시로 바꿔야 합니다.
+ *
+ * JdbcTemplate이나 네이티브 쿼리로 이 테이블들을 직접 고칠 때는 캐시 무효화를 함께 챙겨야 합니다.
+ * (네이티브 @Modifying 쿼리는 HINT_NATIVE_SPACES로 대상 테이블을 지정하지 않으면 2차 캐시 전체를 비웁니다)
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    // 엔티티의 @Cache(region = ...)와 리포지토리 쿼리 힌트의 리전 이름과 같아야 합니다.
+    private static final String CAR_CENTER_REGION = "car-center";
+    private static final String USER_REGION = "user";
+    private static final String USER_CAR_REGION = "user-car";
+    private static final String LOOKUP_QUERY_REGION = "lookup-query";
+
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateJCacheManager(
+            @Value("${jpa.l2-cache.entity-max-entries:10000}") long entityMaxEntries,
+            @Value("${jpa.l2-cache.entity-ttl-seconds:120}") long entityTtlSeconds,
+            @Value("${jpa.l2-cache.query-max-entries:10000}") long queryMaxEntries,
+            @Value("${jpa.l2-cache.query-ttl-seconds:60}") long queryTtlSeconds) {
+        // Ehcache 공급자는 기본이 아닌 URI를 XML 위치로 읽으므로, 설정 객체를 직접 넘겨 빈 CacheManager를 만듭니다.
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("urn:carparter:hibernate-l2:" + UUID.randomUUID()),
+                new DefaultConfiguration(getClass().getClassLoader()));
+        for (String region : new String[]{CAR_CENTER_REGION, USER_REGION, USER_CAR_REGION}) {
+            createRegion(cacheManager, region, entityMaxEntries, Duration.ofSeconds(entityTtlSeconds));
+        }
+        createRegion(cacheManager, LOOKUP_QUERY_REGION, queryMaxEntries, Duration.ofSeconds(queryTtlSeconds));
+        createRegion(cacheManager, QUERY_RESULTS_REGION, queryMaxEntries, Duration.ofSeconds(queryTtlSeconds));
+        createRegion(cacheManager, UPDATE_TIMESTAMPS_REGION, entityMaxEntries, null);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            CacheManager hibernateJCacheManager,
+            @Value("${jpa.l2-cache.statistics:true}") boolean statistics) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, "ENABLE_SELECTIVE");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateJCacheManager);
+            // 위에서 만들지 않은 리전이 생기면 제한 없는 기본 설정으로 만들고 경고를 남깁니다.
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create-warn");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, statistics);
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, String region, long maxEntries, Duration ttl) {
+        if (cacheManager.getCache(region) != null) {
+            return;
+        }
+        CacheConfigurationBuilder<Object, Object> builder = CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries));
+        if (ttl != null) {
+            builder = builder.withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(ttl));
+        }
+        cacheManager.createCache(region, Eh107Configuration.fromEhcacheCacheConfiguration(builder));
+    }
+}
@@ -0,0 +1,58 @@
+package com.spring.carparter.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * 복제본에 연결된 읽기 전용 트랜잭션에서 2차 캐시를 읽기만 하고 채우지 않게 하는 JpaDialect
+ *
+ * 복제본은 최대 max-lag-ms만큼 늦을 수 있어, 그 결과가 2차 캐시(엔티티/쿼리 리전)에 들어가면 복제가 따라잡은 뒤에도
+ * 캐시 TTL 동안 이전 값이 보입니다. 다만 읽기 전용이라도 쓰기 직후/복제 지연/연결 실패로 주 DB에서 읽는 경우가 많아,
+ * 읽기 전용이라는 것만으로 막으면 캐시가 거의 채워지지 않습니다.
+ * 연결은 LazyConnectionDataSourceProxy 때문에 첫 SQL 실행 시점에야 정해지므로, 트랜잭션 시작 시 라우팅 리스너를
+ * 걸어 두고 ReplicaRoutingDataSource가 실제로 복제본 연결을 가져왔을 때만 CacheMode.GET으로 바꿉니다.
+ * DB에서 읽기 전에는 캐시에 넣을 값이 없으므로 그 사이의 캐시 조회는 영향이 없습니다.
+ * 트랜잭션이 끝나면 원래 CacheMode와 이전 리스너로 되돌립니다. (open-in-view로 세션이 이어지는 경우, 중첩 트랜잭션)
+ */
+public class ReadOnlyCacheModeJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly()) {
+            return transactionData;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previousCacheMode = session.getCacheMode();
+        Consumer<ReplicaRoutingDataSource.Target> previousListener =
+                ReplicaRoutingDataSource.setRoutingListener(target -> {
+                    if (target == ReplicaRoutingDataSource.Target.REPLICA) {
+                        session.setCacheMode(CacheMode.GET);
+                    }
+                });
+        return new ReadOnlyTransactionData(transactionData, session, previousCacheMode, previousListener);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReadOnlyTransactionData readOnly) {
+            ReplicaRoutingDataSource.setRoutingListener(readOnly.previousListener());
+            readOnly.session().setCacheMode(readOnly.previousCacheMode());
+            super.cleanupTransaction(readOnly.delegate());
+            return;
+        }
+        super.cleanupTransaction(transactionData);
+    }
+
+    private record ReadOnlyTransactionData(Object delegate, Session session, CacheMode previousCacheMode,
+                                           Consumer<ReplicaRoutingDataSource.Target> previousListener) {}
+}
@@ -0,0 +1,50 @@
+package com.spring.carparter.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 "최근에 직접 쓴 시각"을 기억해, 쓰기 직후 일정 시간(window) 동안 그 사용자의 읽기를 주 DB로 고정합니다.
+ * (방금 등록/수정한 내용이 복제 지연 때문에 목록에서 안 보이는 일을 막음)
+ *
+ * 노드 메모리에만 두므로, 여러 노드로 운영할 때는 로드밸런서의 세션 고정(sticky)이 함께 있어야 보장됩니다.
+ */
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(long windowMs) {
+        this.windowNanos = windowMs * 1_000_000;
+    }
+
+    /** 사용자의 쓰기 트랜잭션이 커밋되었음을 기록합니다. */
+    public void markWrite(String userKey) {
+        if (windowNanos > 0) {
+            pinnedUntil.put(userKey, System.nanoTime() + windowNanos);
+        }
+    }
+
+    /** 사용자가 아직 쓰기 직후 구간에 있는지 확인합니다. */
+    public boolean isPinned(String userKey) {
+        Long until = pinnedUntil.get(userKey);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        pinnedUntil.remove(userKey, until);
+        return false;
+    }
+
+    /** 구간이 끝난 항목을 지웁니다. (복제 지연 점검 주기마다 호출) */
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        pinnedUntil.values().removeIf(until -> until - now <= 0);
+    }
+
+    public int size() {
+        return pinnedUntil.size();
+    }
+}
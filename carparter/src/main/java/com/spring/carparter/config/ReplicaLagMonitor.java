@@ -0,0 +1,120 @@
+package com.spring.carparter.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 읽기 전용 복제본(replica)의 복제 지연 감시
+ *
+ * - 주기마다 주 DB의 replica_heartbeat 행에 현재 시각을 쓰고, 복제본에서 같은 행을 읽어 (현재 시각 - 읽은 시각)을 지연으로 봅니다.
+ *   (pt-heartbeat 방식. MySQL 복제 상태 명령 없이 H2 등 어떤 DB에서도 같은 방식으로 동작)
+ * - 지연이 max-lag-ms 이하일 때만 복제본을 사용 가능으로 봅니다. 점검 전(기동 직후), 조회 실패, 하트비트 행이 없을 때는 사용 불가입니다.
+ * - 복제본 연결에 실패하면 라우팅 쪽에서 markUnavailable로 바로 내리고, 다음 점검에서 다시 판단합니다.
+ * - datasource.replica.lag(ms, 모르면 -1), datasource.replica.available(0/1) 지표로 노출합니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String CREATE_SQL =
+            "CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, beat_millis BIGINT NOT NULL)";
+    private static final String UPDATE_SQL = "UPDATE replica_heartbeat SET beat_millis = ? WHERE id = 1";
+    private static final String INSERT_SQL = "INSERT INTO replica_heartbeat (id, beat_millis) VALUES (1, ?)";
+    private static final String SELECT_SQL = "SELECT beat_millis FROM replica_heartbeat WHERE id = 1";
+
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final long maxLagMs;
+
+    private final AtomicLong lagMs = new AtomicLong(-1);
+    private volatile boolean available;
+    private volatile boolean heartbeatTableReady;
+
+    public ReplicaLagMonitor(DataSource primaryDataSource,
+                             DataSource replicaDataSource,
+                             ReadYourWritesTracker readYourWritesTracker,
+                             long maxLagMs,
+                             MeterRegistry meterRegistry) {
+        this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.maxLagMs = maxLagMs;
+
+        meterRegistry.gauge("datasource.replica.lag", lagMs, AtomicLong::get);
+        meterRegistry.gauge("datasource.replica.available", this, monitor -> monitor.available ? 1 : 0);
+    }
+
+    /** 라우팅할 때 복제본을 써도 되는지 확인합니다. */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public long getLagMs() {
+        return lagMs.get();
+    }
+
+    /** 복제본 연결 실패 시 다음 점검까지 복제본을 쓰지 않도록 내립니다. */
+    public void markUnavailable(Exception cause) {
+        if (available) {
+            log.warn("복제본 연결 실패로 읽기를 주 DB로 돌립니다: {}", cause.toString());
+        }
+        available = false;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval-ms:1000}")
+    public void check() {
+        readYourWritesTracker.purgeExpired();
+        try {
+            writeHeartbeat();
+        } catch (DataAccessException e) {
+            // 주 DB 장애는 쓰기 쪽에서 드러나므로, 여기서는 하트비트가 멈춰 지연이 커지는 것으로만 반영됩니다.
+            log.debug("복제 하트비트 기록 실패: {}", e.getMessage());
+        }
+
+        boolean wasAvailable = available;
+        try {
+            List<Long> beats = replicaJdbcTemplate.queryForList(SELECT_SQL, Long.class);
+            if (beats.isEmpty()) {
+                lagMs.set(-1);
+                available = false;
+            } else {
+                long lag = Math.max(0, System.currentTimeMillis() - beats.get(0));
+                lagMs.set(lag);
+                available = lag <= maxLagMs;
+            }
+        } catch (DataAccessException e) {
+            lagMs.set(-1);
+            available = false;
+            if (wasAvailable) {
+                log.warn("복제본 하트비트 조회 실패: {}", e.getMessage());
+            }
+        }
+
+        if (wasAvailable != available) {
+            log.info("복제본 읽기 {}: 지연 {}ms (허용 {}ms)", available ? "사용" : "중단", lagMs.get(), maxLagMs);
+        }
+    }
+
+    private void writeHeartbeat() {
+        if (!heartbeatTableReady) {
+            primaryJdbcTemplate.execute(CREATE_SQL);
+            heartbeatTableReady = true;
+        }
+        long now = System.currentTimeMillis();
+        if (primaryJdbcTemplate.update(UPDATE_SQL, now) == 0) {
+            try {
+                primaryJdbcTemplate.update(INSERT_SQL, now);
+            } catch (DuplicateKeyException e) {
+                // 다른 노드가 먼저 넣은 경우: 다음 주기의 UPDATE로 충분합니다.
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.spring.carparter.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 트랜잭션 종류에 따라 주 DB / 읽기 전용 복제본으로 연결을 나누는 DataSource
+ *
+ * - @Transactional(readOnly = true) 안의 조회는 복제본으로, 그 외(쓰기 트랜잭션, 트랜잭션 밖)는 주 DB로 보냅니다.
+ * - 읽기 전용이라도 다음 경우에는 주 DB로 보냅니다.
+ *   1. 현재 사용자가 쓰기 직후 구간에 있을 때 (ReadYourWritesTracker)
+ *   2. 복제 지연이 허용치를 넘었거나 복제본 상태를 모를 때 (ReplicaLagMonitor)
+ *   3. 복제본 연결에 실패했을 때 (그 자리에서 주 DB 연결로 대신함)
+ * - 트랜잭션의 readOnly 여부는 시작 후에야 정해지므로, 반드시 LazyConnectionDataSourceProxy로 감싸
+ *   첫 SQL 실행 시점에 연결을 고르게 해야 합니다. (DataSourceRoutingConfig)
+ * - 라우팅 결과는 datasource.routing{target, reason} 지표로 셉니다.
+ * - 실제로 연결을 가져온 대상(연결 실패로 주 DB로 대신한 경우 포함)은 현재 스레드의 라우팅 리스너에 알립니다.
+ *   (ReadOnlyCacheModeJpaDialect가 복제본으로 간 트랜잭션에서만 2차 캐시 채우기를 막는 데 씁니다)
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    private static final ThreadLocal<Consumer<Target>> ROUTING_LISTENER = new ThreadLocal<>();
+
+    private final DataSource primaryDataSource;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    private final Counter readWriteCounter;
+    private final Counter readOnlyCounter;
+    private final Counter readYourWritesCounter;
+    private final Counter lagFallbackCounter;
+    private final Counter connectFallbackCounter;
+
+    public ReplicaRoutingDataSource(DataSource primaryDataSource,
+                                    DataSource replicaDataSource,
+                                    ReplicaLagMonitor replicaLagMonitor,
+                                    ReadYourWritesTracker readYourWritesTracker,
+                                    MeterRegistry meterRegistry) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+        setTargetDataSources(Map.of(Target.PRIMARY, primaryDataSource, Target.REPLICA, replicaDataSource));
+        setDefaultTargetDataSource(primaryDataSource);
+        setLenientFallback(false);
+        afterPropertiesSet();
+
+        this.readWriteCounter = routingCounter(meterRegistry, "primary", "read_write");
+        this.readOnlyCounter = routingCounter(meterRegistry, "replica", "read_only");
+        this.readYourWritesCounter = routingCounter(meterRegistry, "primary", "read_your_writes");
+        this.lagFallbackCounter = routingCounter(meterRegistry, "primary", "replica_lagging");
+        this.connectFallbackCounter = routingCounter(meterRegistry, "primary", "replica_error");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String userKey = currentUserKey();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readWriteCounter.increment();
+            pinAfterCommit(userKey);
+            return Target.PRIMARY;
+        }
+        if (userKey != null && readYourWritesTracker.isPinned(userKey)) {
+            readYourWritesCounter.increment();
+            return Target.PRIMARY;
+        }
+        if (!replicaLagMonitor.isAvailable()) {
+            lagFallbackCounter.increment();
+            return Target.PRIMARY;
+        }
+        readOnlyCounter.increment();
+        return Target.REPLICA;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = determineTargetDataSource();
+        if (target == primaryDataSource) {
+            return routed(target.getConnection(), Target.PRIMARY);
+        }
+        try {
+            return routed(target.getConnection(), Target.REPLICA);
+        } catch (SQLException e) {
+            replicaLagMonitor.markUnavailable(e);
+            connectFallbackCounter.increment();
+            return routed(primaryDataSource.getConnection(), Target.PRIMARY);
+        }
+    }
+
+    /**
+     * 현재 스레드에서 이후 가져오는 연결의 실제 대상을 받을 리스너를 등록하고, 이전 리스너를 돌려줍니다.
+     * null을 넘기면 등록을 지웁니다. (트랜잭션이 끝날 때 이전 리스너로 되돌리는 용도)
+     */
+    static Consumer<Target> setRoutingListener(Consumer<Target> listener) {
+        Consumer<Target> previous = ROUTING_LISTENER.get();
+        if (listener == null) {
+            ROUTING_LISTENER.remove();
+        } else {
+            ROUTING_LISTENER.set(listener);
+        }
+        return previous;
+    }
+
+    private static Connection routed(Connection connection, Target target) {
+        Consumer<Target> listener = ROUTING_LISTENER.get();
+        if (listener != null) {
+            listener.accept(target);
+        }
+        return connection;
+    }
+
+    /** 사용자의 쓰기 트랜잭션이 커밋되면 그때부터 읽기를 주 DB로 고정합니다. */
+    private void pinAfterCommit(String userKey) {
+        if (userKey == null || !TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.markWrite(userKey);
+            }
+        });
+    }
+
+    private static String currentUserKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return meterRegistry.counter("datasource.routing", "target", target, "reason", reason);
+    }
+}
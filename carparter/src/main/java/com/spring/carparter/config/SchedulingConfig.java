@@ -0,0 +1,43 @@
+package com.spring.carparter.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * @Scheduled 작업 전용 스케줄러 설정
+ *
+ * STOMP 브로커가 만드는 messageBrokerTaskScheduler가 유일한 TaskScheduler이면 @Scheduled 작업도 그 위에서 돌아,
+ * 오래 걸리는 작업이 WebSocket 하트비트를 밀어낼 수 있습니다. 그래서 스케줄 작업은 별도 풀(scheduled-)에서 실행합니다.
+ *
+ * 스케줄 작업 정책: 오래 걸리는 야간 작업(지오코딩 백필, 채팅 기록 보관, 리뷰 집계 재계산)의 @Scheduled 메서드는
+ * 작업을 batchJobExecutor(AsyncConfig)에 넘기기만 하고 바로 돌아갑니다. 이 풀의 스레드는 짧은 주기 작업
+ * (복제 지연 점검, 아웃박스 폴링)과 짧은 정리 작업(오래된 예약/알림 삭제)만 직접 실행해, 서로 밀리지 않게 합니다.
+ */
+@Configuration
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    private final int poolSize;
+
+    public SchedulingConfig(@Value("${scheduling.pool-size:4}") int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduled-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.setTaskScheduler(taskScheduler());
+    }
+}
@@ -1,5 +1,6 @@
 package com.spring.carparter.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.spring.carparter.JWT.JWTFilter;
 import com.spring.carparter.JWT.JWTUtil;
 import com.spring.carparter.JWT.LoginFilter;
@@ -37,6 +38,7 @@ public class SecurityConfig {
     private final JWTUtil jwtUtil;
     private final CustomUserDetailsService customUserDetailsService;
     private final AuthenticationConfiguration authenticationConfiguration;
+    private final ObjectMapper objectMapper;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -52,7 +54,7 @@ public class SecurityConfig {
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         AuthenticationManager authenticationManager = authenticationManager(authenticationConfiguration);
 
-        LoginFilter loginFilter = new LoginFilter(authenticationManager, jwtUtil);
+        LoginFilter loginFilter = new LoginFilter(authenticationManager, jwtUtil, objectMapper);
         loginFilter.setFilterProcessesUrl("/api/login");
 
         http
@@ -1,7 +1,11 @@
 package com.spring.carparter.config;
 
 import com.spring.carparter.JWT.JWTUtil;
-import lombok.RequiredArgsConstructor;
+import com.spring.carparter.JWT.JwtClaims;
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -11,24 +15,73 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
-@RequiredArgsConstructor
+@Slf4j
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JWTUtil jwtUtil; // JWT 검증을 위해 주입
+    private final ThreadPoolTaskExecutor chatInboundExecutor;
+    private final ThreadPoolTaskExecutor chatOutboundExecutor;
+    private final ChatOutboundSessionLimiter chatOutboundSessionLimiter;
+    private final int sendBufferSizeLimit;
+    private final int sendTimeLimitMs;
+    private final int messageSizeLimit;
+
+    public WebSocketConfig(JWTUtil jwtUtil,
+                           @Qualifier("chatInboundExecutor") ThreadPoolTaskExecutor chatInboundExecutor,
+                           @Qualifier("chatOutboundExecutor") ThreadPoolTaskExecutor chatOutboundExecutor,
+                           ChatOutboundSessionLimiter chatOutboundSessionLimiter,
+                           @Value("${chat.ws.send-buffer-size-limit:524288}") int sendBufferSizeLimit,
+                           @Value("${chat.ws.send-time-limit-ms:10000}") int sendTimeLimitMs,
+                           @Value("${chat.ws.message-size-limit:65536}") int messageSizeLimit) {
+        this.jwtUtil = jwtUtil;
+        this.chatInboundExecutor = chatInboundExecutor;
+        this.chatOutboundExecutor = chatOutboundExecutor;
+        this.chatOutboundSessionLimiter = chatOutboundSessionLimiter;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.messageSizeLimit = messageSizeLimit;
+    }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
+        // 로컬 구독자 전달은 simple broker가, 노드 간 /topic/room/* 중계는 ChatRoomBroker(chat.broker.mode=relay)가 맡습니다.
         registry.enableSimpleBroker("/topic");
         registry.setApplicationDestinationPrefixes("/app");
     }
 
+    /**
+     * 세션별 전송 제한: 느린 클라이언트에게 보낼 메시지는 세션 버퍼에 쌓이고,
+     * 버퍼가 send-buffer-size-limit를 넘거나 한 번의 전송이 send-time-limit-ms를 넘기면 그 세션만 끊습니다.
+     * (느린 구독자 하나가 아웃바운드 스레드를 붙잡아 다른 방의 브로드캐스트까지 막는 것을 방지)
+     * 아웃바운드 큐에 프레임이 너무 많이 쌓인 세션도 끊을 수 있도록 세션을 추적합니다. (ChatOutboundSessionLimiter)
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimitMs)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory(chatOutboundSessionLimiter);
+    }
+
+    /**
+     * 서버 → 클라이언트 전송은 공용 기본 풀 대신 크기가 제한된 전용 풀에서 처리합니다. (AsyncConfig 참고)
+     * 세션별 대기 프레임 수를 제한해, 한 세션이 공용 큐를 채워 다른 세션의 전송이 거부되지 않게 합니다.
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(chatOutboundExecutor);
+        registration.interceptors(chatOutboundSessionLimiter);
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws-chat")
@@ -42,6 +95,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
      */
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(chatInboundExecutor);
         registration.interceptors(new ChannelInterceptor() {
             @Override
             public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -54,10 +108,16 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
                     if (token != null && token.startsWith("Bearer ")) {
                         String jwt = token.substring(7);
-                        if (jwtUtil.validateToken(jwt)) {
-                            // 토큰에서 인증 정보 생성 후 세션에 사용자 정보 저장
-                            Authentication authentication = jwtUtil.getAuthentication(jwt);
-                            accessor.setUser(authentication);
+                        try {
+                            // 토큰을 한 번만 파싱/검증하고, 그 클레임으로 인증 정보를 만듭니다.
+                            JwtClaims claims = jwtUtil.parseClaims(jwt);
+                            if (!claims.isExpired()) {
+                                // 토큰에서 인증 정보 생성 후 세션에 사용자 정보 저장
+                                Authentication authentication = jwtUtil.getAuthentication(claims, jwt);
+                                accessor.setUser(authentication);
+                            }
+                        } catch (JwtException | IllegalArgumentException e) {
+                            log.warn("STOMP CONNECT: 유효하지 않은 JWT 토큰입니다. {}", e.getMessage());
                         }
                     }
                 }
@@ -3,11 +3,11 @@ package com.spring.carparter.controller;
 import com.spring.carparter.dto.UsedPartResDTO;
 import com.spring.carparter.service.UsedPartService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/parts")
@@ -16,9 +16,17 @@ public class PartSearchController {
 
     private final UsedPartService usedPartService;
 
+    /**
+     * 중고 부품 검색 (관련도 순, 페이지 단위)
+     * 예시: GET /api/parts/search?query=아반떼 헤드라이트&page=0&size=20
+     * 응답의 totalElements가 전체 검색 결과 수입니다.
+     */
     @GetMapping("/search")
-    public ResponseEntity<List<UsedPartResDTO>> searchParts(@RequestParam("query") String query) {
-        List<UsedPartResDTO> results = usedPartService.searchPartsByName(query);
+    public ResponseEntity<Page<UsedPartResDTO>> searchParts(
+            @RequestParam("query") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Page<UsedPartResDTO> results = usedPartService.searchParts(query, PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 100)));
         return ResponseEntity.ok(results);
     }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+// 파일 경로: com/spring/carparter/document/ChatArchiveDocument.java
+package com.spring.carparter.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오래된 채팅 메시지 보관 묶음 (방별, gzip 압축된 JSON-lines)
+ *
+ * - data: 메시지를 (sentAt, id) 오름차순으로 한 줄에 하나씩 JSON으로 적고 gzip으로 압축한 값
+ * - firstSentAt/firstMessageId, lastSentAt/lastMessageId: 묶음에 담긴 가장 오래된/최근 메시지의 키 (기록 조회 시 압축을 풀지 않고 범위를 고르는 용도)
+ * - id는 "roomId:첫 메시지 ID:마지막 메시지 ID"로 정해져 있어, 보관 작업을 다시 실행해도 같은 묶음을 덮어씁니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "chat_archives")
+@CompoundIndex(name = "room_last_sent_at_idx", def = "{'roomId': 1, 'lastSentAt': -1, 'lastMessageId': -1}")
+public class ChatArchiveDocument {
+    @Id
+    private String id;
+    private Integer roomId;
+    private LocalDateTime firstSentAt;
+    private String firstMessageId;
+    private LocalDateTime lastSentAt;
+    private String lastMessageId;
+    private int messageCount;
+    private byte[] data;
+    private LocalDateTime archivedAt;
+}
@@ -1,17 +1,24 @@
 // 파일 경로: com/spring/carparter/document/ChatMessageDocument.java
 package com.spring.carparter.document;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.time.LocalDateTime;
 
 @Getter
 @Setter
 @Document(collection = "messages")
+// 채팅 기록 키셋 조회용: roomId로 좁힌 뒤 (sentAt, _id) 역순으로 바로 읽습니다.
+@CompoundIndex(name = "room_sent_at_id_idx", def = "{'roomId': 1, 'sentAt': -1, '_id': -1}")
 @Builder
+@NoArgsConstructor  // 보관(archive) 묶음의 JSON 역직렬화용
+@AllArgsConstructor
 public class ChatMessageDocument {
     @Id
     private String id;
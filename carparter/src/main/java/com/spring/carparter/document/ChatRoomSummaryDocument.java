@@ -0,0 +1,37 @@
+// 파일 경로: com/spring/carparter/document/ChatRoomSummaryDocument.java
+package com.spring.carparter.document;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 요약 (방마다 1건, _id = roomId)
+ * 메시지가 저장될 때 함께 갱신되어, 목록 화면이 방마다 대화 기록을 읽지 않아도 되게 합니다.
+ * 안 읽은 수 = messageCount - (참여자별 읽음 처리 시점의 메시지 수)
+ * 방이 삭제되면 바로 지우지 않고 closedAt을 찍어 하루 동안 남겨 둡니다. (뒤늦게 저장되는 메시지를 걸러내는 표시, TTL로 자동 삭제)
+ */
+@Getter
+@NoArgsConstructor
+@Document(collection = "chat_room_summaries")
+public class ChatRoomSummaryDocument {
+    @Id
+    private Integer roomId;
+    private String lastMessage;
+    private SenderType lastSenderType;
+    private LocalDateTime lastMessageAt;
+    private long messageCount;
+    private long userReadCount;
+    private long centerReadCount;
+    @Indexed(name = "closed_at_ttl_idx", expireAfterSeconds = 86400)
+    private LocalDateTime closedAt;
+
+    public long unreadCountFor(SenderType reader) {
+        long readCount = reader == SenderType.CAR_CENTER ? centerReadCount : userReadCount;
+        return Math.max(messageCount - readCount, 0);
+    }
+}
@@ -22,6 +22,8 @@ public class CarCenterResDTO {
     private String businessRegistrationNumber;
     private Double latitude;
     private Double longitude;
+    private Integer reviewCount;
+    private Double ratingAvg;
 
     public static CarCenterResDTO from(CarCenter carCenter) {
         return CarCenterResDTO.builder()
@@ -36,6 +38,8 @@ public class CarCenterResDTO {
                 .businessRegistrationNumber(carCenter.getBusinessRegistrationNumber())
                 .latitude(carCenter.getLatitude())
                 .longitude(carCenter.getLongitude())
+                .reviewCount(carCenter.getReviewCount())
+                .ratingAvg(carCenter.getRatingAvg())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.spring.carparter.dto;
+
+import com.spring.carparter.document.SenderType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 목록(받은편지함) 항목: 채팅방 정보 + 마지막 메시지 미리보기 + 안 읽은 메시지 수
+ */
+@Getter
+@Builder
+public class ChatInboxItemResDTO {
+
+    private final ChatRoomResDTO room;
+    private final String lastMessage;        // 마지막 메시지 미리보기 (대화가 없으면 null)
+    private final SenderType lastSenderType;
+    private final LocalDateTime lastMessageAt;
+    private final long unreadCount;
+}
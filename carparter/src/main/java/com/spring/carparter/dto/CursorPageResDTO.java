@@ -0,0 +1,18 @@
+package com.spring.carparter.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서(키셋) 기반 페이지 응답
+ * 다음 페이지를 요청할 때 nextCursor 값을 그대로 cursor 파라미터로 보내면 됩니다. (마지막 페이지면 null)
+ */
+@Getter
+@RequiredArgsConstructor
+public class CursorPageResDTO<T> {
+    private final List<T> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+}
@@ -0,0 +1,14 @@
+package com.spring.carparter.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주변 카센터 검색 결과 (카센터 정보 + 기준 좌표로부터의 거리)
+ */
+@Getter
+@RequiredArgsConstructor
+public class NearbyCarCenterResDTO {
+    private final CarCenterResDTO center;
+    private final double distanceKm;
+}
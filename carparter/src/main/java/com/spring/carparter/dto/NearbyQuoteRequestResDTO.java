@@ -0,0 +1,14 @@
+package com.spring.carparter.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 카센터 주변 견적 요청 조회 결과 (견적 요청 정보 + 카센터로부터의 거리)
+ */
+@Getter
+@RequiredArgsConstructor
+public class NearbyQuoteRequestResDTO {
+    private final QuoteRequestResDTO request;
+    private final double distanceKm;
+}
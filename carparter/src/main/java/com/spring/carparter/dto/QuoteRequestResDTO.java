@@ -1,5 +1,6 @@
 package com.spring.carparter.dto;
 
+import com.spring.carparter.entity.Estimate;
 import com.spring.carparter.entity.QuoteRequest;
 import com.spring.carparter.entity.RequestImage;
 import lombok.Getter;
@@ -35,7 +36,7 @@ public class QuoteRequestResDTO {
     /**
      * 엔티티를 DTO로 변환하는 생성자
      */
-    private QuoteRequestResDTO(QuoteRequest entity, int estimateCount) {
+    private QuoteRequestResDTO(QuoteRequest entity, int estimateCount, List<Estimate> estimates) {
         this.requestId = entity.getRequestId();
         this.requestDetails = entity.getRequestDetails();
         this.address = entity.getAddress();
@@ -58,8 +59,8 @@ public class QuoteRequestResDTO {
                         .map(RequestImage::getImageUrl)
                         .collect(Collectors.toList());
 
-        this.estimates = (entity.getEstimates() == null) ? Collections.emptyList() :
-                entity.getEstimates().stream()
+        this.estimates = (estimates == null) ? Collections.emptyList() :
+                estimates.stream()
                         .map(EstimateResDTO::from)
                         .collect(Collectors.toList());
     }
@@ -69,7 +70,14 @@ public class QuoteRequestResDTO {
      * 외부에서 DTO를 생성할 때 사용하는 정적 팩토리 메소드
      */
     public static QuoteRequestResDTO from(QuoteRequest entity, int estimateCount) {
-        return new QuoteRequestResDTO(entity, estimateCount);
+        return new QuoteRequestResDTO(entity, estimateCount, entity.getEstimates());
 
     }
+
+    /**
+     * 목록용: 견적을 엔티티 컬렉션(지연 로딩) 대신 미리 일괄 조회한 목록으로 채웁니다.
+     */
+    public static QuoteRequestResDTO from(QuoteRequest entity, List<Estimate> estimates) {
+        return new QuoteRequestResDTO(entity, estimates.size(), estimates);
+    }
 }
\ No newline at end of file
@@ -9,6 +9,8 @@ import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Getter
@@ -37,6 +39,30 @@ public class UsedPartResDTO {
      * @return 변환된 UsedPartResDTO 객체
      */
     public static UsedPartResDTO from(UsedPart usedPart, S3Service s3Service) {
+        return from(usedPart, objectKey -> s3Service.createPresignedUrl(objectKey));
+    }
+
+    /**
+     * 여러 UsedPart 엔티티를 한 번에 변환합니다. (목록 조회용)
+     * 모든 이미지의 객체 키를 모아 S3Service의 일괄 서명 API로 한 번에 Pre-signed URL을 발급합니다.
+     *
+     * @param usedParts 변환할 UsedPart 엔티티 목록
+     * @param s3Service Pre-signed URL 생성을 위한 S3Service 인스턴스
+     * @return 변환된 UsedPartResDTO 목록 (입력 순서 유지)
+     */
+    public static List<UsedPartResDTO> fromList(List<UsedPart> usedParts, S3Service s3Service) {
+        List<String> objectKeys = usedParts.stream()
+                .flatMap(part -> part.getImages().stream())
+                .map(image -> extractObjectKeyFromUrl(image.getImageUrl()))
+                .collect(Collectors.toList());
+        Map<String, String> presignedUrls = s3Service.createPresignedUrls(objectKeys);
+
+        return usedParts.stream()
+                .map(part -> from(part, presignedUrls::get))
+                .collect(Collectors.toList());
+    }
+
+    private static UsedPartResDTO from(UsedPart usedPart, Function<String, String> presignedUrlByObjectKey) {
         return UsedPartResDTO.builder()
                 .partId(usedPart.getPartId())
                 .centerId(usedPart.getCarCenter().getCenterId())
@@ -48,7 +74,7 @@ public class UsedPartResDTO {
                 .createdAt(usedPart.getCreatedAt())
                 // DB에 저장된 각 이미지의 원본 URL을 Pre-signed URL로 변환합니다.
                 .imageUrls(usedPart.getImages().stream()
-                        .map(image -> s3Service.createPresignedUrl(extractObjectKeyFromUrl(image.getImageUrl())))
+                        .map(image -> presignedUrlByObjectKey.apply(extractObjectKeyFromUrl(image.getImageUrl())))
                         .collect(Collectors.toList()))
                 .centerPhoneNumber(usedPart.getCarCenter().getPhoneNumber())
 
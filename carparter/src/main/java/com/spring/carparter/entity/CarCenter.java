@@ -6,6 +6,9 @@ package com.spring.carparter.entity;
 import com.spring.carparter.dto.CarCenterReqDTO;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -17,9 +20,15 @@ import java.util.List;
  * 정비소(제휴 업체) 정보를 나타내는 엔티티
  */
 @Entity
-@Table(name = "car_centers")
+@Table(name = "car_centers", indexes = {
+        // 검색 정렬(평점순/리뷰순)용: 승인 상태로 거른 뒤 인덱스 순서대로 읽습니다.
+        @Index(name = "idx_car_centers_status_rating", columnList = "status, rating_avg, review_count"),
+        @Index(name = "idx_car_centers_status_review_count", columnList = "status, review_count, rating_avg")
+})
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 @EntityListeners(AuditingEntityListener.class) // 생성/수정 시간 자동화를 위해 리스너 추가
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "car-center")
 public class CarCenter {
 
     /** 정비소 고유 ID (PK, 자동생성) */
@@ -69,6 +78,27 @@ public class CarCenter {
     @Builder.Default
     private CarCenterStatus status = CarCenterStatus.PENDING;
 
+    // --- 리뷰 집계 (ReviewService가 원자적 UPDATE로 증감, CarCenterRatingReconciler가 주기적으로 재계산) ---
+    // 엔티티 수정(UPDATE) 시 함께 덮어쓰면 동시에 반영된 증감이 사라지므로 updatable = false로 둡니다.
+
+    /** 리뷰 수 */
+    @Column(name = "review_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer reviewCount = 0;
+
+    /** 평점 합계 */
+    @Column(name = "rating_sum", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long ratingSum = 0L;
+
+    /** 평균 평점 (rating_sum / review_count, 리뷰가 없으면 0) */
+    @Column(name = "rating_avg", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Double ratingAvg = 0.0;
+
     // --- 연관관계 매핑 ---
     /** 이 정비소가 제출한 견적서 목록 */
     @OneToMany(mappedBy = "carCenter")
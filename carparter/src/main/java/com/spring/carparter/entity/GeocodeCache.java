@@ -0,0 +1,42 @@
+package com.spring.carparter.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주소 → 좌표 지오코딩 결과 캐시
+ * 정규화한 주소를 키로, 카카오 API 결과를 한 번만 저장해 두고 재사용합니다.
+ * 검색 결과가 없던 주소도 좌표를 비워(null) 저장하여, 같은 주소로 외부 API를 다시 호출하지 않습니다.
+ * (검색 결과 없음은 created_at 기준 geocoding.cache.negative-ttl-hours가 지나면 GeocodingService가 지우고 다시 조회)
+ */
+@Entity
+@Table(name = "geocode_cache")
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GeocodeCache {
+
+    public static final int MAX_ADDRESS_KEY_LENGTH = 500;
+
+    /** 정규화한 주소 (공백 정리, 유니코드 NFC) */
+    @Id
+    @Column(name = "address_key", length = MAX_ADDRESS_KEY_LENGTH)
+    private String addressKey;
+
+    /** 위도 (검색 결과가 없으면 null) */
+    private Double latitude;
+
+    /** 경도 (검색 결과가 없으면 null) */
+    private Double longitude;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public boolean isFound() {
+        return latitude != null && longitude != null;
+    }
+}
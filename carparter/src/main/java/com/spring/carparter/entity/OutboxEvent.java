@@ -0,0 +1,67 @@
+package com.spring.carparter.entity;
+
+import com.spring.carparter.entity.type.OutboxEventType;
+import com.spring.carparter.entity.type.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스 이벤트
+ * 비즈니스 트랜잭션과 같은 트랜잭션에서 저장되고, OutboxRelay가 커밋 이후에 읽어 부수 효과(알림 등)를 실행합니다.
+ * 전달에 성공한 이벤트는 바로 삭제되므로, 테이블에는 대기/실패 건만 남습니다.
+ */
+@Entity
+@Table(name = "outbox_event", indexes = @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 50)
+    private OutboxEventType eventType;
+
+    /** 이벤트 내용 (JSON) */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    /** 이 시각 이후에 전달(재시도)합니다. */
+    @Column(name = "next_attempt_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    /**
+     * 전달 실패를 기록하고 다음 재시도 시각을 정합니다. 최대 횟수를 넘으면 FAILED로 전환합니다.
+     */
+    public void recordFailure(String error, int maxAttempts, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.nextAttemptAt = nextAttemptAt;
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.spring.carparter.entity.type;
+
+public enum OutboxEventType {
+    NOTIFICATION,                  // 특정 수신자(사용자/카센터) 한 명에게 보내는 알림
+    ALL_CAR_CENTERS_NOTIFICATION,  // 전체 카센터 알림
+    QUOTE_REQUEST_CREATED,         // 새 견적 요청 생성 → 주변 카센터 매칭 후 알림
+    CHAT_ROOMS_CLOSED              // 채팅방 삭제 → MongoDB의 메시지/요약 정리
+}
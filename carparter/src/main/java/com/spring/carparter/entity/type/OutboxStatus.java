@@ -0,0 +1,6 @@
+package com.spring.carparter.entity.type;
+
+public enum OutboxStatus {
+    PENDING,    // 전달 대기 (재시도 포함)
+    FAILED      // 최대 재시도 횟수를 넘겨 전달을 포기한 상태 (수동 확인 필요)
+}
@@ -1,10 +1,19 @@
 package com.spring.carparter.repository;
 
 import com.spring.carparter.entity.CarCenter;
+import com.spring.carparter.entity.CarCenterStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,21 +27,108 @@ public interface CarCenterRepository extends JpaRepository<CarCenter, String> ,
     Optional<CarCenter> findByCenterId(String CenterId);
 
     /**
-     * 회원가입 시 로그인 ID 중복 검사
+     * 회원가입 시 로그인 ID 중복 검사 (쿼리 캐시, car_centers가 바뀌면 무효화)
      * @param CenterId 로그인 ID
      * @return boolean
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "lookup-query")
+    })
     boolean existsByCenterId(String CenterId);
 
     /**
-     * 사업자 등록 번호 중복 검사
+     * 사업자 등록 번호 중복 검사 (쿼리 캐시, car_centers가 바뀌면 무효화)
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "lookup-query")
+    })
     boolean existsByBusinessRegistrationNumber(String businessRegistrationNumber);
 
 
     @Query("SELECT DISTINCT cc FROM CarCenter cc LEFT JOIN FETCH cc.estimates")
     List<CarCenter> findAllWithDetails();
 
+    /**
+     * 전체 알림 팬아웃용: 마지막으로 읽은 ID 이후의 카센터 ID만 청크 단위로 조회합니다. (키셋 페이지네이션)
+     * 엔티티 전체를 읽지 않고 PK 인덱스만 타므로 카센터 수가 많아도 청크당 비용이 일정합니다.
+     *
+     * @param lastCenterId 직전 청크의 마지막 카센터 ID (첫 청크는 빈 문자열)
+     * @param pageable     청크 크기 (PageRequest.of(0, size))
+     */
+    @Query("SELECT cc.centerId FROM CarCenter cc WHERE cc.centerId > :lastCenterId ORDER BY cc.centerId")
+    List<String> findCenterIdsAfter(@Param("lastCenterId") String lastCenterId, Pageable pageable);
+
+    /**
+     * 공간 인덱스 적재용: 좌표가 있는 카센터의 [centerId, latitude, longitude, status]만 조회합니다.
+     */
+    @Query("SELECT cc.centerId, cc.latitude, cc.longitude, cc.status FROM CarCenter cc " +
+            "WHERE cc.latitude IS NOT NULL AND cc.longitude IS NOT NULL")
+    List<Object[]> findAllLocations();
+
+    /**
+     * 채팅 발신자 이름 표시용: 카센터 이름 컬럼만 조회합니다.
+     */
+    @Query("SELECT cc.centerName FROM CarCenter cc WHERE cc.centerId = :centerId")
+    Optional<String> findCenterNameById(@Param("centerId") String centerId);
+
+    /**
+     * 비동기 지오코딩 결과 반영: 주소가 그 사이 바뀌지 않았을 때만 좌표를 씁니다. (늦게 끝난 이전 주소 결과가 덮어쓰지 않도록)
+     *
+     * @return 반영된 행 수 (0이면 주소가 바뀌었거나 카센터가 삭제됨)
+     */
+    @Modifying
+    @Query("UPDATE CarCenter cc SET cc.latitude = :latitude, cc.longitude = :longitude " +
+            "WHERE cc.centerId = :centerId AND cc.address = :address")
+    int updateCoordinatesIfAddress(@Param("centerId") String centerId,
+                                   @Param("address") String address,
+                                   @Param("latitude") Double latitude,
+                                   @Param("longitude") Double longitude);
+
+    /**
+     * 지오코딩 백필용: 좌표가 없는 카센터의 [centerId, address, status]를 ID 순으로 청크 단위 조회합니다. (키셋 페이지네이션)
+     */
+    @Query("SELECT cc.centerId, cc.address, cc.status FROM CarCenter cc " +
+            "WHERE (cc.latitude IS NULL OR cc.longitude IS NULL) AND cc.centerId > :lastCenterId ORDER BY cc.centerId")
+    List<Object[]> findMissingCoordinatesAfter(@Param("lastCenterId") String lastCenterId, Pageable pageable);
+
+    @Query("SELECT cc.status FROM CarCenter cc WHERE cc.centerId = :centerId")
+    Optional<CarCenterStatus> findStatusById(@Param("centerId") String centerId);
+
+    /**
+     * 리뷰 집계 증감: 한 문장의 UPDATE라 행 잠금 안에서 원자적으로 반영됩니다. (동시 리뷰 작성/삭제에도 유실 없음)
+     * MySQL은 SET 절을 왼쪽부터 적용하므로, 평균을 먼저 계산해야 증감 전 값을 기준으로 읽습니다.
+     * 대상 테이블(car_centers)을 지정해, 2차 캐시는 car-center 리전과 관련 쿼리 캐시만 무효화됩니다.
+     *
+     * @param countDelta 리뷰 수 증감 (작성 +1, 삭제 -1, 수정 0)
+     * @param sumDelta   평점 합계 증감
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "car_centers"))
+    @Query(value = "UPDATE car_centers SET " +
+            "rating_avg = CASE WHEN review_count + :countDelta > 0 " +
+            "  THEN (rating_sum + :sumDelta) * 1.0 / (review_count + :countDelta) ELSE 0 END, " +
+            "review_count = review_count + :countDelta, " +
+            "rating_sum = rating_sum + :sumDelta " +
+            "WHERE center_id = :centerId", nativeQuery = true)
+    int applyReviewDelta(@Param("centerId") String centerId,
+                         @Param("countDelta") int countDelta,
+                         @Param("sumDelta") long sumDelta);
+
+    /**
+     * 리뷰 집계 재계산: 주어진 카센터들의 집계를 reviews 테이블에서 다시 구합니다. (호출 1회 = 트랜잭션 1개)
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "car_centers"))
+    @Query(value = "UPDATE car_centers c SET " +
+            "review_count = (SELECT COUNT(*) FROM reviews r WHERE r.center_id = c.center_id), " +
+            "rating_sum = (SELECT COALESCE(SUM(r.rating), 0) FROM reviews r WHERE r.center_id = c.center_id), " +
+            "rating_avg = (SELECT CASE WHEN COUNT(*) = 0 THEN 0 ELSE COALESCE(SUM(r.rating), 0) * 1.0 / COUNT(*) END " +
+            "  FROM reviews r WHERE r.center_id = c.center_id) " +
+            "WHERE c.center_id IN (:centerIds)", nativeQuery = true)
+    int recomputeReviewAggregates(@Param("centerIds") Collection<String> centerIds);
 
 
 
@@ -2,14 +2,13 @@ package com.spring.carparter.repository;
 
 import com.spring.carparter.document.ChatMessageDocument;
 import org.springframework.data.mongodb.repository.MongoRepository;
-import java.util.List;
 
-public interface ChatMessageRepository extends MongoRepository<ChatMessageDocument, String> {
-    // 특정 채팅방의 메시지를 시간순으로 조회하는 메서드
-    List<ChatMessageDocument> findByRoomIdOrderBySentAtAsc(Integer roomId);
+import java.util.Collection;
 
+public interface ChatMessageRepository extends MongoRepository<ChatMessageDocument, String> {
     /**
-     * ✅ [신규 추가] 특정 채팅방(roomId)에 속한 모든 메시지를 삭제합니다.
+     * 여러 채팅방(roomId $in)에 속한 메시지를 한 번의 삭제 명령으로 지웁니다.
+     * @return 삭제된 메시지 수
      */
-    void deleteByRoomId(Integer roomId);
+    long deleteByRoomIdIn(Collection<Integer> roomIds);
 }
\ No newline at end of file
@@ -3,11 +3,13 @@ package com.spring.carparter.repository;
 import com.spring.carparter.entity.ChatRoom;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import software.amazon.awssdk.services.s3.endpoints.internal.Value;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,4 +49,32 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Integer> { /
     @EntityGraph(attributePaths = {"user", "carCenter"})
     List<ChatRoom> findAllByQuoteRequest_RequestId(Integer requestId);
 
-}
\ No newline at end of file
+    /**
+     * 채팅 목록 정렬용: 사용자가 참여한 방의 [roomId, updatedAt]만 조회합니다.
+     */
+    @Query("SELECT cr.roomId, cr.updatedAt FROM ChatRoom cr WHERE cr.user.userId = :userId")
+    List<Object[]> findActivityByUserId(@Param("userId") String userId);
+
+    /**
+     * 채팅 목록 정렬용: 카센터가 참여한 방의 [roomId, updatedAt]만 조회합니다.
+     */
+    @Query("SELECT cr.roomId, cr.updatedAt FROM ChatRoom cr WHERE cr.carCenter.centerId = :centerId")
+    List<Object[]> findActivityByCenterId(@Param("centerId") String centerId);
+
+    @Query("SELECT cr.roomId FROM ChatRoom cr WHERE cr.quoteRequest.requestId = :requestId")
+    List<Integer> findRoomIdsByQuoteRequestId(@Param("requestId") Integer requestId);
+
+    /**
+     * 채팅방 일괄 삭제: 엔티티를 읽지 않고 DELETE 한 번으로 지웁니다. (이미 지워진 ID는 무시되므로 재실행해도 안전)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM ChatRoom cr WHERE cr.roomId IN :roomIds")
+    int deleteAllByRoomIds(@Param("roomIds") Collection<Integer> roomIds);
+
+    @EntityGraph(attributePaths = {"user", "carCenter"})
+    List<ChatRoom> findAllByRoomIdIn(Collection<Integer> roomIds);
+
+    boolean existsByRoomIdAndUser_UserId(Integer roomId, String userId);
+
+    boolean existsByRoomIdAndCarCenter_CenterId(Integer roomId, String centerId);
+}
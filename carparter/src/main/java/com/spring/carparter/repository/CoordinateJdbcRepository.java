@@ -0,0 +1,67 @@
+package com.spring.carparter.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 지오코딩 백필 결과 일괄 반영 전용 JDBC Repository
+ * 청크의 좌표를 배치 UPDATE 한 번으로 씁니다.
+ * 좌표가 아직 비어 있고 주소가 조회 당시 그대로인 행만 바꿔, 그 사이 사용자가 바꾼 값을 덮어쓰지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CoordinateJdbcRepository {
+
+    private static final String UPDATE_CAR_CENTER_SQL =
+            "UPDATE car_centers SET latitude = ?, longitude = ? " +
+            "WHERE center_id = ? AND address = ? AND (latitude IS NULL OR longitude IS NULL)";
+
+    private static final String UPDATE_QUOTE_REQUEST_SQL =
+            "UPDATE quote_requests SET latitude = ?, longitude = ? " +
+            "WHERE request_id = ? AND address = ? AND (latitude IS NULL OR longitude IS NULL)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 한 행의 좌표 반영 내용 */
+    public record CoordinateUpdate<K>(K id, String address, double latitude, double longitude) {}
+
+    /**
+     * @return 실제로 반영된 항목 (드라이버가 행 수를 알려주지 않으면 모두 반영된 것으로 봅니다)
+     */
+    public List<CoordinateUpdate<String>> updateCarCenters(List<CoordinateUpdate<String>> updates) {
+        return batchUpdate(UPDATE_CAR_CENTER_SQL, updates);
+    }
+
+    /**
+     * @return 실제로 반영된 항목 (드라이버가 행 수를 알려주지 않으면 모두 반영된 것으로 봅니다)
+     */
+    public List<CoordinateUpdate<Integer>> updateQuoteRequests(List<CoordinateUpdate<Integer>> updates) {
+        return batchUpdate(UPDATE_QUOTE_REQUEST_SQL, updates);
+    }
+
+    private <K> List<CoordinateUpdate<K>> batchUpdate(String sql, List<CoordinateUpdate<K>> updates) {
+        if (updates.isEmpty()) {
+            return List.of();
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(sql, updates, updates.size(), (ps, update) -> {
+            ps.setDouble(1, update.latitude());
+            ps.setDouble(2, update.longitude());
+            ps.setObject(3, update.id());
+            ps.setString(4, update.address());
+        });
+        List<CoordinateUpdate<K>> applied = new ArrayList<>(updates.size());
+        int[] rowCounts = counts.length > 0 ? counts[0] : new int[0];
+        for (int i = 0; i < updates.size(); i++) {
+            int count = i < rowCounts.length ? rowCounts[i] : Statement.SUCCESS_NO_INFO;
+            if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                applied.add(updates.get(i));
+            }
+        }
+        return applied;
+    }
+}
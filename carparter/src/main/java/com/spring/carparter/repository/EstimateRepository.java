@@ -45,6 +45,16 @@ public interface EstimateRepository extends JpaRepository<Estimate, Integer> {
     // 특정 QuoteRequest ID에 해당하는 Estimate의 개수를 반환합니다.
     Long countByQuoteRequest_RequestId(Integer requestId);
 
+    /**
+     * 여러 견적 요청의 견적을 항목/카센터와 함께 한 번에 조회합니다. (목록 화면에서 요청마다 견적을 지연 로딩하지 않도록)
+     * 견적 요청의 사용자/차량은 호출 측에서 이미 같은 영속성 컨텍스트에 올려 둔 것을 씁니다.
+     */
+    @Query("SELECT DISTINCT e FROM Estimate e " +
+            "LEFT JOIN FETCH e.estimateItems " +
+            "JOIN FETCH e.carCenter " +
+            "WHERE e.quoteRequest.requestId IN :requestIds")
+    List<Estimate> findAllByRequestIdsWithDetails(@Param("requestIds") List<Integer> requestIds);
+
     boolean existsByQuoteRequest_RequestIdAndCarCenter_CenterId(Integer requestId, String centerId);
     List<Estimate> findByQuoteRequestAndStatus(QuoteRequest quoteRequest, EstimateStatus status);
 
@@ -71,6 +81,4 @@ public interface EstimateRepository extends JpaRepository<Estimate, Integer> {
 
 
 
-
-
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.spring.carparter.repository;
+
+import com.spring.carparter.entity.GeocodeCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface GeocodeCacheRepository extends JpaRepository<GeocodeCache, String> {
+}
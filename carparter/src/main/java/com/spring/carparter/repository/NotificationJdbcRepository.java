@@ -0,0 +1,57 @@
+package com.spring.carparter.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Notification 대량 저장 전용 JDBC Repository
+ * IDENTITY 전략의 엔티티는 Hibernate가 INSERT를 배치로 묶지 못하므로,
+ * 여러 수신자에게 같은 알림을 저장할 때는 JdbcTemplate 배치 INSERT를 사용합니다.
+ * (MySQL에서는 JDBC URL에 rewriteBatchedStatements=true를 주면 다중 VALUES 한 문장으로 전송됩니다.)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notification (message, is_read, url, create_time, receiver_id) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 같은 내용의 알림을 여러 수신자에게 한 번의 배치로 저장합니다.
+     *
+     * @param receiverIds 수신자 ID 목록 (한 청크)
+     * @param message     알림 내용
+     * @param url         이동할 프론트엔드 경로
+     * @param createTime  생성 시간
+     * @return 저장된 행 수
+     */
+    public int batchInsert(List<String> receiverIds, String message, String url, LocalDateTime createTime) {
+        Timestamp createdAt = Timestamp.valueOf(createTime);
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setString(1, message);
+                ps.setBoolean(2, false);
+                ps.setString(3, url);
+                ps.setTimestamp(4, createdAt);
+                ps.setString(5, receiverIds.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return receiverIds.size();
+            }
+        });
+        return receiverIds.size();
+    }
+}
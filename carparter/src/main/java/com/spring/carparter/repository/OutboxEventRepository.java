@@ -0,0 +1,24 @@
+package com.spring.carparter.repository;
+
+import com.spring.carparter.entity.OutboxEvent;
+import com.spring.carparter.entity.type.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 지금 전달할 수 있는 대기 이벤트의 ID를 오래된 순으로 조회합니다. (배치 크기는 pageable로 지정)
+     */
+    @Query("SELECT o.id FROM OutboxEvent o WHERE o.status = :status AND o.nextAttemptAt <= :now ORDER BY o.id")
+    List<Long> findDispatchableIds(@Param("status") OutboxStatus status,
+                                   @Param("now") LocalDateTime now,
+                                   Pageable pageable);
+
+    long countByStatus(OutboxStatus status);
+}
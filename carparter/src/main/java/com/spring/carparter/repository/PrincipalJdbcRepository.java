@@ -0,0 +1,45 @@
+package com.spring.carparter.repository;
+
+import com.spring.carparter.security.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 로그인 주체(사용자/카센터/관리자) 통합 조회 전용 JDBC Repository
+ * 세 계정 테이블을 PK로 한 번씩 찾는 UNION ALL 한 문장이라, 계정 종류와 상관없이 DB 왕복은 1회입니다.
+ * (로그인 ID는 세 테이블 사이에서 중복되지 않는다고 가정하며, 만약 겹치면 사용자 → 카센터 → 관리자 순으로 우선합니다.)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PrincipalJdbcRepository {
+
+    private static final String FIND_SQL =
+            "SELECT login_id, password, name, role, user_type FROM (" +
+            " SELECT user_id AS login_id, password, name, 'ROLE_USER' AS role, 'USER' AS user_type, 1 AS priority" +
+            "   FROM users WHERE user_id = ?" +
+            " UNION ALL" +
+            " SELECT center_id, password, center_name, 'ROLE_CAR_CENTER', 'CAR_CENTER', 2" +
+            "   FROM car_centers WHERE center_id = ?" +
+            " UNION ALL" +
+            " SELECT admin_id, password, name, 'ROLE_ADMIN', 'ADMIN', 3" +
+            "   FROM admin WHERE admin_id = ?" +
+            ") principals ORDER BY priority LIMIT 1";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<CustomUserDetails> findByLoginId(String loginId) {
+        List<CustomUserDetails> found = jdbcTemplate.query(FIND_SQL,
+                (rs, rowNum) -> new CustomUserDetails(
+                        rs.getString("login_id"),
+                        rs.getString("password"),
+                        rs.getString("name"),
+                        rs.getString("role"),
+                        rs.getString("user_type")),
+                loginId, loginId, loginId);
+        return found.stream().findFirst();
+    }
+}
@@ -2,6 +2,7 @@ package com.spring.carparter.repository;
 
 import com.spring.carparter.entity.QuoteRequest;
 import com.spring.carparter.entity.type.QuoteStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -88,4 +89,58 @@ public interface QuoteRequestRepository extends JpaRepository<QuoteRequest, Inte
             "WHERE qr.status = :status " + // ⬅️ 상태(status)를 기준으로 필터링하는 조건
             "ORDER BY qr.createdAt DESC")
     List<QuoteRequest> findByStatusWithDetails(@Param("status") QuoteStatus status);
-}
\ No newline at end of file
+
+    /**
+     * 카센터용 견적 요청 피드 첫 페이지 (최신순, 키셋 페이지네이션)
+     * 컬렉션(이미지)은 페치 조인하지 않으므로 LIMIT이 DB에서 그대로 적용됩니다.
+     */
+    @Query("SELECT qr FROM QuoteRequest qr " +
+            "JOIN FETCH qr.user u " +
+            "JOIN FETCH qr.userCar uc " +
+            "WHERE qr.status = :status " +
+            "ORDER BY qr.createdAt DESC, qr.requestId DESC")
+    List<QuoteRequest> findFeedFirstPage(@Param("status") QuoteStatus status, Pageable pageable);
+
+    /**
+     * 카센터용 견적 요청 피드 다음 페이지: 커서 (createdAt, requestId) 보다 오래된 요청
+     */
+    @Query("SELECT qr FROM QuoteRequest qr " +
+            "JOIN FETCH qr.user u " +
+            "JOIN FETCH qr.userCar uc " +
+            "WHERE qr.status = :status " +
+            "AND (qr.createdAt < :createdAt OR (qr.createdAt = :createdAt AND qr.requestId < :requestId)) " +
+            "ORDER BY qr.createdAt DESC, qr.requestId DESC")
+    List<QuoteRequest> findFeedAfter(@Param("status") QuoteStatus status,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("requestId") Integer requestId,
+                                     Pageable pageable);
+
+    /**
+     * 이미 조회한 견적 요청들의 이미지 컬렉션을 한 번의 쿼리로 초기화합니다. (같은 영속성 컨텍스트 안에서 호출)
+     */
+    @Query("SELECT DISTINCT qr FROM QuoteRequest qr LEFT JOIN FETCH qr.requestImages WHERE qr IN :quoteRequests")
+    List<QuoteRequest> fetchRequestImages(@Param("quoteRequests") List<QuoteRequest> quoteRequests);
+
+    /**
+     * 공간 인덱스 적재용: 특정 상태이면서 좌표가 있는 요청의 [requestId, latitude, longitude]만 조회합니다.
+     */
+    @Query("SELECT qr.requestId, qr.latitude, qr.longitude FROM QuoteRequest qr " +
+            "WHERE qr.status = :status AND qr.latitude IS NOT NULL AND qr.longitude IS NOT NULL")
+    List<Object[]> findLocationsByStatus(@Param("status") QuoteStatus status);
+
+    /**
+     * 지오코딩 백필용: 좌표가 없는 요청의 [requestId, address, status]를 ID 순으로 청크 단위 조회합니다. (키셋 페이지네이션)
+     */
+    @Query("SELECT qr.requestId, qr.address, qr.status FROM QuoteRequest qr " +
+            "WHERE (qr.latitude IS NULL OR qr.longitude IS NULL) AND qr.requestId > :lastRequestId ORDER BY qr.requestId")
+    List<Object[]> findMissingCoordinatesAfter(@Param("lastRequestId") Integer lastRequestId, Pageable pageable);
+
+    /**
+     * ID 목록으로 견적 요청을 사용자/차량 정보와 함께 조회합니다. (이미지는 fetchRequestImages로 별도 초기화)
+     */
+    @Query("SELECT qr FROM QuoteRequest qr " +
+            "JOIN FETCH qr.user u " +
+            "JOIN FETCH qr.userCar uc " +
+            "WHERE qr.requestId IN :requestIds")
+    List<QuoteRequest> findAllByIdWithDetails(@Param("requestIds") List<Integer> requestIds);
+}
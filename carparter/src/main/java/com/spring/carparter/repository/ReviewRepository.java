@@ -6,9 +6,14 @@ import com.spring.carparter.entity.Review;
 import org.springframework.data.jpa.repository.EntityGraph;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
 import java.util.List;
+import java.util.Optional;
 
 
 /**
@@ -41,5 +46,13 @@ public interface ReviewRepository extends JpaRepository<Review, Integer> {
     // ▼▼▼ 이 메소드를 추가하세요 ▼▼▼
     boolean existsByCompletedRepair_RepairId(Long repairId);
 
+    /**
+     * 리뷰 수정/삭제용: 리뷰 행을 잠그고 조회합니다.
+     * 같은 리뷰를 동시에 수정/삭제해도 이전 평점을 기준으로 한 집계 증감이 한 번씩만 반영됩니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Review r JOIN FETCH r.carCenter WHERE r.reviewId = :reviewId")
+    Optional<Review> findByIdForUpdate(@Param("reviewId") Integer reviewId);
+
 
 }
@@ -24,7 +24,22 @@ public interface UsedPartRepository extends JpaRepository<UsedPart, Integer> {
             "WHERE up.partId = :partId")
     Optional<UsedPart> findByIdWithImages(@Param("partId") Integer partId);
 
-    List<UsedPart> findByPartNameContainingIgnoreCase(String partName);
+    // 수정 전 소유자 확인용: 부품을 등록한 카센터 ID만 조회
+    @Query("SELECT up.carCenter.centerId FROM UsedPart up WHERE up.partId = :partId")
+    Optional<String> findCenterIdByPartId(@Param("partId") Integer partId);
+
+    // 검색 결과 페이지에 해당하는 부품들을 이미지/카센터와 함께 한 번에 조회
+    @Query("SELECT DISTINCT up FROM UsedPart up " +
+            "LEFT JOIN FETCH up.images " +
+            "JOIN FETCH up.carCenter " +
+            "WHERE up.partId IN :partIds")
+    List<UsedPart> findAllByIdWithImages(@Param("partIds") List<Integer> partIds);
+
+    // 검색 색인 적재용: [partId, partName, category, compatibleCarModel, description]만 키셋 청크로 조회
+    @Query("SELECT up.partId, up.partName, up.category, up.compatibleCarModel, up.description FROM UsedPart up " +
+            "WHERE up.partId > :lastPartId ORDER BY up.partId")
+    List<Object[]> findSearchFieldsAfter(@Param("lastPartId") Integer lastPartId, Pageable pageable);
+
     Page<UsedPart> findAllByOrderByCreatedAtDesc(Pageable pageable);
 
 
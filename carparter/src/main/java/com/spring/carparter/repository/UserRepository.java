@@ -1,8 +1,12 @@
 package com.spring.carparter.repository;
 
 import com.spring.carparter.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -26,8 +30,20 @@ public interface UserRepository extends JpaRepository<User, String> {
      */
     boolean existsByUserId(String userId);
     void deleteByUserId(String userId);
+
+    /** PK 조회와 같지만 쿼리라 2차 캐시를 거치지 않으므로, 쿼리 캐시에 ID를 두고 엔티티는 user 리전에서 읽습니다. */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "lookup-query")
+    })
     User findByUserId(String userId);
 
+    /**
+     * 채팅 발신자 이름 표시용: 사용자 이름 컬럼만 조회합니다.
+     */
+    @Query("SELECT u.name FROM User u WHERE u.userId = :userId")
+    Optional<String> findNameByUserId(@Param("userId") String userId);
+
     /**
      * 남여 성별 숫자를 가져옵니다.
      * 관리자에게 보여줄 데이터 입니다.
@@ -1,82 +1,79 @@
 package com.spring.carparter.security;
 
-import com.spring.carparter.entity.Admin;
-import com.spring.carparter.entity.CarCenter;
-import com.spring.carparter.entity.User;
-import com.spring.carparter.repository.AdminRepository;
-import com.spring.carparter.repository.CarCenterRepository;
-import com.spring.carparter.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.spring.carparter.repository.PrincipalJdbcRepository;
+import com.spring.carparter.service.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 로그인 ID로 사용자/카센터/관리자 계정을 찾는 서비스
+ *
+ * - 세 테이블을 차례로 findById 하던 것을 UNION ALL 조회 한 번(PrincipalJdbcRepository)으로 바꿔,
+ *   계정 종류와 상관없이 로그인 조회 비용이 같습니다.
+ * - 찾은 계정은 짧은 TTL 동안 캐시합니다. 비밀번호/이름 변경, 탈퇴 시에는 evict로 바로 지웁니다.
+ *   (없는 아이디는 캐시하지 않아 가입 직후 로그인에 영향이 없습니다)
+ */
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final UserRepository userRepository;
-    private final CarCenterRepository carCenterRepository;
-    private final AdminRepository adminRepository;
+    private final PrincipalJdbcRepository principalJdbcRepository;
+    private final long ttlMillis;
+    private final int maxEntries;
 
-    @Override
-    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        System.out.println("\n===== [시작] CustomUserDetailsService.loadUserByUsername =====");
-        System.out.println("요청받은 아이디: " + username);
-
-        // --- 1. Repository Null 체크 ---
-        if (userRepository == null || carCenterRepository == null || adminRepository == null) {
-            System.out.println("❌ [오류] Repository 중 하나가 null입니다!");
-            System.out.println("UserRepository is null: " + (userRepository == null));
-            System.out.println("CarCenterRepository is null: " + (carCenterRepository == null));
-            System.out.println("AdminRepository is null: " + (adminRepository == null));
-            System.out.println("===== [종료] CustomUserDetailsService =====");
-            throw new IllegalStateException("필수 Repository가 주입되지 않았습니다.");
-        }
-        System.out.println("✅ [확인] 모든 Repository가 정상적으로 주입되었습니다.");
-
-        // --- 2. 일반 사용자(User) 테이블에서 조회 ---
-        System.out.println("🔍 1단계: User 테이블에서 '" + username + "' 조회 시도...");
-        Optional<User> userOptional = userRepository.findById(username);
-        if (userOptional.isPresent()) {
-            User user = userOptional.get();
-            System.out.println("✅ [성공] User 테이블에서 사용자를 찾았습니다: " + user.getName());
-            System.out.println("===== [종료] CustomUserDetailsService =====");
-            return new CustomUserDetails(user.getUserId(), user.getPassword(), user.getName(), "ROLE_USER", "USER");
-        }
-        System.out.println("... User 테이블에 해당 아이디 없음.");
+    private final Map<String, CachedPrincipal> cache = new ConcurrentHashMap<>();
 
+    public CustomUserDetailsService(PrincipalJdbcRepository principalJdbcRepository,
+                                    @Value("${security.principal-cache.ttl-seconds:30}") long ttlSeconds,
+                                    @Value("${security.principal-cache.max-entries:10000}") int maxEntries) {
+        this.principalJdbcRepository = principalJdbcRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxEntries = maxEntries;
+    }
 
-        // --- 3. 카센터(CarCenter) 테이블에서 조회 ---
-        System.out.println("🔍 2단계: CarCenter 테이블에서 '" + username + "' 조회 시도...");
-        Optional<CarCenter> carCenterOptional = carCenterRepository.findById(username);
-        if (carCenterOptional.isPresent()) {
-            CarCenter carCenter = carCenterOptional.get();
-            System.out.println("✅ [성공] CarCenter 테이블에서 사용자를 찾았습니다: " + carCenter.getCenterName());
-            System.out.println("===== [종료] CustomUserDetailsService =====");
-            return new CustomUserDetails(carCenter.getCenterId(), carCenter.getPassword(), carCenter.getCenterName(), "ROLE_CAR_CENTER", "CAR_CENTER");
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        long now = System.currentTimeMillis();
+        CachedPrincipal cached = cache.get(username);
+        if (cached != null && cached.expiresAt() > now) {
+            log.debug("계정 조회 캐시 적중: loginId={}, type={}", username, cached.principal().getUserType());
+            return cached.principal();
         }
-        System.out.println("... CarCenter 테이블에 해당 아이디 없음.");
 
+        CustomUserDetails principal = principalJdbcRepository.findByLoginId(username)
+                .orElseThrow(() -> {
+                    log.debug("계정 조회 실패: loginId={}", username);
+                    return new UsernameNotFoundException("User not found: " + username);
+                });
 
-        // --- 4. 관리자(Admin) 테이블에서 조회 ---
-        System.out.println("🔍 3단계: Admin 테이블에서 '" + username + "' 조회 시도...");
-        Optional<Admin> adminOptional = adminRepository.findById(username);
-        if (adminOptional.isPresent()) {
-            Admin admin = adminOptional.get();
-            System.out.println("✅ [성공] Admin 테이블에서 사용자를 찾았습니다: " + admin.getName());
-            System.out.println("===== [종료] CustomUserDetailsService =====");
-            return new CustomUserDetails(admin.getAdminId(), admin.getPassword(), admin.getName(), "ROLE_ADMIN", "ADMIN");
+        if (ttlMillis > 0) {
+            if (cache.size() >= maxEntries) {
+                cache.values().removeIf(entry -> entry.expiresAt() <= now);
+                if (cache.size() >= maxEntries) {
+                    cache.clear();
+                }
+            }
+            cache.put(username, new CachedPrincipal(principal, now + ttlMillis));
         }
-        System.out.println("... Admin 테이블에 해당 아이디 없음.");
-
+        log.debug("계정 조회: loginId={}, type={}", username, principal.getUserType());
+        return principal;
+    }
 
-        // --- 5. 모든 테이블에서 사용자를 찾지 못한 경우 ---
-        System.out.println("❌ [실패] 모든 테이블에서 '" + username + "' 사용자를 찾을 수 없습니다.");
-        System.out.println("===== [종료] CustomUserDetailsService =====");
-        throw new UsernameNotFoundException("User not found: " + username);
+    /**
+     * 계정 정보(비밀번호/이름)가 바뀌었거나 탈퇴한 경우 캐시에서 지웁니다.
+     * 커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 후에도 한 번 더 지웁니다.
+     */
+    public void evict(String loginId) {
+        cache.remove(loginId);
+        AfterCommit.run(() -> cache.remove(loginId));
     }
-}
\ No newline at end of file
+
+    private record CachedPrincipal(CustomUserDetails principal, long expiresAt) {}
+}
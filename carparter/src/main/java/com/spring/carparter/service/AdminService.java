@@ -3,6 +3,7 @@ package com.spring.carparter.service;
 import com.spring.carparter.dto.*;
 import com.spring.carparter.entity.*;
 import com.spring.carparter.repository.*;
+import com.spring.carparter.security.CustomUserDetailsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +24,8 @@ public class AdminService {
     private final CarCenterApprovalRepository carCenterApprovalRepository;
     private final CsInquiryRepository csInquiryRepository;
     private final AnnouncementRepository announcementRepository;
+    private final CarCenterGeoIndex carCenterGeoIndex;
+    private final CustomUserDetailsService customUserDetailsService;
 
 
 
@@ -122,6 +125,8 @@ public class AdminService {
 
         // 4. 이제 부모(CarCenter)를 안전하게 삭제할 수 있습니다.
         carCenterRepository.deleteById(centerIdToDelete);
+        carCenterGeoIndex.remove(centerIdToDelete);
+        customUserDetailsService.evict(centerIdToDelete);
 
         // 반환 메시지를 좀 더 명확하게 바꿔주는 것이 좋습니다.
         return "회원가입 요청이 반려 처리되었으며, 관련 정보가 삭제되었습니다.";
@@ -140,6 +145,7 @@ public class AdminService {
                 .orElseThrow( () -> new RuntimeException(centerApproval.getCenterId() + "찾지 못하였습니다."));
 
         fCenter.setStatus(CarCenterStatus.ACTIVE);
+        carCenterGeoIndex.changeStatus(fCenter.getCenterId(), CarCenterStatus.ACTIVE);
         carCenterApprovalRepository.deleteById(approvalId);
     }
 
@@ -0,0 +1,72 @@
+package com.spring.carparter.service;
+
+import com.spring.carparter.entity.CarCenterStatus;
+import com.spring.carparter.repository.CarCenterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 카센터 위치 공간 인덱스
+ *
+ * - 애플리케이션 기동 시 좌표가 있는 카센터를 한 번에 적재합니다.
+ * - 가입/정보 수정/승인/삭제 시 서비스에서 호출해 인덱스를 갱신합니다.
+ *   트랜잭션 안에서 호출되면 커밋 이후에 반영하여, 롤백된 변경이 검색에 노출되지 않도록 합니다.
+ * - 검색에는 승인(ACTIVE)된 카센터만 노출됩니다. (searchCenters의 isApproved 조건과 동일)
+ */
+@Component
+@Slf4j
+public class CarCenterGeoIndex {
+
+    private final CarCenterRepository carCenterRepository;
+    private final GeoGridIndex index;
+
+    public CarCenterGeoIndex(CarCenterRepository carCenterRepository,
+                             @Value("${geo.index.cell-size-deg:0.02}") double cellSizeDeg) {
+        this.carCenterRepository = carCenterRepository;
+        this.index = new GeoGridIndex(cellSizeDeg);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        log.info("===== [START] 카센터 공간 인덱스 적재 =====");
+        long startNanos = System.nanoTime();
+        List<Object[]> rows = carCenterRepository.findAllLocations();
+        for (Object[] row : rows) {
+            index.upsert((String) row[0], (Double) row[1], (Double) row[2], row[3] == CarCenterStatus.ACTIVE);
+        }
+        log.info("===== [END] 카센터 공간 인덱스 적재: {}건, {}ms =====",
+                index.size(), (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /** 좌표가 없는 카센터는 인덱스에서 제외합니다. */
+    public void upsert(String centerId, Double latitude, Double longitude, CarCenterStatus status) {
+        if (latitude == null || longitude == null) {
+            AfterCommit.run(() -> index.remove(centerId));
+            return;
+        }
+        AfterCommit.run(() -> index.upsert(centerId, latitude, longitude, status == CarCenterStatus.ACTIVE));
+    }
+
+    public void changeStatus(String centerId, CarCenterStatus status) {
+        AfterCommit.run(() -> index.setVisible(centerId, status == CarCenterStatus.ACTIVE));
+    }
+
+    public void remove(String centerId) {
+        AfterCommit.run(() -> index.remove(centerId));
+    }
+
+    /** 반경(km) 안의 승인된 카센터를 가까운 순으로 조회합니다. */
+    public List<GeoGridIndex.Hit> withinRadius(double latitude, double longitude, double radiusKm, int limit) {
+        return index.withinRadius(latitude, longitude, radiusKm, limit);
+    }
+
+    /** 가장 가까운 승인된 카센터 k곳을 조회합니다. (maxRadiusKm 밖은 제외) */
+    public List<GeoGridIndex.Hit> nearest(double latitude, double longitude, int k, double maxRadiusKm) {
+        return index.nearest(latitude, longitude, k, maxRadiusKm);
+    }
+}
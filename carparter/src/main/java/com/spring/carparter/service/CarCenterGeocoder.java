@@ -0,0 +1,77 @@
+package com.spring.carparter.service;
+
+import com.spring.carparter.dto.Coordinates;
+import com.spring.carparter.repository.CarCenterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 카센터 주소의 좌표를 요청 스레드 밖에서 채웁니다.
+ *
+ * - 가입/주소 수정 트랜잭션이 커밋된 뒤 geocodingExecutor에서 GeocodingService로 좌표를 조회하고,
+ *   카센터 주소가 그대로일 때만 좌표를 써넣은 뒤 공간 인덱스를 갱신합니다.
+ * - 실패하거나 결과가 없으면 좌표는 비어 있는 채로 남습니다. (가입/수정 응답에는 영향 없음)
+ */
+@Component
+@Slf4j
+public class CarCenterGeocoder {
+
+    private final GeocodingService geocodingService;
+    private final CarCenterRepository carCenterRepository;
+    private final CarCenterGeoIndex carCenterGeoIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor geocodingExecutor;
+
+    public CarCenterGeocoder(GeocodingService geocodingService,
+                             CarCenterRepository carCenterRepository,
+                             CarCenterGeoIndex carCenterGeoIndex,
+                             TransactionTemplate transactionTemplate,
+                             @Qualifier("geocodingExecutor") Executor geocodingExecutor) {
+        this.geocodingService = geocodingService;
+        this.carCenterRepository = carCenterRepository;
+        this.carCenterGeoIndex = carCenterGeoIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.geocodingExecutor = geocodingExecutor;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 비동기로 좌표를 조회해 반영합니다. (트랜잭션 밖이면 바로 예약)
+     */
+    public void geocodeAfterCommit(String centerId, String address) {
+        AfterCommit.run(() -> geocodingExecutor.execute(() -> geocode(centerId, address)));
+    }
+
+    private void geocode(String centerId, String address) {
+        Coordinates coords;
+        try {
+            coords = geocodingService.getCoordinates(address).block();
+        } catch (RuntimeException e) {
+            log.warn(" -> 카센터 '{}' 좌표 조회 실패, 좌표 없이 둡니다: {}", centerId, e.toString());
+            return;
+        }
+        if (coords == null) {
+            log.warn(" -> 카센터 '{}' 주소의 좌표를 찾을 수 없습니다: {}", centerId, address);
+            return;
+        }
+
+        Boolean applied = transactionTemplate.execute(status -> {
+            int updated = carCenterRepository.updateCoordinatesIfAddress(
+                    centerId, address, coords.getLatitude(), coords.getLongitude());
+            if (updated == 0) {
+                return false;
+            }
+            carCenterRepository.findStatusById(centerId).ifPresent(centerStatus ->
+                    carCenterGeoIndex.upsert(centerId, coords.getLatitude(), coords.getLongitude(), centerStatus));
+            return true;
+        });
+        if (Boolean.TRUE.equals(applied)) {
+            log.info(" -> 카센터 '{}' 좌표 반영: 위도({}), 경도({})", centerId, coords.getLatitude(), coords.getLongitude());
+        } else {
+            log.debug(" -> 카센터 '{}' 주소가 바뀌었거나 삭제되어 좌표를 반영하지 않습니다.", centerId);
+        }
+    }
+}
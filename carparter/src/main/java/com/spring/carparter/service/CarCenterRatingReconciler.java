@@ -0,0 +1,82 @@
+package com.spring.carparter.service;
+
+import com.spring.carparter.repository.CarCenterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 카센터 리뷰 집계(reviewCount/ratingSum/ratingAvg) 재계산 작업
+ *
+ * - 평소에는 ReviewService가 리뷰 작성/수정/삭제 때 원자적 UPDATE로 증감만 반영합니다.
+ * - 이 작업은 reviews 테이블에서 집계를 다시 구해 덮어써서, 증감 경로 밖에서 생긴 차이
+ *   (직접 SQL 수정, 집계 컬럼 추가 전 데이터 등)를 바로잡습니다.
+ * - 카센터 ID 키셋으로 batch-size곳씩 나눠, 배치마다 UPDATE 한 문장(트랜잭션 1개)으로 처리합니다.
+ */
+@Service
+@Slf4j
+public class CarCenterRatingReconciler {
+
+    private final CarCenterRepository carCenterRepository;
+    private final TaskExecutor batchJobExecutor;
+    private final int batchSize;
+    private final boolean reconcileOnStartup;
+
+    public CarCenterRatingReconciler(CarCenterRepository carCenterRepository,
+                                     @Qualifier("batchJobExecutor") TaskExecutor batchJobExecutor,
+                                     @Value("${review.aggregate.reconcile-batch-size:500}") int batchSize,
+                                     @Value("${review.aggregate.reconcile-on-startup:true}") boolean reconcileOnStartup) {
+        this.carCenterRepository = carCenterRepository;
+        this.batchJobExecutor = batchJobExecutor;
+        this.batchSize = batchSize;
+        this.reconcileOnStartup = reconcileOnStartup;
+    }
+
+    /** 집계 컬럼이 막 추가된 배포에서도 검색 정렬이 바로 맞도록 시작 시 한 번 재계산합니다. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (reconcileOnStartup) {
+            reconcileAll();
+        }
+    }
+
+    @Scheduled(cron = "${review.aggregate.reconcile-cron:0 0 5 * * *}")
+    public void scheduleReconcile() {
+        batchJobExecutor.execute(this::reconcileAll);
+    }
+
+    public void reconcileAll() {
+        log.info("===== [START] 카센터 리뷰 집계 재계산 =====");
+        long startNanos = System.nanoTime();
+
+        String lastCenterId = "";
+        int centers = 0;
+        while (true) {
+            List<String> centerIds = carCenterRepository.findCenterIdsAfter(lastCenterId, PageRequest.of(0, batchSize));
+            if (centerIds.isEmpty()) {
+                break;
+            }
+            try {
+                carCenterRepository.recomputeReviewAggregates(centerIds);
+            } catch (RuntimeException e) {
+                // 한 배치의 실패가 나머지 배치를 막지 않도록 하고, 다음 실행에서 다시 계산합니다.
+                log.error(" -> 리뷰 집계 재계산 실패 ({} ~ {})", centerIds.get(0), centerIds.get(centerIds.size() - 1), e);
+            }
+            centers += centerIds.size();
+            lastCenterId = centerIds.get(centerIds.size() - 1);
+            if (centerIds.size() < batchSize) {
+                break;
+            }
+        }
+        log.info("===== [END] 카센터 리뷰 집계 재계산: {}곳, {}ms =====",
+                centers, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+}
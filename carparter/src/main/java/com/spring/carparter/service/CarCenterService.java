@@ -3,6 +3,7 @@ package com.spring.carparter.service;
 import com.spring.carparter.dto.CarCenterReqDTO;
 import com.spring.carparter.dto.CarCenterResDTO;
 import com.spring.carparter.dto.Coordinates;
+import com.spring.carparter.dto.NearbyCarCenterResDTO;
 import com.spring.carparter.dto.QuoteRequestResDTO;
 import com.spring.carparter.entity.CarCenter;
 import com.spring.carparter.entity.CarCenterApproval;
@@ -10,6 +11,7 @@ import com.spring.carparter.exception.DuplicateException;
 import com.spring.carparter.repository.CarCenterApprovalRepository;
 import com.spring.carparter.repository.CarCenterRepository;
 import com.spring.carparter.repository.CarCenterSpecification;
+import com.spring.carparter.security.CustomUserDetailsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
@@ -19,6 +21,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,11 +32,20 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CarCenterService {
 
+    /** 주변 검색 반경 상한(km). 반경 검색은 이 값으로 잘라내고, k-최근접 검색도 이보다 먼 카센터는 찾지 않습니다. */
+    private static final double MAX_NEARBY_RADIUS_KM = 50.0;
+    /** 주변 검색 결과 수 범위 */
+    private static final int MAX_NEARBY_LIMIT = 100;
+
     private final CarCenterRepository carCenterRepository;
     private final GeocodingService geocodingService;
+    private final CarCenterGeocoder carCenterGeocoder;
     private final CarCenterApprovalRepository carCenterApprovalRepository;
     private final PasswordEncoder passwordEncoder; // ✅ 1. PasswordEncoder 의존성 주입
     private final QuoteRequestService quoteRequestService;
+    private final CarCenterGeoIndex carCenterGeoIndex;
+    private final SenderNameCache senderNameCache;
+    private final CustomUserDetailsService customUserDetailsService;
 
 
     public List<CarCenterResDTO> searchCenters(String keyword, String category, String district, String sort) {
@@ -46,20 +61,18 @@ public class CarCenterService {
         // ... category 필터링도 같은 방식으로 추가할 수 있습니다.
 
         // 2. 정렬 조건을 만듭니다.
+        //    평점/리뷰 수는 CarCenter의 집계 컬럼으로 정렬합니다. (status + 집계 컬럼 인덱스를 그대로 사용)
         Sort sortOrder;
         switch (sort) {
             case "review":
-                // TODO: 리뷰 개수(totalReviews) 필드가 CarCenter 엔티티에 추가되어야 합니다.
-                // sortOrder = Sort.by(Sort.Direction.DESC, "totalReviews");
-                sortOrder = Sort.by(Sort.Direction.DESC, "centerId"); // 임시 정렬
+                sortOrder = Sort.by(Sort.Direction.DESC, "reviewCount", "ratingAvg", "centerId");
                 break;
             case "name":
                 sortOrder = Sort.by(Sort.Direction.ASC, "centerName");
                 break;
             case "rating":
             default:
-                // TODO: 평점(rating) 필드가 CarCenter 엔티티에 추가되어야 합니다.
-                sortOrder = Sort.by(Sort.Direction.DESC, "centerId"); // 임시 정렬
+                sortOrder = Sort.by(Sort.Direction.DESC, "ratingAvg", "reviewCount", "centerId");
                 break;
         }
 
@@ -98,18 +111,16 @@ public class CarCenterService {
         CarCenter carCenter = requestDto.toEntity();
         log.info("-> Entity 변환 완료: {}", carCenter.getCenterName());
 
-        log.info("4. 주소 좌표 변환(지오코딩) 시작: {}", requestDto.getAddress());
-        try {
-            Coordinates coords = geocodingService.getCoordinates(requestDto.getAddress()).block();
-            if (coords != null) {
-                carCenter.updateCoordinates(coords.getLatitude(), coords.getLongitude());
-                log.info("-> 좌표 변환 성공: 위도({}), 경도({})", coords.getLatitude(), coords.getLongitude());
-            } else {
-                log.warn("-> 좌표를 찾을 수 없음: 주소 - {}", requestDto.getAddress());
-            }
-        } catch (Exception e) {
-            log.error("-> 좌표 변환 중 오류 발생", e);
-
+        log.info("4. 주소 좌표 확인 (캐시): {}", requestDto.getAddress());
+        // 캐시에 있는 주소는 바로 채우고, 없으면 커밋 후 비동기로 조회해 반영합니다. (가입 응답이 외부 API를 기다리지 않음)
+        boolean geocodeLater = true;
+        Optional<Coordinates> cachedCoords = geocodingService.findCached(requestDto.getAddress());
+        if (cachedCoords.isPresent()) {
+            carCenter.updateCoordinates(cachedCoords.get().getLatitude(), cachedCoords.get().getLongitude());
+            geocodeLater = false;
+            log.info("-> 캐시된 좌표 사용: 위도({}), 경도({})", carCenter.getLatitude(), carCenter.getLongitude());
+        } else {
+            log.info("-> 캐시에 없어 커밋 후 비동기로 조회합니다.");
         }
 
         log.info("5. 비밀번호 암호화 시작.");
@@ -119,6 +130,8 @@ public class CarCenterService {
         log.info("6. DB에 카센터 정보 저장 시작.");
         CarCenter savedCarCenter = carCenterRepository.save(carCenter);
         log.info("-> 카센터 정보 저장 완료: {}", savedCarCenter.getCenterId());
+        carCenterGeoIndex.upsert(savedCarCenter.getCenterId(), savedCarCenter.getLatitude(),
+                savedCarCenter.getLongitude(), savedCarCenter.getStatus());
 
         log.info("7. 승인 정보 생성 및 저장 시작.");
         CarCenterApproval approval = CarCenterApproval.builder()
@@ -127,6 +140,10 @@ public class CarCenterService {
         carCenterApprovalRepository.save(approval);
         log.info("-> 승인 정보 저장 완료.");
 
+        if (geocodeLater) {
+            carCenterGeocoder.geocodeAfterCommit(savedCarCenter.getCenterId(), savedCarCenter.getAddress());
+        }
+
         CarCenterResDTO responseDto = CarCenterResDTO.from(savedCarCenter);
         log.info("========== [SUCCESS] CarCenter Register Service ==========");
         return responseDto;
@@ -176,12 +193,18 @@ public class CarCenterService {
                 .orElseThrow(() -> new IllegalArgumentException("수정할 카센터를 찾을 수 없습니다. id=" + centerId));
 
         if (requestDto.getAddress() != null && !requestDto.getAddress().equals(carCenter.getAddress())) {
-            Coordinates coords = geocodingService.getCoordinates(requestDto.getAddress()).block();
-            if (coords != null) {
-                carCenter.updateCoordinates(coords.getLatitude(), coords.getLongitude());
+            // 이전 주소의 좌표는 더 이상 맞지 않으므로 비우고, 캐시에 없으면 커밋 후 비동기로 채웁니다.
+            Optional<Coordinates> cachedCoords = geocodingService.findCached(requestDto.getAddress());
+            carCenter.updateCoordinates(cachedCoords.map(Coordinates::getLatitude).orElse(null),
+                    cachedCoords.map(Coordinates::getLongitude).orElse(null));
+            carCenterGeoIndex.upsert(centerId, carCenter.getLatitude(), carCenter.getLongitude(), carCenter.getStatus());
+            if (cachedCoords.isEmpty()) {
+                carCenterGeocoder.geocodeAfterCommit(centerId, requestDto.getAddress());
             }
         }
         carCenter.updateInfo(requestDto);
+        senderNameCache.evictCarCenter(centerId);
+        customUserDetailsService.evict(centerId);
         return CarCenterResDTO.from(carCenter);
     }
 
@@ -194,6 +217,40 @@ public class CarCenterService {
             throw new IllegalArgumentException("삭제할 카센터를 찾을 수 없습니다. id=" + centerId);
         }
         carCenterRepository.deleteById(centerId);
+        carCenterGeoIndex.remove(centerId);
+        senderNameCache.evictCarCenter(centerId);
+        customUserDetailsService.evict(centerId);
+    }
+
+    /**
+     * 7. 주변 카센터 검색 (공간 인덱스 사용)
+     * - radiusKm가 있으면 반경 검색, 없으면 가장 가까운 limit곳을 찾는 k-최근접 검색입니다.
+     * - 인덱스에서 ID와 거리를 얻은 뒤, 카센터 정보는 PK IN 조회 한 번으로 가져옵니다.
+     */
+    @Transactional(readOnly = true)
+    public List<NearbyCarCenterResDTO> findNearbyCenters(double latitude, double longitude, Double radiusKm, int limit) {
+        // 공개 API라 반경/개수에 상한을 둡니다. (반경이 크면 인덱스가 방문할 셀 수가 제곱으로 늘어남)
+        GeoGridIndex.checkCoordinates(latitude, longitude);
+        int boundedLimit = Math.min(Math.max(limit, 1), MAX_NEARBY_LIMIT);
+        List<GeoGridIndex.Hit> hits = (radiusKm != null)
+                ? carCenterGeoIndex.withinRadius(latitude, longitude, Math.min(Math.max(radiusKm, 0), MAX_NEARBY_RADIUS_KM), boundedLimit)
+                : carCenterGeoIndex.nearest(latitude, longitude, boundedLimit, MAX_NEARBY_RADIUS_KM);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, CarCenter> centers = carCenterRepository.findAllById(hits.stream().map(GeoGridIndex.Hit::id).toList())
+                .stream()
+                .collect(Collectors.toMap(CarCenter::getCenterId, Function.identity()));
+
+        // 인덱스가 반환한 거리 순서를 유지합니다. (그 사이 삭제된 카센터는 건너뜀)
+        return hits.stream()
+                .map(hit -> {
+                    CarCenter center = centers.get(hit.id());
+                    return center == null ? null : new NearbyCarCenterResDTO(CarCenterResDTO.from(center), hit.distanceKm());
+                })
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
 
@@ -0,0 +1,284 @@
+package com.spring.carparter.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.spring.carparter.document.ChatArchiveDocument;
+import com.spring.carparter.document.ChatMessageDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 채팅 기록 보관(archive) 계층
+ *
+ * - 매일 새벽, archive-after-days보다 오래된 메시지를 방별로 bundle-size건씩 묶어
+ *   gzip 압축 JSON-lines로 chat_archives 컬렉션에 옮깁니다. (hot 컬렉션과 인덱스를 작게 유지)
+ * - 묶음을 저장한 메시지에는 archivedAt을 찍고, messages.archivedAt TTL 인덱스(purge-delay-minutes)가 지웁니다.
+ *   TTL은 보관 작업이 찍은 표시에만 걸리므로, 보관 작업이 멈춰도 보관되지 않은 메시지가 지워지는 일은 없습니다.
+ * - 묶음 ID가 (방, 첫/마지막 메시지 ID)로 정해져 있어 중간에 실패해도 다시 실행하면 같은 묶음을 덮어씁니다.
+ * - 보관 중 방이 삭제되면(ChatLifecycleService.purgeRoomData) 그 방의 묶음이 남지 않도록, 닫힌 방 표시를
+ *   묶음 저장 전후로 확인합니다. 저장 후에 닫힌 것이 보이면 방금 쓴 묶음을 지웁니다. (표시 → 메시지/묶음 삭제 순서)
+ * - 기록 조회(ChatHistoryService)는 hot 컬렉션에서 모자란 만큼을 readBefore로 이어서 읽습니다.
+ */
+@Service
+@Slf4j
+public class ChatArchiveService {
+
+    /** 보관 작업만 찍는 messages 필드 (ChatMessageDocument에는 두지 않아 보관 묶음 JSON에 섞이지 않음) */
+    static final String ARCHIVED_AT_FIELD = "archivedAt";
+    private static final String LEGACY_SENT_AT_TTL_INDEX = "sent_at_ttl_idx";
+
+    private final MongoTemplate mongoTemplate;
+    private final ChatRoomSummaryStore chatRoomSummaryStore;
+    private final TaskExecutor batchJobExecutor;
+    private final ObjectWriter messageWriter;
+    private final ObjectReader messageReader;
+    private final int archiveAfterDays;
+    private final int bundleSize;
+    private final int purgeDelayMinutes;
+
+    private final Counter archivedMessagesCounter;
+    private final Counter archivedBundlesCounter;
+
+    public ChatArchiveService(MongoTemplate mongoTemplate,
+                              ChatRoomSummaryStore chatRoomSummaryStore,
+                              ObjectMapper objectMapper,
+                              @Qualifier("batchJobExecutor") TaskExecutor batchJobExecutor,
+                              @Value("${chat.archive.after-days:30}") int archiveAfterDays,
+                              @Value("${chat.archive.bundle-size:1000}") int bundleSize,
+                              @Value("${chat.archive.purge-delay-minutes:10}") int purgeDelayMinutes,
+                              MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.chatRoomSummaryStore = chatRoomSummaryStore;
+        this.batchJobExecutor = batchJobExecutor;
+        this.messageWriter = objectMapper.writerFor(ChatMessageDocument.class);
+        this.messageReader = objectMapper.readerFor(ChatMessageDocument.class);
+        this.archiveAfterDays = archiveAfterDays;
+        this.bundleSize = bundleSize;
+        this.purgeDelayMinutes = purgeDelayMinutes;
+
+        this.archivedMessagesCounter = meterRegistry.counter("chat.archive.messages");
+        this.archivedBundlesCounter = meterRegistry.counter("chat.archive.bundles");
+    }
+
+    /**
+     * messages 인덱스를 보장합니다.
+     * - sent_at_idx: 보관 대상 방을 찾는 sentAt 범위 조회용
+     * - archived_at_ttl_idx: 보관이 끝난 메시지만 지우는 TTL
+     * 예전에 만든 sentAt TTL(sent_at_ttl_idx)은 보관 전 메시지를 지울 수 있으므로 있으면 내립니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureHotIndexes() {
+        IndexOperations indexOps = mongoTemplate.indexOps(ChatMessageDocument.class);
+        try {
+            if (indexOps.getIndexInfo().stream().anyMatch(info -> LEGACY_SENT_AT_TTL_INDEX.equals(info.getName()))) {
+                indexOps.dropIndex(LEGACY_SENT_AT_TTL_INDEX);
+                log.info("messages의 sentAt TTL 인덱스({})를 내렸습니다.", LEGACY_SENT_AT_TTL_INDEX);
+            }
+            indexOps.createIndex(new Index().on("sentAt", Sort.Direction.ASC).named("sent_at_idx"));
+            indexOps.createIndex(new Index()
+                    .on(ARCHIVED_AT_FIELD, Sort.Direction.ASC)
+                    .named("archived_at_ttl_idx")
+                    .expire(Duration.ofMinutes(purgeDelayMinutes)));
+        } catch (RuntimeException e) {
+            // 기존 TTL과 값이 다르면 충돌합니다. (운영에서는 collMod로 expireAfterSeconds 변경)
+            log.error("messages 인덱스 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${chat.archive.cron:0 30 3 * * *}")
+    public void scheduleArchive() {
+        batchJobExecutor.execute(this::archiveOldMessages);
+    }
+
+    public void archiveOldMessages() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(archiveAfterDays);
+        log.info("===== [START] 채팅 기록 보관: {} 이전 메시지 =====", cutoff);
+        long startNanos = System.nanoTime();
+
+        List<Integer> roomIds = mongoTemplate.findDistinct(
+                Query.query(Criteria.where("sentAt").lt(cutoff).and(ARCHIVED_AT_FIELD).exists(false)),
+                "roomId", ChatMessageDocument.class, Integer.class);
+        long archived = 0;
+        for (Integer roomId : roomIds) {
+            try {
+                archived += archiveRoom(roomId, cutoff);
+            } catch (RuntimeException e) {
+                // 한 방의 실패가 나머지 방의 보관을 막지 않도록 하고, 다음 실행에서 다시 시도합니다.
+                log.error(" -> 채팅방 {} 보관 실패", roomId, e);
+            }
+        }
+        log.info("===== [END] 채팅 기록 보관: 방 {}개, 메시지 {}건, {}ms =====",
+                roomIds.size(), archived, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /**
+     * 한 방의 기준 시각 이전 메시지를 오래된 순으로 묶어 보관합니다.
+     * 닫힌(삭제된) 방은 보관하지 않습니다.
+     *
+     * @return 보관한 메시지 수
+     */
+    int archiveRoom(Integer roomId, LocalDateTime cutoff) {
+        if (isClosed(roomId)) {
+            log.info(" -> 채팅방 {}은 닫힌 방이라 보관하지 않습니다.", roomId);
+            return 0;
+        }
+        Query oldest = Query.query(Criteria.where("roomId").is(roomId).and("sentAt").lt(cutoff)
+                        .and(ARCHIVED_AT_FIELD).exists(false))
+                .with(Sort.by(Sort.Order.asc("sentAt"), Sort.Order.asc("id")))
+                .limit(bundleSize);
+        int archived = 0;
+        while (true) {
+            List<ChatMessageDocument> chunk = mongoTemplate.find(oldest, ChatMessageDocument.class);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            ChatMessageDocument first = chunk.get(0);
+            ChatMessageDocument last = chunk.get(chunk.size() - 1);
+            // 보관 묶음을 먼저 저장하고 나서 hot 메시지에 보관 표시를 찍습니다. (그 사이 실패하면 다음 실행에서 같은 묶음을 덮어씀)
+            String bundleId = roomId + ":" + first.getId() + ":" + last.getId();
+            mongoTemplate.save(ChatArchiveDocument.builder()
+                    .id(bundleId)
+                    .roomId(roomId)
+                    .firstSentAt(first.getSentAt())
+                    .firstMessageId(first.getId())
+                    .lastSentAt(last.getSentAt())
+                    .lastMessageId(last.getId())
+                    .messageCount(chunk.size())
+                    .data(compress(chunk))
+                    .archivedAt(LocalDateTime.now())
+                    .build());
+            // 저장하는 사이 방이 삭제됐다면 정리 작업이 이 묶음을 못 봤을 수 있으므로 직접 지웁니다.
+            if (isClosed(roomId)) {
+                mongoTemplate.remove(Query.query(Criteria.where("id").is(bundleId)), ChatArchiveDocument.class);
+                log.info(" -> 채팅방 {}이 보관 중 닫혀 방금 저장한 묶음을 지웠습니다.", roomId);
+                return archived;
+            }
+            List<String> ids = chunk.stream().map(ChatMessageDocument::getId).toList();
+            // 표시된 메시지는 TTL이 지우며, 그 전까지는 기록 조회에 hot 쪽으로 그대로 보입니다. (보관 쪽과 겹쳐 읽히지 않음)
+            mongoTemplate.updateMulti(Query.query(Criteria.where("id").in(ids)),
+                    new Update().set(ARCHIVED_AT_FIELD, LocalDateTime.now()), ChatMessageDocument.class);
+
+            archived += chunk.size();
+            archivedMessagesCounter.increment(chunk.size());
+            archivedBundlesCounter.increment();
+            if (chunk.size() < bundleSize) {
+                break;
+            }
+        }
+        return archived;
+    }
+
+    /**
+     * 보관된 메시지 중 boundary보다 이전 것을 최근 순으로 최대 limit건 읽습니다.
+     * 필요한 묶음만 최근 묶음부터 하나씩 풀어 읽습니다.
+     *
+     * @param boundary 이보다 이전 메시지만 (null이면 보관된 가장 최근 메시지부터)
+     */
+    List<ChatMessageDocument> readBefore(Integer roomId, ChatCursor boundary, int limit) {
+        List<ChatMessageDocument> newestFirst = new ArrayList<>(limit);
+        Criteria criteria = Criteria.where("roomId").is(roomId);
+        if (boundary != null) {
+            criteria = criteria.and("firstSentAt").lte(boundary.sentAt());
+        }
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Order.desc("lastSentAt"), Sort.Order.desc("lastMessageId")));
+
+        try (Stream<ChatArchiveDocument> bundles = mongoTemplate.stream(query, ChatArchiveDocument.class)) {
+            for (ChatArchiveDocument bundle : (Iterable<ChatArchiveDocument>) bundles::iterator) {
+                List<ChatMessageDocument> messages = decompress(bundle.getData());
+                for (int i = messages.size() - 1; i >= 0 && newestFirst.size() < limit; i--) {
+                    ChatMessageDocument message = messages.get(i);
+                    if (boundary == null || isBefore(message, boundary)) {
+                        newestFirst.add(message);
+                    }
+                }
+                if (newestFirst.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return newestFirst;
+    }
+
+    /** 방이 삭제될 때 보관 묶음도 함께 지웁니다. */
+    public void deleteByRoomIds(Collection<Integer> roomIds) {
+        if (!roomIds.isEmpty()) {
+            mongoTemplate.remove(Query.query(Criteria.where("roomId").in(roomIds)), ChatArchiveDocument.class);
+        }
+    }
+
+    // == 내부 헬퍼 == //
+
+    private boolean isClosed(Integer roomId) {
+        return !chatRoomSummaryStore.findClosedRoomIds(List.of(roomId)).isEmpty();
+    }
+
+    private static boolean isBefore(ChatMessageDocument message, ChatCursor boundary) {
+        int bySentAt = message.getSentAt().compareTo(boundary.sentAt());
+        // ObjectId 16진 문자열은 길이가 같아 문자열 비교가 생성 순서와 같습니다.
+        return bySentAt < 0 || (bySentAt == 0 && message.getId().compareTo(boundary.id()) < 0);
+    }
+
+    private byte[] compress(List<ChatMessageDocument> messages) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8)) {
+            for (ChatMessageDocument message : messages) {
+                writer.write(messageWriter.writeValueAsString(message));
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 보관 묶음 압축 실패", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<ChatMessageDocument> decompress(byte[] data) {
+        List<ChatMessageDocument> messages = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(data)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    messages.add(messageReader.readValue(line));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 보관 묶음 해제 실패", e);
+        }
+        return messages;
+    }
+}
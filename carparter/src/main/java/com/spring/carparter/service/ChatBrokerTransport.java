@@ -0,0 +1,27 @@
+package com.spring.carparter.service;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 채팅방 메시지 전달 수단 (교체 가능한 전송 계층)
+ *
+ * - ChatRoomBroker가 로컬 구독자가 있는 방만 subscribe 하므로, 구현체는 방 단위로 라우팅해
+ *   해당 방을 구독한 노드에만 전달하면 됩니다.
+ * - 기본 구현은 같은 JVM 안에서만 전달하는 LoopbackChatBrokerTransport이며,
+ *   Redis Pub/Sub 같은 외부 전송을 붙일 때는 이 인터페이스를 구현한 빈을 chat.broker.transport로 선택합니다.
+ */
+public interface ChatBrokerTransport {
+
+    /** 다른 노드로 보낼 방 메시지: 보낸 노드 ID, 방 ID, 직렬화된 메시지(JSON) */
+    record Envelope(String originNodeId, Integer roomId, String payload) {}
+
+    /** 수신 메시지를 넘겨받을 처리기를 등록합니다. (노드당 하나) */
+    void setListener(Consumer<Envelope> listener);
+
+    /** 방을 구독한 모든 노드에 메시지를 보냅니다. (보낸 노드 자신에게도 올 수 있으며, 걸러내는 것은 수신 측 책임) */
+    void publish(Envelope envelope);
+
+    void subscribe(Integer roomId);
+
+    void unsubscribe(Integer roomId);
+}
@@ -0,0 +1,34 @@
+package com.spring.carparter.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 채팅 기록 (sentAt, id) 키셋 페이지네이션용 커서
+ * 클라이언트에는 내부 구조를 알 수 없는 Base64URL 문자열로만 전달합니다.
+ */
+record ChatCursor(LocalDateTime sentAt, String id) {
+
+    String encode() {
+        String raw = sentAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    static ChatCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            String id = raw.substring(separator + 1);
+            if (id.isEmpty()) {
+                throw new IllegalArgumentException("빈 메시지 ID");
+            }
+            return new ChatCursor(LocalDateTime.parse(raw.substring(0, separator)), id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + token, e);
+        }
+    }
+}
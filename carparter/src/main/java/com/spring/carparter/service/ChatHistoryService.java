@@ -0,0 +1,100 @@
+package com.spring.carparter.service;
+
+import com.spring.carparter.document.ChatArchiveDocument;
+import com.spring.carparter.document.ChatMessageDocument;
+import com.spring.carparter.document.ChatRoomSummaryDocument;
+import com.spring.carparter.dto.CursorPageResDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 채팅 기록 조회 서비스
+ *
+ * - 방 전체를 한 번에 읽지 않고, (roomId, sentAt, id) 키셋으로 "커서 이전의 최근 N건"만 읽습니다.
+ * - messages 컬렉션의 복합 인덱스(roomId, sentAt desc, _id desc)를 그대로 타므로
+ *   기록이 아무리 길어도 방을 처음 열 때의 비용은 일정합니다.
+ * - 커서가 보관(archive)된 구간에 닿으면 ChatArchiveService의 압축 묶음에서 이어서 읽습니다. (같은 커서 형식)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatHistoryService {
+
+    private final MongoTemplate mongoTemplate;
+    private final ChatArchiveService chatArchiveService;
+
+    /**
+     * 도큐먼트에 선언된 인덱스를 보장합니다.
+     * (spring.data.mongodb.auto-index-creation 설정과 무관하게 기동 시 생성, 이미 있으면 아무 일도 하지 않음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        MongoPersistentEntityIndexResolver resolver =
+                new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+        for (Class<?> documentType : List.of(ChatMessageDocument.class, ChatArchiveDocument.class, ChatRoomSummaryDocument.class)) {
+            IndexOperations indexOps = mongoTemplate.indexOps(documentType);
+            resolver.resolveIndexFor(documentType).forEach(indexOps::createIndex);
+        }
+        log.info("채팅 메시지 컬렉션 인덱스 확인 완료.");
+    }
+
+    /**
+     * 커서 이전(더 오래된) 메시지를 최대 size건 조회합니다.
+     * 결과 목록은 화면에 그대로 이어 붙일 수 있도록 오래된 순으로 정렬되어 있으며,
+     * nextCursor로 다음 요청을 보내면 그보다 더 이전 메시지를 받습니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 요청이면 null → 가장 최근 메시지부터)
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public CursorPageResDTO<ChatMessageDocument> getHistoryBefore(Integer roomId, String cursor, int size) {
+        Criteria criteria = Criteria.where("roomId").is(roomId);
+        ChatCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            after = ChatCursor.decode(cursor);
+            criteria = criteria.orOperator(
+                    Criteria.where("sentAt").lt(after.sentAt()),
+                    Criteria.where("sentAt").is(after.sentAt()).and("id").lt(after.id()));
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽습니다.
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Order.desc("sentAt"), Sort.Order.desc("id")))
+                .limit(size + 1);
+        List<ChatMessageDocument> newestFirst = new ArrayList<>(mongoTemplate.find(query, ChatMessageDocument.class));
+
+        // hot 컬렉션에서 모자라면 보관 묶음에서 이어서 읽습니다. (보관된 메시지는 항상 hot 메시지보다 오래됨)
+        if (newestFirst.size() <= size) {
+            ChatCursor boundary = newestFirst.isEmpty()
+                    ? after
+                    : keyOf(newestFirst.get(newestFirst.size() - 1));
+            newestFirst.addAll(chatArchiveService.readBefore(roomId, boundary, size + 1 - newestFirst.size()));
+        }
+
+        boolean hasNext = newestFirst.size() > size;
+        List<ChatMessageDocument> items = new ArrayList<>(hasNext ? newestFirst.subList(0, size) : newestFirst);
+
+        String nextCursor = null;
+        if (hasNext) {
+            nextCursor = keyOf(items.get(items.size() - 1)).encode();
+        }
+        Collections.reverse(items);
+        return new CursorPageResDTO<>(items, nextCursor, hasNext);
+    }
+
+    private static ChatCursor keyOf(ChatMessageDocument message) {
+        return new ChatCursor(message.getSentAt(), message.getId());
+    }
+}
@@ -0,0 +1,63 @@
+package com.spring.carparter.service;
+
+import com.spring.carparter.repository.ChatMessageRepository;
+import com.spring.carparter.repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 채팅방 수명 주기(종료/정리) 서비스
+ *
+ * - 방 삭제(MySQL)는 호출한 비즈니스 트랜잭션 안에서 JPQL DELETE 한 번으로 처리합니다.
+ * - 메시지/요약 정리(MongoDB)는 같은 트랜잭션에 아웃박스 이벤트로 기록해 두고, 커밋 후 OutboxRelay가 수행합니다.
+ *   MySQL 락을 잡은 채 Mongo를 기다리지 않으며, 롤백되면 정리도 일어나지 않습니다.
+ * - Mongo 정리는 roomId $in 삭제라 몇 번을 다시 실행해도 결과가 같으므로, 실패 시 아웃박스 재시도에 맡깁니다.
+ * - 정리 중에도 지연 쓰기 버퍼에 남은 메시지가 뒤늦게 저장될 수 있어, 메시지를 지우기 전에 요약을 닫힌 방으로 표시합니다.
+ *   지연 쓰기는 저장 직후 이 표시를 확인해 닫힌 방의 메시지를 다시 지우므로, 어느 순서로 엇갈려도 메시지가 남지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatLifecycleService {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatRoomSummaryStore chatRoomSummaryStore;
+    private final ChatArchiveService chatArchiveService;
+    private final DomainEventPublisher domainEventPublisher;
+
+    /**
+     * 견적 요청에 연결된 채팅방을 모두 닫습니다.
+     *
+     * @return 삭제된 채팅방 수
+     */
+    @Transactional
+    public int closeRoomsForQuoteRequest(Integer requestId) {
+        List<Integer> roomIds = chatRoomRepository.findRoomIdsByQuoteRequestId(requestId);
+        if (roomIds.isEmpty()) {
+            return 0;
+        }
+        int deleted = chatRoomRepository.deleteAllByRoomIds(roomIds);
+        domainEventPublisher.chatRoomsClosed(roomIds);
+        log.info(" -> 견적 요청 {}의 채팅방 {}개 삭제, 메시지 정리는 커밋 후 진행", requestId, deleted);
+        return deleted;
+    }
+
+    /**
+     * 닫힌 채팅방들의 메시지, 보관 묶음을 MongoDB에서 지우고 요약은 닫힌 방으로 표시합니다. (OutboxRelay가 커밋 후 호출, 멱등)
+     */
+    public void purgeRoomData(List<Integer> roomIds) {
+        if (roomIds == null || roomIds.isEmpty()) {
+            return;
+        }
+        // 표시가 먼저여야 합니다. (표시 전에 저장된 메시지는 아래 삭제가, 표시 후에 저장된 메시지는 지연 쓰기가 지움)
+        chatRoomSummaryStore.markClosed(roomIds);
+        long deletedMessages = chatMessageRepository.deleteByRoomIdIn(roomIds);
+        chatArchiveService.deleteByRoomIds(roomIds);
+        log.info(" -> 채팅방 {}개의 메시지 {}건 정리 완료", roomIds.size(), deletedMessages);
+    }
+}
@@ -0,0 +1,427 @@
+package com.spring.carparter.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.mongodb.bulk.BulkWriteError;
+import com.spring.carparter.document.ChatMessageDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 메시지 지연 쓰기(write-behind) 버퍼
+ *
+ * - 메시지는 ID만 먼저 부여해 바로 브로드캐스트하고, 제한된 메모리 큐에 쌓아 둡니다.
+ * - 전용 쓰기 스레드가 batch-size건이 모이거나 flush-interval-ms가 지나면 insertMany 한 번으로 저장합니다.
+ *   (노드당 처리량이 왕복 횟수가 아니라 배치 크기에 비례)
+ * - 역압(backpressure): 큐가 가득 차면 보내는 쪽이 offer-timeout-ms까지 기다리고, 그래도 자리가 없으면 직접 동기 저장합니다.
+ *   Mongo가 느려지면 채팅 전송 속도도 그만큼 느려질 뿐, 메시지를 버리지 않습니다.
+ * - 일시 오류(연결 끊김, 쓰기 확인 실패 등)로 실패한 배치는 성공할 때까지 지수 백오프로 재시도합니다.
+ *   ID가 미리 정해져 있어 재시도 시 이미 들어간 문서는 중복 키로 건너뜁니다. 그동안 큐가 차면 위의 역압/동기 저장이 걸리고,
+ *   동기 저장도 실패하면 보내는 쪽이 오류를 받습니다. (이미 응답한 메시지를 장애 중에 버리지 않음)
+ * - 실패 보관 컬렉션(messages_dead_letter)에는 재시도해도 소용없는 문서(검증 실패, 크기 초과 등 문서 단위 오류)만 옮깁니다.
+ * - 저장된 배치는 곧바로 채팅방 요약(ChatRoomSummaryStore)에 반영합니다.
+ *   저장 직후 닫힌 방(ChatLifecycleService.purgeRoomData가 정리한 방)의 메시지가 섞여 있으면 다시 지우고 요약에서도 뺍니다.
+ * - 종료 시 새 메시지는 동기 저장으로 돌리고, 큐에 남은 메시지를 모두 저장한 뒤 멈춥니다.
+ *   shutdown-timeout-ms 안에 저장하지 못한 메시지(종료 중 Mongo 장애)는 spill-dir의 로컬 파일(JSON-lines)로 내려 두고,
+ *   다음에 시작할 때 먼저 저장합니다.
+ */
+@Component
+@Slf4j
+public class ChatMessageWriteBehind implements SmartLifecycle {
+
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+    private static final long MAX_RETRY_BACKOFF_MS = 5_000;
+    /** 종료 제한 시간이 지나 인터럽트한 뒤, 쓰기 스레드가 남은 메시지를 파일로 내릴 때까지 기다리는 시간 */
+    private static final long SPILL_JOIN_MS = 5_000;
+    private static final String SPILL_FILE_SUFFIX = ".jsonl";
+    static final String DEAD_LETTER_COLLECTION = "messages_dead_letter";
+
+    private final MongoTemplate mongoTemplate;
+    private final ChatRoomSummaryStore chatRoomSummaryStore;
+    private final BlockingQueue<ChatMessageDocument> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+    private final long shutdownTimeoutMs;
+    private final Path spillDir;
+    private final ObjectWriter messageWriter;
+    private final ObjectReader messageReader;
+
+    private final Counter writtenCounter;
+    private final Counter syncFallbackCounter;
+    private final Counter retryCounter;
+    private final Counter deadLetterCounter;
+    private final Counter spilledCounter;
+    private final Counter droppedCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public ChatMessageWriteBehind(MongoTemplate mongoTemplate,
+                                  ChatRoomSummaryStore chatRoomSummaryStore,
+                                  ObjectMapper objectMapper,
+                                  @Value("${chat.write-behind.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${chat.write-behind.batch-size:500}") int batchSize,
+                                  @Value("${chat.write-behind.flush-interval-ms:200}") long flushIntervalMs,
+                                  @Value("${chat.write-behind.offer-timeout-ms:2000}") long offerTimeoutMs,
+                                  @Value("${chat.write-behind.shutdown-timeout-ms:30000}") long shutdownTimeoutMs,
+                                  @Value("${chat.write-behind.spill-dir:chat-spill}") String spillDir,
+                                  MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.chatRoomSummaryStore = chatRoomSummaryStore;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.spillDir = Paths.get(spillDir);
+        this.messageWriter = objectMapper.writerFor(ChatMessageDocument.class);
+        this.messageReader = objectMapper.readerFor(ChatMessageDocument.class);
+
+        this.writtenCounter = meterRegistry.counter("chat.write-behind.written");
+        this.syncFallbackCounter = meterRegistry.counter("chat.write-behind.sync.fallback");
+        this.retryCounter = meterRegistry.counter("chat.write-behind.retry");
+        this.deadLetterCounter = meterRegistry.counter("chat.write-behind.dead-letter");
+        this.spilledCounter = meterRegistry.counter("chat.write-behind.spilled");
+        this.droppedCounter = meterRegistry.counter("chat.write-behind.dropped");
+        this.flushTimer = meterRegistry.timer("chat.write-behind.flush");
+        meterRegistry.gauge("chat.write-behind.queue.size", queue, BlockingQueue::size);
+    }
+
+    /**
+     * 메시지에 ID를 부여하고 저장 대기열에 넣습니다.
+     * 반환 후 바로 브로드캐스트해도 되며, 클라이언트는 저장 후와 같은 ID를 받습니다.
+     */
+    public ChatMessageDocument enqueue(ChatMessageDocument message) {
+        if (message.getId() == null) {
+            message.setId(new ObjectId().toHexString());
+        }
+        if (!running) {
+            saveNow(message);
+            return message;
+        }
+        try {
+            if (!queue.offer(message, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn(" -> 채팅 저장 큐가 가득 차 동기 저장합니다. (대기 {}건)", queue.size());
+                saveNow(message);
+            } else if (!running && queue.remove(message)) {
+                // 넣는 사이 stop()이 시작돼 쓰기 스레드가 이미 큐를 비우고 끝났을 수 있습니다.
+                // 쓰기 스레드가 가져가지 않은 채 남아 있으면 직접 저장합니다. (가져갔다면 쓰기 스레드가 저장)
+                saveNow(message);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            saveNow(message);
+        }
+        return message;
+    }
+
+    // == 수명 주기 == //
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::writeLoop, "chat-write-behind");
+        // Mongo 장애로 재시도가 끝나지 않아도 JVM 종료를 막지 않도록 데몬으로 둡니다. (대기는 stop의 제한 시간까지)
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("채팅 지연 쓰기 시작: 배치 {}건, 주기 {}ms", batchSize, flushIntervalMs);
+    }
+
+    @Override
+    public void stop() {
+        log.info("===== [START] 채팅 지연 쓰기 종료: 남은 메시지 {}건 저장 =====", queue.size());
+        running = false;
+        try {
+            writerThread.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            log.error(" -> 제한 시간 안에 채팅 메시지를 모두 저장하지 못해 남은 메시지 {}건을 파일로 내립니다.", queue.size());
+            writerThread.interrupt();
+            try {
+                writerThread.join(SPILL_JOIN_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("===== [END] 채팅 지연 쓰기 종료 =====");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** 웹 서버와 STOMP 브로커가 멈춘 뒤(새 메시지가 더 들어오지 않을 때) 마지막으로 멈춥니다. */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    // == 쓰기 스레드 == //
+
+    private void writeLoop() {
+        List<ChatMessageDocument> batch = new ArrayList<>(batchSize);
+        try {
+            replaySpilled();
+        } catch (InterruptedException e) {
+            // 다시 저장하던 파일은 지우지 않았으므로 다음 시작 때 이어서 저장합니다.
+            Thread.currentThread().interrupt();
+            spillRemaining(batch);
+            return;
+        }
+        while (running || !queue.isEmpty()) {
+            try {
+                ChatMessageDocument first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch);
+                writeWithRetry(batch);
+            } catch (InterruptedException e) {
+                // 종료 제한 시간이 지나 인터럽트됐습니다. 더 기다리지 않고 현재 배치와 남은 메시지를 파일로 내립니다.
+                Thread.currentThread().interrupt();
+                spillRemaining(batch);
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /** 첫 메시지 이후 flush-interval-ms 안에 들어온 메시지를 batch-size까지 모읍니다. */
+    private void fillBatch(List<ChatMessageDocument> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            ChatMessageDocument next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * 저장될 때까지 재시도합니다. 그동안 큐가 차오르면 보내는 쪽에 역압이 걸립니다.
+     * 종료 중에는 제한 시간(stop의 join)이 지나 인터럽트되면 InterruptedException으로 빠져나갑니다.
+     */
+    private void writeWithRetry(List<ChatMessageDocument> batch) throws InterruptedException {
+        long backoffMs = 100;
+        while (!writeOnce(batch)) {
+            retryCounter.increment();
+            Thread.sleep(backoffMs);
+            backoffMs = Math.min(backoffMs * 2, MAX_RETRY_BACKOFF_MS);
+        }
+    }
+
+    /**
+     * 배치를 한 번 저장합니다.
+     * @return 저장(또는 거부된 문서를 실패 보관)까지 끝났으면 true, 일시 오류로 다시 시도해야 하면 false
+     */
+    private boolean writeOnce(List<ChatMessageDocument> batch) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+        long startNanos = System.nanoTime();
+        try {
+            // 순서 무관(unordered) insertMany: 일부가 중복 키여도 나머지는 저장됩니다.
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatMessageDocument.class)
+                    .insert(batch)
+                    .execute();
+        } catch (BulkOperationException e) {
+            if (e.getErrors().isEmpty()) {
+                // 문서 단위 오류 없이 실패(쓰기 확인 실패 등): 일시 오류로 보고 재시도
+                log.warn(" -> 채팅 메시지 배치 저장 실패 ({}건), 재시도합니다: {}", batch.size(), e.getMessage());
+                return false;
+            }
+            // 순서 무관 저장이라 오류가 난 문서 외에는 모두 저장됐습니다. 중복 키는 이미 저장된 것이고,
+            // 나머지 문서 단위 오류는 다시 보내도 같은 결과이므로 실패 보관으로 옮깁니다.
+            List<ChatMessageDocument> rejected = rejectedDocuments(batch, e.getErrors());
+            if (!rejected.isEmpty()) {
+                log.error(" -> 채팅 메시지 {}건이 저장을 거부당해 실패 보관 컬렉션으로 옮깁니다: {}",
+                        rejected.size(), e.getErrors().get(0).getMessage());
+                if (!deadLetter(rejected)) {
+                    // 배치를 다시 보내면 저장된 문서는 중복 키로 건너뛰고, 거부된 문서만 다시 실패 보관을 시도합니다.
+                    return false;
+                }
+                List<ChatMessageDocument> saved = new ArrayList<>(batch);
+                saved.removeAll(rejected);
+                batch = saved;
+            }
+        } catch (RuntimeException e) {
+            log.warn(" -> 채팅 메시지 배치 저장 실패 ({}건), 재시도합니다: {}", batch.size(), e.toString());
+            return false;
+        }
+        flushTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        writtenCounter.increment(batch.size());
+        chatRoomSummaryStore.applySaved(removeClosedRooms(batch));
+        return true;
+    }
+
+    private void saveNow(ChatMessageDocument message) {
+        syncFallbackCounter.increment();
+        mongoTemplate.save(message);
+        chatRoomSummaryStore.applySaved(removeClosedRooms(List.of(message)));
+    }
+
+    /**
+     * 저장이 끝난 뒤 닫힌 방의 메시지를 지우고, 남은(열린 방의) 메시지만 돌려줍니다.
+     * 저장 후에 확인하므로 정리 작업과 엇갈려도 놓치지 않습니다. (닫힌 방 표시 → 메시지 삭제 순서, ChatLifecycleService 참고)
+     */
+    private List<ChatMessageDocument> removeClosedRooms(List<ChatMessageDocument> saved) {
+        Set<Integer> roomIds = saved.stream().map(ChatMessageDocument::getRoomId).collect(Collectors.toSet());
+        Set<Integer> closedRoomIds;
+        try {
+            closedRoomIds = chatRoomSummaryStore.findClosedRoomIds(roomIds);
+            if (closedRoomIds.isEmpty()) {
+                return saved;
+            }
+            mongoTemplate.remove(Query.query(Criteria.where("roomId").in(closedRoomIds)), ChatMessageDocument.class);
+        } catch (RuntimeException e) {
+            log.warn(" -> 닫힌 채팅방 확인 실패, 요약 반영만 진행합니다: {}", e.toString());
+            return saved;
+        }
+        log.info(" -> 닫힌 채팅방 {}개로 뒤늦게 저장된 메시지를 지웠습니다.", closedRoomIds.size());
+        return saved.stream().filter(message -> !closedRoomIds.contains(message.getRoomId())).toList();
+    }
+
+    /**
+     * 저장을 거부당한 메시지를 실패 보관 컬렉션에 넣어 둡니다. (원인 확인 후 messages로 옮겨 되살릴 수 있도록 같은 ID 유지)
+     * @return 보관했으면(이전 시도에서 이미 보관된 경우 포함) true, 일시 오류로 다시 시도해야 하면 false
+     */
+    private boolean deadLetter(List<ChatMessageDocument> messages) {
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatMessageDocument.class, DEAD_LETTER_COLLECTION)
+                    .insert(messages)
+                    .execute();
+        } catch (BulkOperationException e) {
+            if (e.getErrors().isEmpty() || !rejectedDocuments(messages, e.getErrors()).isEmpty()) {
+                log.warn(" -> 채팅 메시지 {}건 실패 보관 실패, 재시도합니다: {}", messages.size(), e.getMessage());
+                return false;
+            }
+        } catch (RuntimeException e) {
+            log.warn(" -> 채팅 메시지 {}건 실패 보관 실패, 재시도합니다: {}", messages.size(), e.toString());
+            return false;
+        }
+        deadLetterCounter.increment(messages.size());
+        return true;
+    }
+
+    // == 종료 시 파일로 내리기 == //
+
+    /** 현재 배치와 큐에 남은 메시지를 spill-dir에 한 파일로 내립니다. 파일마저 쓰지 못하면 ID를 로그로 남기고 버립니다. */
+    private void spillRemaining(List<ChatMessageDocument> batch) {
+        List<ChatMessageDocument> remaining = new ArrayList<>(batch);
+        queue.drainTo(remaining);
+        if (remaining.isEmpty()) {
+            return;
+        }
+        Path file = spillDir.resolve("messages-" + UUID.randomUUID() + SPILL_FILE_SUFFIX);
+        try {
+            Files.createDirectories(spillDir);
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                for (ChatMessageDocument message : remaining) {
+                    writer.write(messageWriter.writeValueAsString(message));
+                    writer.newLine();
+                }
+            }
+            spilledCounter.increment(remaining.size());
+            log.warn(" -> 저장하지 못한 채팅 메시지 {}건을 {}에 내렸습니다. 다음 시작 때 저장합니다.", remaining.size(), file);
+        } catch (IOException e) {
+            droppedCounter.increment(remaining.size());
+            log.error(" -> 채팅 메시지 {}건을 파일로도 내리지 못해 버립니다. ids={}: {}", remaining.size(),
+                    remaining.stream().map(ChatMessageDocument::getId).toList(), e.toString());
+        }
+    }
+
+    /** 지난 종료 때 내려 둔 파일의 메시지를 저장하고 파일을 지웁니다. (이미 저장된 문서는 중복 키로 건너뜀) */
+    private void replaySpilled() throws InterruptedException {
+        if (!Files.isDirectory(spillDir)) {
+            return;
+        }
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(spillDir, "*" + SPILL_FILE_SUFFIX)) {
+            stream.forEach(files::add);
+        } catch (IOException e) {
+            log.error(" -> 채팅 메시지 파일 목록을 읽지 못했습니다: {}", spillDir, e);
+            return;
+        }
+        for (Path file : files) {
+            List<ChatMessageDocument> messages;
+            try {
+                messages = readSpillFile(file);
+            } catch (IOException | UncheckedIOException e) {
+                log.error(" -> 채팅 메시지 파일을 읽지 못해 건너뜁니다: {}", file, e);
+                continue;
+            }
+            log.info(" -> 지난 종료 때 내려 둔 채팅 메시지 {}건을 저장합니다: {}", messages.size(), file);
+            for (int from = 0; from < messages.size(); from += batchSize) {
+                writeWithRetry(new ArrayList<>(messages.subList(from, Math.min(from + batchSize, messages.size()))));
+            }
+            try {
+                Files.delete(file);
+            } catch (IOException e) {
+                log.warn(" -> 저장을 마친 채팅 메시지 파일을 지우지 못했습니다: {}", file, e);
+            }
+        }
+    }
+
+    private List<ChatMessageDocument> readSpillFile(Path file) throws IOException {
+        List<ChatMessageDocument> messages = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (!line.isEmpty()) {
+                messages.add(messageReader.readValue(line));
+            }
+        }
+        return messages;
+    }
+
+    /** 문서 단위 오류 중 중복 키(이전 시도에서 이미 저장된 문서)를 뺀, 거부된 문서만 골라냅니다. */
+    private static List<ChatMessageDocument> rejectedDocuments(List<ChatMessageDocument> batch, List<BulkWriteError> errors) {
+        List<ChatMessageDocument> rejected = new ArrayList<>();
+        for (BulkWriteError error : errors) {
+            if (error.getCode() != DUPLICATE_KEY_ERROR && error.getIndex() < batch.size()) {
+                rejected.add(batch.get(error.getIndex()));
+            }
+        }
+        return rejected;
+    }
+}
@@ -0,0 +1,193 @@
+package com.spring.carparter.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 채팅방 메시지 브로커 (로컬 STOMP 브로커 + 노드 간 중계)
+ *
+ * - chat.broker.mode=local(기본): 기존처럼 이 노드의 구독자에게만 보냅니다.
+ * - chat.broker.mode=relay: 로컬 전송과 함께 ChatBrokerTransport로 다른 노드에도 보내,
+ *   사용자와 카센터가 서로 다른 노드에 붙어 있어도 메시지를 주고받을 수 있습니다.
+ * - 방 단위 라우팅: 이 노드에 /topic/room/{id} 구독자가 생길 때만 전송 계층에 해당 방을 구독하고,
+ *   마지막 구독자가 나가면 해지합니다. (구독자 없는 방의 메시지는 이 노드로 오지 않음)
+ */
+@Component
+@Slf4j
+public class ChatRoomBroker {
+
+    private static final String ROOM_TOPIC_PREFIX = "/topic/room/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatBrokerTransport transport;
+    private final ObjectMapper objectMapper;
+    private final boolean relayEnabled;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 세션 ID → (구독 ID → 방 ID), 방 ID → 이 노드의 구독 수 (구독 이벤트 빈도가 낮아 단일 락으로 관리)
+    private final Map<String, Map<String, Integer>> subscriptionsBySession = new HashMap<>();
+    private final Map<Integer, Integer> localSubscriberCounts = new HashMap<>();
+
+    private final Counter relayedOutCounter;
+    private final Counter relayedInCounter;
+
+    public ChatRoomBroker(SimpMessagingTemplate messagingTemplate,
+                          ChatBrokerTransport transport,
+                          ObjectMapper objectMapper,
+                          @Value("${chat.broker.mode:local}") String mode,
+                          MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.transport = transport;
+        this.objectMapper = objectMapper;
+        this.relayEnabled = "relay".equalsIgnoreCase(mode);
+
+        this.relayedOutCounter = meterRegistry.counter("chat.broker.relay.out");
+        this.relayedInCounter = meterRegistry.counter("chat.broker.relay.in");
+        meterRegistry.gauge("chat.broker.rooms.local", this, broker -> broker.localRoomCount());
+
+        transport.setListener(this::onRelayedMessage);
+        log.info("채팅 브로커 모드: {} (노드 ID: {})", relayEnabled ? "relay" : "local", nodeId);
+    }
+
+    /**
+     * 방의 모든 구독자에게 메시지를 보냅니다. (relay 모드면 다른 노드의 구독자 포함)
+     */
+    public void publish(Integer roomId, Object message) {
+        messagingTemplate.convertAndSend(ROOM_TOPIC_PREFIX + roomId, message);
+        if (!relayEnabled) {
+            return;
+        }
+        try {
+            transport.publish(new ChatBrokerTransport.Envelope(nodeId, roomId, objectMapper.writeValueAsString(message)));
+            relayedOutCounter.increment();
+        } catch (JsonProcessingException e) {
+            log.error(" -> 채팅 메시지 직렬화 실패, 다른 노드로 중계하지 못했습니다. (방 ID: {})", roomId, e);
+        } catch (Exception e) {
+            // 중계 실패가 로컬 전송까지 되돌리지는 않습니다.
+            log.error(" -> 채팅 메시지 중계 실패 (방 ID: {})", roomId, e);
+        }
+    }
+
+    private void onRelayedMessage(ChatBrokerTransport.Envelope envelope) {
+        if (nodeId.equals(envelope.originNodeId())) {
+            return; // 이미 로컬로 보낸 메시지
+        }
+        try {
+            // 원본 JSON을 그대로 로컬 구독자에게 전달합니다. (도큐먼트 타입으로 다시 만들 필요 없음)
+            JsonNode payload = objectMapper.readTree(envelope.payload());
+            messagingTemplate.convertAndSend(ROOM_TOPIC_PREFIX + envelope.roomId(), payload);
+            relayedInCounter.increment();
+        } catch (JsonProcessingException e) {
+            log.warn(" -> 중계된 채팅 메시지를 읽을 수 없습니다. (방 ID: {})", envelope.roomId(), e);
+        }
+    }
+
+    // == 구독 추적 (방 단위 라우팅) == //
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Integer roomId = roomIdOf(accessor.getDestination());
+        if (roomId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        boolean firstLocalSubscriber;
+        synchronized (this) {
+            Integer previous = subscriptionsBySession
+                    .computeIfAbsent(accessor.getSessionId(), k -> new HashMap<>())
+                    .put(accessor.getSubscriptionId(), roomId);
+            if (roomId.equals(previous)) {
+                return; // 같은 구독을 다시 보낸 경우: 구독 수 그대로
+            }
+            if (previous != null) {
+                decrement(previous);
+            }
+            firstLocalSubscriber = localSubscriberCounts.merge(roomId, 1, Integer::sum) == 1;
+            if (firstLocalSubscriber && relayEnabled) {
+                transport.subscribe(roomId);
+            }
+        }
+        if (firstLocalSubscriber) {
+            log.debug(" -> 채팅방 {} 라우팅 구독 시작", roomId);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        synchronized (this) {
+            Map<String, Integer> subscriptions = subscriptionsBySession.get(accessor.getSessionId());
+            if (subscriptions == null) {
+                return;
+            }
+            Integer roomId = subscriptions.remove(accessor.getSubscriptionId());
+            if (roomId != null) {
+                decrement(roomId);
+            }
+            if (subscriptions.isEmpty()) {
+                subscriptionsBySession.remove(accessor.getSessionId());
+            }
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        synchronized (this) {
+            Map<String, Integer> subscriptions = subscriptionsBySession.remove(event.getSessionId());
+            if (subscriptions != null) {
+                subscriptions.values().forEach(this::decrement);
+            }
+        }
+    }
+
+    private synchronized int localRoomCount() {
+        return localSubscriberCounts.size();
+    }
+
+    /**
+     * 호출 측에서 this 락을 잡고 있어야 합니다.
+     * 이 노드에 구독이 없던 방이면 아무것도 하지 않고, 마지막 구독자가 나갈 때만 전송 계층 구독을 해지합니다.
+     */
+    private void decrement(Integer roomId) {
+        Integer count = localSubscriberCounts.get(roomId);
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            localSubscriberCounts.put(roomId, count - 1);
+            return;
+        }
+        localSubscriberCounts.remove(roomId);
+        if (relayEnabled) {
+            transport.unsubscribe(roomId);
+            log.debug(" -> 채팅방 {} 라우팅 구독 해지", roomId);
+        }
+    }
+
+    private static Integer roomIdOf(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_TOPIC_PREFIX)) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(destination.substring(ROOM_TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -2,6 +2,9 @@
 
 package com.spring.carparter.service;
 
+import com.spring.carparter.document.ChatRoomSummaryDocument;
+import com.spring.carparter.document.SenderType;
+import com.spring.carparter.dto.ChatInboxItemResDTO;
 import com.spring.carparter.dto.ChatRoomResDTO;
 import com.spring.carparter.entity.CarCenter;
 import com.spring.carparter.entity.ChatRoom;
@@ -11,10 +14,18 @@ import com.spring.carparter.repository.CarCenterRepository;
 import com.spring.carparter.repository.ChatRoomRepository;
 import com.spring.carparter.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,6 +35,7 @@ public class ChatRoomService {
     private final UserRepository userRepository;
     private final CarCenterRepository carCenterRepository;
     private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomSummaryStore chatRoomSummaryStore;
 
     @Transactional
     public ChatRoom findOrCreateRoom(String userId, String centerId) {
@@ -39,7 +51,10 @@ public class ChatRoomService {
                             .user(user)
                             .carCenter(carCenter)
                             .build();
-                    return chatRoomRepository.save(newChatRoom);
+                    ChatRoom saved = chatRoomRepository.save(newChatRoom);
+                    // 요약 갱신은 update만 하므로, 방이 확정된 뒤 빈 요약을 만들어 둡니다.
+                    AfterCommit.run(() -> chatRoomSummaryStore.createIfAbsent(List.of(saved.getRoomId())));
+                    return saved;
                 });
     }
 
@@ -57,6 +72,87 @@ public class ChatRoomService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 채팅 목록(받은편지함): 방마다 마지막 메시지, 시각, 안 읽은 수를 함께 반환합니다.
+     * - 참여 방의 [ID, 수정 시각]만 조회한 뒤, 요약은 $in 조회 한 번으로 가져와 최근 활동 순으로 정렬합니다.
+     * - 방 엔티티(참여자 정보)는 요청한 페이지의 방만 한 번에 조회합니다.
+     *
+     * @param reader 조회하는 쪽 (USER: 사용자, CAR_CENTER: 카센터)
+     */
+    @Transactional(readOnly = true)
+    public Page<ChatInboxItemResDTO> getInbox(String loginId, SenderType reader, Pageable pageable) {
+        List<Object[]> activities = reader == SenderType.CAR_CENTER
+                ? chatRoomRepository.findActivityByCenterId(loginId)
+                : chatRoomRepository.findActivityByUserId(loginId);
+        if (activities.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        List<Integer> roomIds = activities.stream().map(row -> (Integer) row[0]).toList();
+        Map<Integer, ChatRoomSummaryDocument> summaries = chatRoomSummaryStore.findByRoomIds(roomIds);
+        // 요약 생성 전에 만들어진 방은 기존 메시지로 요약을 만들어, 처음 조회부터 마지막 메시지가 보이게 합니다.
+        List<Integer> withoutSummary = roomIds.stream().filter(roomId -> !summaries.containsKey(roomId)).toList();
+        if (!withoutSummary.isEmpty()) {
+            chatRoomSummaryStore.createFromHistory(withoutSummary);
+            summaries.putAll(chatRoomSummaryStore.findByRoomIds(withoutSummary));
+        }
+
+        // 최근 활동 = 마지막 메시지 시각과 방 수정 시각 중 늦은 쪽 (대화가 없는 새 방도 생성 순으로 노출)
+        List<RoomActivity> ordered = new ArrayList<>(activities.size());
+        for (Object[] row : activities) {
+            Integer roomId = (Integer) row[0];
+            ChatRoomSummaryDocument summary = summaries.get(roomId);
+            LocalDateTime lastActivity = latest((LocalDateTime) row[1], summary == null ? null : summary.getLastMessageAt());
+            ordered.add(new RoomActivity(roomId, lastActivity));
+        }
+        ordered.sort(Comparator.comparing(RoomActivity::lastActivity, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(RoomActivity::roomId, Comparator.reverseOrder()));
+
+        int from = (int) Math.min(pageable.getOffset(), ordered.size());
+        int to = Math.min(from + pageable.getPageSize(), ordered.size());
+        List<Integer> pageRoomIds = ordered.subList(from, to).stream().map(RoomActivity::roomId).toList();
+
+        Map<Integer, ChatRoom> rooms = chatRoomRepository.findAllByRoomIdIn(pageRoomIds).stream()
+                .collect(Collectors.toMap(ChatRoom::getRoomId, Function.identity()));
 
+        List<ChatInboxItemResDTO> items = new ArrayList<>(pageRoomIds.size());
+        for (Integer roomId : pageRoomIds) {
+            ChatRoom room = rooms.get(roomId);
+            if (room == null) {
+                continue; // 조회 사이에 삭제된 방
+            }
+            ChatRoomSummaryDocument summary = summaries.get(roomId);
+            items.add(ChatInboxItemResDTO.builder()
+                    .room(ChatRoomResDTO.from(room))
+                    .lastMessage(summary == null ? null : summary.getLastMessage())
+                    .lastSenderType(summary == null ? null : summary.getLastSenderType())
+                    .lastMessageAt(summary == null ? null : summary.getLastMessageAt())
+                    .unreadCount(summary == null ? 0 : summary.unreadCountFor(reader))
+                    .build());
+        }
+        return new PageImpl<>(items, pageable, ordered.size());
+    }
+
+    /**
+     * 채팅방을 읽음 처리합니다. (해당 참여자의 안 읽은 수를 0으로)
+     *
+     * @throws ResourceNotFoundException 참여하지 않은 방
+     */
+    public void markRead(Integer roomId, String loginId, SenderType reader) {
+        boolean participant = reader == SenderType.CAR_CENTER
+                ? chatRoomRepository.existsByRoomIdAndCarCenter_CenterId(roomId, loginId)
+                : chatRoomRepository.existsByRoomIdAndUser_UserId(roomId, loginId);
+        if (!participant) {
+            throw new ResourceNotFoundException("참여 중인 채팅방을 찾을 수 없습니다: " + roomId);
+        }
+        chatRoomSummaryStore.markRead(roomId, reader);
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isAfter(b) ? a : b;
+    }
 
-}
\ No newline at end of file
+    private record RoomActivity(Integer roomId, LocalDateTime lastActivity) {}
+}
@@ -0,0 +1,231 @@
+package com.spring.carparter.service;
+
+import com.spring.carparter.document.ChatMessageDocument;
+import com.spring.carparter.document.ChatRoomSummaryDocument;
+import com.spring.carparter.document.SenderType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.SetOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅방 요약(마지막 메시지, 메시지 수, 참여자별 읽음 위치) 저장소
+ *
+ * - 요약 문서는 방을 만들 때 createIfAbsent로 만들고, 요약 저장소 이전에 만들어진 방은 처음 조회될 때
+ *   createFromHistory로 messages 컬렉션에서 계산해 만듭니다. 그 뒤에는 메시지 배치가 저장된 직후 방별로 묶어 한 번의 bulk write로 갱신합니다.
+ *   갱신은 update만 합니다. (삭제된 방의 요약을 늦게 도착한 메시지가 되살리지 않도록)
+ * - 방이 삭제되면 요약에 closedAt을 찍어 닫힌 방으로 표시합니다. 지연 쓰기는 이 표시를 보고 닫힌 방의 메시지를 버립니다.
+ * - 보낸 사람은 자기 메시지를 읽은 것으로 보아, 보낸 쪽의 읽음 수도 함께 올립니다.
+ * - 요약 갱신이 실패해도 메시지 저장은 되돌리지 않습니다. (다음 읽음 처리 때 안 읽은 수가 다시 맞춰짐)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatRoomSummaryStore {
+
+    private static final int PREVIEW_MAX_LENGTH = 100;
+
+    private final MongoTemplate mongoTemplate;
+
+    /** 저장이 끝난 메시지들을 방 요약에 반영합니다. */
+    public void applySaved(List<ChatMessageDocument> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        // 방 ID → [전체 수, 사용자 발신 수, 카센터 발신 수, 가장 최근 메시지]
+        Map<Integer, RoomDelta> deltas = new LinkedHashMap<>();
+        for (ChatMessageDocument message : messages) {
+            deltas.computeIfAbsent(message.getRoomId(), k -> new RoomDelta()).add(message);
+        }
+
+        // 순서 보장(ordered): 카운터/최근 시각 갱신 후, 그 시각과 같은 경우에만 미리보기를 덮어씁니다.
+        // (지연 쓰기와 동기 저장이 섞여 늦게 도착한 과거 메시지가 미리보기를 되돌리지 않도록)
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, ChatRoomSummaryDocument.class);
+        for (Map.Entry<Integer, RoomDelta> entry : deltas.entrySet()) {
+            RoomDelta delta = entry.getValue();
+            ChatMessageDocument latest = delta.latest;
+            Query byOpenRoom = Query.query(Criteria.where("_id").is(entry.getKey()).and("closedAt").exists(false));
+            bulk.updateOne(byOpenRoom, new Update()
+                    .inc("messageCount", delta.total)
+                    .inc("userReadCount", delta.fromUser)
+                    .inc("centerReadCount", delta.fromCenter)
+                    .max("lastMessageAt", latest.getSentAt()));
+            bulk.updateOne(Query.query(Criteria.where("_id").is(entry.getKey()).and("lastMessageAt").is(latest.getSentAt())),
+                    new Update()
+                            .set("lastMessage", preview(latest.getContent()))
+                            .set("lastSenderType", latest.getSenderType()));
+        }
+        try {
+            bulk.execute();
+        } catch (RuntimeException e) {
+            log.warn(" -> 채팅방 요약 갱신 실패 (방 {}개): {}", deltas.size(), e.toString());
+        }
+    }
+
+    /**
+     * 빈 요약을 만듭니다. 이미 있으면(닫힌 방 표시 포함) 그대로 둡니다.
+     */
+    public void createIfAbsent(Collection<Integer> roomIds) {
+        if (roomIds.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatRoomSummaryDocument.class);
+        for (Integer roomId : roomIds) {
+            bulk.upsert(Query.query(Criteria.where("_id").is(roomId)), new Update()
+                    .setOnInsert("messageCount", 0L)
+                    .setOnInsert("userReadCount", 0L)
+                    .setOnInsert("centerReadCount", 0L));
+        }
+        try {
+            bulk.execute();
+        } catch (RuntimeException e) {
+            log.warn(" -> 채팅방 요약 생성 실패 (방 {}개): {}", roomIds.size(), e.toString());
+        }
+    }
+
+    /**
+     * 요약이 없는 방(요약 저장소 이전에 만들어진 방)의 요약을 messages 컬렉션에서 계산해 만듭니다.
+     * 방별 메시지 수와 마지막 메시지를 한 번의 집계로 구하고, 기존 메시지는 양쪽 모두 읽은 것으로 둡니다.
+     * (읽음 위치 기록이 없던 시절의 메시지가 한꺼번에 안 읽음으로 보이지 않도록)
+     * 집계는 hot 컬렉션 기준이라 보관(archive)된 메시지는 수에 들어가지 않습니다.
+     * 집계와 생성 사이에 저장된 메시지는 요약에 빠질 수 있으며, 다음 메시지부터는 정상 반영됩니다.
+     * 이미 요약이 있으면(닫힌 방 표시 포함) 그대로 둡니다.
+     */
+    public void createFromHistory(Collection<Integer> roomIds) {
+        if (roomIds.isEmpty()) {
+            return;
+        }
+        Map<Integer, RoomHistory> histories = new LinkedHashMap<>();
+        try {
+            Aggregation aggregation = Aggregation.newAggregation(ChatMessageDocument.class,
+                    Aggregation.match(Criteria.where("roomId").in(roomIds)),
+                    Aggregation.sort(Sort.by(Sort.Order.desc("sentAt"), Sort.Order.desc("id"))),
+                    Aggregation.group("roomId")
+                            .count().as("messageCount")
+                            .first("sentAt").as("lastMessageAt")
+                            .first("content").as("lastMessage")
+                            .first("senderType").as("lastSenderType"));
+            for (RoomHistory history : mongoTemplate.aggregate(aggregation, RoomHistory.class)) {
+                histories.put(history.id(), history);
+            }
+        } catch (RuntimeException e) {
+            log.warn(" -> 채팅방 기록 집계 실패, 빈 요약을 만듭니다. (방 {}개): {}", roomIds.size(), e.toString());
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatRoomSummaryDocument.class);
+        for (Integer roomId : roomIds) {
+            RoomHistory history = histories.get(roomId);
+            long messageCount = history == null ? 0L : history.messageCount();
+            Update update = new Update()
+                    .setOnInsert("messageCount", messageCount)
+                    .setOnInsert("userReadCount", messageCount)
+                    .setOnInsert("centerReadCount", messageCount);
+            if (history != null) {
+                update.setOnInsert("lastMessageAt", history.lastMessageAt())
+                        .setOnInsert("lastMessage", preview(history.lastMessage()))
+                        .setOnInsert("lastSenderType", history.lastSenderType());
+            }
+            bulk.upsert(Query.query(Criteria.where("_id").is(roomId)), update);
+        }
+        try {
+            bulk.execute();
+        } catch (RuntimeException e) {
+            log.warn(" -> 채팅방 요약 생성 실패 (방 {}개): {}", roomIds.size(), e.toString());
+        }
+    }
+
+    /** 방 ID 목록의 요약을 한 번에 조회합니다. (요약이 없거나 닫힌 방은 결과에 없음) */
+    public Map<Integer, ChatRoomSummaryDocument> findByRoomIds(Collection<Integer> roomIds) {
+        Map<Integer, ChatRoomSummaryDocument> summaries = new LinkedHashMap<>();
+        if (roomIds.isEmpty()) {
+            return summaries;
+        }
+        for (ChatRoomSummaryDocument summary : mongoTemplate.find(
+                Query.query(Criteria.where("_id").in(roomIds).and("closedAt").exists(false)), ChatRoomSummaryDocument.class)) {
+            summaries.put(summary.getRoomId(), summary);
+        }
+        return summaries;
+    }
+
+    /** 참여자의 읽음 위치를 현재 메시지 수로 맞춥니다. (해당 방의 안 읽은 수가 0이 됨) */
+    public void markRead(Integer roomId, SenderType reader) {
+        String readField = reader == SenderType.CAR_CENTER ? "centerReadCount" : "userReadCount";
+        // 읽음 수 = 같은 문서의 messageCount (파이프라인 업데이트로 조회 없이 한 번에)
+        AggregationUpdate update = AggregationUpdate.newUpdate(SetOperation.set(readField).toValueOf("$messageCount"));
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(roomId)), update, ChatRoomSummaryDocument.class);
+    }
+
+    /**
+     * 방이 삭제될 때 요약을 닫힌 방 표시로 바꿉니다. (요약이 없던 방도 표시를 만듦, 멱등)
+     * 표시는 closed_at_ttl_idx TTL로 하루 뒤 지워집니다.
+     */
+    public void markClosed(Collection<Integer> roomIds) {
+        if (roomIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatRoomSummaryDocument.class);
+        for (Integer roomId : roomIds) {
+            bulk.upsert(Query.query(Criteria.where("_id").is(roomId)), new Update().min("closedAt", now));
+        }
+        bulk.execute();
+    }
+
+    /** 주어진 방 중 닫힌 방의 ID만 골라 돌려줍니다. */
+    public Set<Integer> findClosedRoomIds(Collection<Integer> roomIds) {
+        if (roomIds.isEmpty()) {
+            return Set.of();
+        }
+        Query query = Query.query(Criteria.where("_id").in(roomIds).and("closedAt").exists(true));
+        query.fields().include("_id");
+        return mongoTemplate.find(query, ChatRoomSummaryDocument.class).stream()
+                .map(ChatRoomSummaryDocument::getRoomId)
+                .collect(Collectors.toSet());
+    }
+
+    private static String preview(String content) {
+        if (content == null || content.length() <= PREVIEW_MAX_LENGTH) {
+            return content;
+        }
+        return content.substring(0, PREVIEW_MAX_LENGTH);
+    }
+
+    /** createFromHistory의 방별 집계 결과 (id = roomId) */
+    private record RoomHistory(Integer id, long messageCount, LocalDateTime lastMessageAt,
+                               String lastMessage, SenderType lastSenderType) {}
+
+    private static final class RoomDelta {
+        private long total;
+        private long fromUser;
+        private long fromCenter;
+        private ChatMessageDocument latest;
+
+        void add(ChatMessageDocument message) {
+            total++;
+            if (message.getSenderType() == SenderType.CAR_CENTER) {
+                fromCenter++;
+            } else {
+                fromUser++;
+            }
+            if (latest == null || !message.getSentAt().isBefore(latest.getSentAt())) {
+                latest = message;
+            }
+        }
+    }
+}
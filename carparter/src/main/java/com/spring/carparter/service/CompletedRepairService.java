@@ -22,10 +22,11 @@ import java.util.stream.Collectors;
 public class CompletedRepairService {
 
     private final CompletedRepairRepository completedRepairRepository;
-    private final NotificationService notificationService;
+    private final DomainEventPublisher domainEventPublisher;
     private final UserRepository userRepository;
     private final QuoteRequestRepository quoteRequestRepository;
     private final EstimateRepository estimateRepository;
+    private final QuoteRequestGeoIndex quoteRequestGeoIndex;
     /**
      * 특정 사용자의 모든 수리 완료 내역을 조회합니다.
      */
@@ -92,6 +93,7 @@ public class CompletedRepairService {
 
             // 2-2) QuoteRequest 삭제
             quoteRequestRepository.deleteById(requestId);
+            quoteRequestGeoIndex.remove(requestId);
             log.info("   - QuoteRequest(ID={}) 삭제 완료", requestId);
         } else {
             log.warn(" -> requestId를 찾지 못했습니다. (repairId={}) - 스키마/연관 확인 필요", repairId);
@@ -102,7 +104,7 @@ public class CompletedRepairService {
         userRepository.findById(repair.getUserId()).ifPresent(userToNotify -> {
             String message = "'" + repair.getCarCenterName() + "'에서의 수리가 완료되었습니다. 소중한 리뷰를 남겨주세요!";
             String url = "/mypage/reviews/new?repairId=" + repair.getRepairId();
-            notificationService.sendNotificationToUser(userToNotify, message, url);
+            domainEventPublisher.notifyUser(userToNotify.getUserId(), message, url);
         });
 
         log.info("===== [END] 수리 완료 처리 + 관련 데이터 삭제 + 리뷰 요청 알림 완료 =====");
@@ -161,5 +163,6 @@ public class CompletedRepairService {
         // 4. 완료 처리 후, 기존의 견적 요청서와 관련 데이터들을 삭제합니다.
         QuoteRequest quoteRequestToDelete = acceptedEstimate.getQuoteRequest();
         quoteRequestRepository.delete(quoteRequestToDelete); // 연관된 Estimate들도 함께 삭제됩니다 (Cascade 설정에 따라)
+        quoteRequestGeoIndex.remove(quoteRequestToDelete.getRequestId());
     }
 }
\ No newline at end of file
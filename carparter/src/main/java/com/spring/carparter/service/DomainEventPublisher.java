@@ -0,0 +1,86 @@
+package com.spring.carparter.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.carparter.entity.OutboxEvent;
+import com.spring.carparter.entity.type.OutboxEventType;
+import com.spring.carparter.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 도메인 부수 효과(알림 등)를 아웃박스 테이블에 기록하는 발행기
+ *
+ * - 호출한 비즈니스 트랜잭션에 참여하여 같은 커밋으로 저장됩니다. (롤백되면 이벤트도 사라짐)
+ * - 실제 알림 저장/SSE 전송은 커밋 이후 OutboxRelay가 수행하므로, 비즈니스 트랜잭션은 DB 작업만큼만 락을 잡습니다.
+ * - 커밋 직후 OutboxRelay를 깨워(OutboxEventsCommitted) 주기 폴링을 기다리지 않고 바로 전달합니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+    /** 수신자 한 명에게 보내는 알림 */
+    public record NotificationPayload(String receiverId, String message, String url) {}
+
+    /** 전체 카센터 알림 */
+    public record BroadcastPayload(String message, String url) {}
+
+    /** 새 견적 요청 (주변 카센터 매칭용 좌표 포함) */
+    public record QuoteRequestCreatedPayload(Integer requestId, Double latitude, Double longitude, String message, String url) {}
+
+    /** 삭제된 채팅방 ID 목록 (메시지 저장소 정리용) */
+    public record ChatRoomsClosedPayload(List<Integer> roomIds) {}
+
+    /** 아웃박스에 이벤트가 저장된 트랜잭션이 커밋되었음을 알리는 내부 신호 */
+    public record OutboxEventsCommitted() {}
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Transactional
+    public void notifyUser(String userId, String message, String url) {
+        publish(OutboxEventType.NOTIFICATION, new NotificationPayload(userId, message, url));
+    }
+
+    @Transactional
+    public void notifyCarCenter(String centerId, String message, String url) {
+        publish(OutboxEventType.NOTIFICATION, new NotificationPayload(centerId, message, url));
+    }
+
+    @Transactional
+    public void notifyAllCarCenters(String message, String url) {
+        publish(OutboxEventType.ALL_CAR_CENTERS_NOTIFICATION, new BroadcastPayload(message, url));
+    }
+
+    @Transactional
+    public void quoteRequestCreated(Integer requestId, Double latitude, Double longitude, String message, String url) {
+        publish(OutboxEventType.QUOTE_REQUEST_CREATED, new QuoteRequestCreatedPayload(requestId, latitude, longitude, message, url));
+    }
+
+    @Transactional
+    public void chatRoomsClosed(List<Integer> roomIds) {
+        publish(OutboxEventType.CHAT_ROOMS_CLOSED, new ChatRoomsClosedPayload(roomIds));
+    }
+
+    private void publish(OutboxEventType eventType, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 직렬화에 실패했습니다: " + eventType, e);
+        }
+        OutboxEvent saved = outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(eventType)
+                .payload(json)
+                .build());
+        log.info(" -> 아웃박스 이벤트 기록: {} (ID: {})", eventType, saved.getId());
+        applicationEventPublisher.publishEvent(new OutboxEventsCommitted());
+    }
+}
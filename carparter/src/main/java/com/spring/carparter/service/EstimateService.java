@@ -22,11 +22,11 @@ public class EstimateService {
     private final EstimateRepository estimateRepository;
     private final QuoteRequestRepository quoteRequestRepository;
     private final CarCenterRepository carCenterRepository;
-    private final NotificationService notificationService;
+    private final DomainEventPublisher domainEventPublisher;
+    private final QuoteRequestGeoIndex quoteRequestGeoIndex;
     private final UserRepository userRepository;
     private  final CompletedRepairRepository completedRepairRepository;
-    private final ChatMessageRepository chatMessageRepository;
-    private final ChatRoomRepository chatRoomRepository;
+    private final ChatLifecycleService chatLifecycleService;
 
     // 1. 견적서 제출
     @Transactional
@@ -51,7 +51,7 @@ public class EstimateService {
         if (userToNotify != null) {
             String message = "'" + carCenter.getCenterName() + "'에서 새로운 견적을 보냈습니다.";
             String url = "/user/completed-repairs/" + savedEstimate.getEstimateId();
-            notificationService.sendNotificationToUser(userToNotify, message, url);
+            domainEventPublisher.notifyUser(userToNotify.getUserId(), message, url);
         }
 
         return EstimateResDTO.from(savedEstimate);
@@ -91,7 +91,7 @@ public class EstimateService {
         if (userToNotify != null) {
             String message = "'" + estimate.getCarCenter().getCenterName() + "'에서 견적을 취소했습니다.";
             String url = "/user/quote-requests/" + estimate.getQuoteRequest().getRequestId();
-            notificationService.sendNotificationToUser(userToNotify, message, url);
+            domainEventPublisher.notifyUser(userToNotify.getUserId(), message, url);
         }
 
         estimateRepository.delete(estimate);
@@ -113,7 +113,7 @@ public class EstimateService {
         if (userToNotify != null) {
             String message = "'" + estimate.getCarCenter().getCenterName() + "'에서 견적을 수정했습니다.";
             String url = "/estimates/" + estimateId;
-            notificationService.sendNotificationToUser(userToNotify, message, url);
+            domainEventPublisher.notifyUser(userToNotify.getUserId(), message, url);
         }
 
         return EstimateResDTO.from(estimate);
@@ -137,7 +137,7 @@ public class EstimateService {
         CarCenter carCenterToNotify = estimate.getCarCenter();
         String message = "회원님이 보내신 견적이 거절되었습니다. (견적 ID: " + estimateId + ")";
         String url = "/center/estimates#sent";
-        notificationService.sendNotificationToCarCenter(carCenterToNotify, message, url);
+        domainEventPublisher.notifyCarCenter(carCenterToNotify.getCenterId(), message, url);
     }
 
     // 7. 사용자가 견적서 수락
@@ -188,6 +188,7 @@ public class EstimateService {
 
         // 3. 부모 견적 요청서의 상태를 'COMPLETED'로 변경하여 마감 처리합니다.
         quoteRequest.setStatus(QuoteStatus.COMPLETED);
+        quoteRequestGeoIndex.remove(quoteRequestId);
 
         List<Estimate> otherEstimates = estimateRepository.findByQuoteRequestAndStatus(quoteRequest, EstimateStatus.PENDING);
 
@@ -218,7 +219,7 @@ public class EstimateService {
 
         log.info(" -> 카센터에게 수락 알림을 전송합니다...");
         // ✅ [최종 수정] 사용자의 지적대로 수리 관리 탭으로 바로 가도록 URL 수정
-        notificationService.sendNotificationToCarCenter(acceptedEstimate.getCarCenter(), "회원님이 보내신 견적이 수락되었습니다. 수리를 진행해주세요.", "/center/estimates#repairs");
+        domainEventPublisher.notifyCarCenter(acceptedEstimate.getCarCenter().getCenterId(), "회원님이 보내신 견적이 수락되었습니다. 수리를 진행해주세요.", "/center/estimates#repairs");
 
         log.info("===== [END] 견적서 수락 완료 =====");
     }
@@ -270,17 +271,8 @@ public class EstimateService {
                 selectedEstimate.getEstimateId()
         );
 
-        // 4. ✅ [수정] 채팅 데이터 삭제 로직 (JPA + MongoDB 연동)
-        // 4-1. 먼저, 이 견적 요청과 관련된 모든 '채팅방' 정보를 JPA에서 조회합니다.
-        List<ChatRoom> chatRoomsToDelete = chatRoomRepository.findAllByQuoteRequest_RequestId(quoteRequest.getRequestId());
-
-        // 4-2. 각 채팅방에 속한 '채팅 메시지'들을 MongoDB에서 삭제합니다.
-        for (ChatRoom room : chatRoomsToDelete) {
-            chatMessageRepository.deleteByRoomId(room.getRoomId()); // room.getId()는 채팅방의 ID
-        }
-
-        // 4-3. 메시지 삭제가 완료된 후, '채팅방' 정보들을 JPA에서 삭제합니다.
-        chatRoomRepository.deleteAll(chatRoomsToDelete);
+        // 4. 관련 채팅방 정리: 방은 DELETE 한 번으로 지우고, MongoDB 메시지 정리는 커밋 후 아웃박스로 처리합니다.
+        chatLifecycleService.closeRoomsForQuoteRequest(quoteRequest.getRequestId());
     }
 
     /**
@@ -0,0 +1,318 @@
+package com.spring.carparter.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 위도/경도 좌표를 격자(grid) 셀로 나누어 보관하는 메모리 공간 인덱스
+ *
+ * - 좌표는 객체가 아닌 원시 배열(double[])에 슬롯 단위로 저장하고, 셀에는 슬롯 번호(int[])만 담습니다.
+ * - 반경 검색은 반경을 덮는 셀만, k-최근접 검색은 중심 셀부터 고리(ring) 단위로 넓혀 가며 탐색합니다.
+ * - 읽기는 동시에, 쓰기(등록/이동/삭제)는 단독으로 수행됩니다. (ReadWriteLock)
+ *
+ * 전체 테이블을 훑지 않고 주변 셀만 보므로, 데이터가 10만 건 수준이어도 조회 비용은 주변 밀도에만 비례합니다.
+ */
+public class GeoGridIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+    /** k-최근접 힙의 초기 크기 상한 (k가 커도 미리 큰 배열을 잡지 않음) */
+    private static final int MAX_INITIAL_HEAP_CAPACITY = 256;
+
+    /** 검색 결과 한 건 (ID + 기준점으로부터의 거리) */
+    public record Hit(String id, double distanceKm) {}
+
+    private final double cellSizeDeg;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // == 슬롯 저장소 (원시 배열) == //
+    private String[] ids = new String[1024];
+    private double[] lats = new double[1024];
+    private double[] lons = new double[1024];
+    private boolean[] visible = new boolean[1024];
+    private long[] cellKeys = new long[1024];
+    private int slotCount;
+    private int[] freeSlots = new int[64];
+    private int freeCount;
+
+    private final Map<String, Integer> slotById = new HashMap<>();
+    private final Map<Long, Cell> cells = new HashMap<>();
+
+    /**
+     * @param cellSizeDeg 셀 한 변의 크기(도). 0.02도 ≒ 위도 방향 2.2km
+     */
+    public GeoGridIndex(double cellSizeDeg) {
+        if (cellSizeDeg <= 0) {
+            throw new IllegalArgumentException("셀 크기는 0보다 커야 합니다: " + cellSizeDeg);
+        }
+        this.cellSizeDeg = cellSizeDeg;
+    }
+
+    /**
+     * 항목을 등록하거나, 이미 있으면 좌표/노출 여부를 갱신합니다.
+     *
+     * @param visible false이면 인덱스에는 남아 있지만 검색 결과에서 제외됩니다. (예: 승인 대기 카센터)
+     */
+    public void upsert(String id, double lat, double lon, boolean visible) {
+        lock.writeLock().lock();
+        try {
+            long newCellKey = cellKey(lat, lon);
+            Integer slot = slotById.get(id);
+            if (slot == null) {
+                slot = allocateSlot();
+                ids[slot] = id;
+                slotById.put(id, slot);
+                cells.computeIfAbsent(newCellKey, k -> new Cell()).add(slot);
+            } else if (cellKeys[slot] != newCellKey) {
+                removeFromCell(cellKeys[slot], slot);
+                cells.computeIfAbsent(newCellKey, k -> new Cell()).add(slot);
+            }
+            lats[slot] = lat;
+            lons[slot] = lon;
+            this.visible[slot] = visible;
+            cellKeys[slot] = newCellKey;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 좌표는 그대로 두고 검색 노출 여부만 바꿉니다. 등록되지 않은 ID면 아무 일도 하지 않습니다. */
+    public void setVisible(String id, boolean visible) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.get(id);
+            if (slot != null) {
+                this.visible[slot] = visible;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.remove(id);
+            if (slot == null) {
+                return;
+            }
+            removeFromCell(cellKeys[slot], slot);
+            ids[slot] = null;
+            visible[slot] = false;
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            }
+            freeSlots[freeCount++] = slot;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 기준점에서 반경 안에 있는 항목을 가까운 순으로 반환합니다.
+     * 반경을 덮는 셀을 모두 방문하므로, 외부 입력의 반경은 호출하는 쪽에서 상한을 두어야 합니다.
+     *
+     * @param limit 최대 결과 수 (0 이하이면 제한 없음)
+     * @throws IllegalArgumentException 좌표가 범위를 벗어나거나 반경이 음수/NaN인 경우
+     */
+    public List<Hit> withinRadius(double lat, double lon, double radiusKm, int limit) {
+        checkCoordinates(lat, lon);
+        checkRadius(radiusKm);
+        lock.readLock().lock();
+        try {
+            double latSpan = radiusKm / KM_PER_DEGREE_LAT;
+            double lonSpan = radiusKm / (KM_PER_DEGREE_LAT * Math.max(Math.cos(Math.toRadians(lat)), 0.01));
+            int minLat = cellIndex(lat - latSpan);
+            int maxLat = cellIndex(lat + latSpan);
+            int minLon = cellIndex(lon - lonSpan);
+            int maxLon = cellIndex(lon + lonSpan);
+
+            List<Hit> hits = new ArrayList<>();
+            for (int la = minLat; la <= maxLat; la++) {
+                for (int lo = minLon; lo <= maxLon; lo++) {
+                    Cell cell = cells.get(pack(la, lo));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (int i = 0; i < cell.size; i++) {
+                        int slot = cell.slots[i];
+                        if (!visible[slot]) {
+                            continue;
+                        }
+                        double d = haversineKm(lat, lon, lats[slot], lons[slot]);
+                        if (d <= radiusKm) {
+                            hits.add(new Hit(ids[slot], d));
+                        }
+                    }
+                }
+            }
+            hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+            return (limit > 0 && hits.size() > limit) ? new ArrayList<>(hits.subList(0, limit)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 기준점에서 가장 가까운 k개를 가까운 순으로 반환합니다.
+     * 중심 셀부터 한 고리씩 넓히며, 확보한 k번째 거리가 아직 보지 않은 고리까지의 최소 거리보다 작으면 멈춥니다.
+     *
+     * @param maxRadiusKm 이 거리보다 먼 항목은 찾지 않습니다.
+     * @throws IllegalArgumentException 좌표가 범위를 벗어나거나 반경이 음수/NaN인 경우
+     */
+    public List<Hit> nearest(double lat, double lon, int k, double maxRadiusKm) {
+        checkCoordinates(lat, lon);
+        checkRadius(maxRadiusKm);
+        if (k <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            // 거리가 먼 순으로 꺼내지는 최대 힙 (크기 k 유지)
+            PriorityQueue<Hit> best = new PriorityQueue<>(Math.min(k, MAX_INITIAL_HEAP_CAPACITY) + 1, Comparator.comparingDouble(Hit::distanceKm).reversed());
+            int centerLat = cellIndex(lat);
+            int centerLon = cellIndex(lon);
+            // 경도 방향 셀이 위도 방향보다 좁으므로, 고리 하나가 보장하는 최소 거리는 경도 기준으로 계산합니다.
+            double ringKm = cellSizeDeg * KM_PER_DEGREE_LAT * Math.max(Math.cos(Math.toRadians(Math.abs(lat) + cellSizeDeg)), 0.01);
+            int maxRing = (int) Math.ceil(maxRadiusKm / ringKm) + 1;
+
+            for (int ring = 0; ring <= maxRing; ring++) {
+                for (int la = centerLat - ring; la <= centerLat + ring; la++) {
+                    for (int lo = centerLon - ring; lo <= centerLon + ring; lo++) {
+                        boolean onRing = Math.abs(la - centerLat) == ring || Math.abs(lo - centerLon) == ring;
+                        if (!onRing) {
+                            continue;
+                        }
+                        Cell cell = cells.get(pack(la, lo));
+                        if (cell == null) {
+                            continue;
+                        }
+                        for (int i = 0; i < cell.size; i++) {
+                            int slot = cell.slots[i];
+                            if (!visible[slot]) {
+                                continue;
+                            }
+                            double d = haversineKm(lat, lon, lats[slot], lons[slot]);
+                            if (d > maxRadiusKm) {
+                                continue;
+                            }
+                            if (best.size() < k) {
+                                best.add(new Hit(ids[slot], d));
+                            } else if (d < best.peek().distanceKm()) {
+                                best.poll();
+                                best.add(new Hit(ids[slot], d));
+                            }
+                        }
+                    }
+                }
+                // 다음 고리에 있는 항목은 최소 ring * ringKm 만큼 떨어져 있습니다.
+                if (best.size() == k && best.peek().distanceKm() <= ring * ringKm) {
+                    break;
+                }
+            }
+
+            List<Hit> result = new ArrayList<>(best);
+            result.sort(Comparator.comparingDouble(Hit::distanceKm));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 두 좌표 사이의 대권 거리(km) */
+    public static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /** 위도 -90~90, 경도 -180~180 범위의 유한한 값인지 확인합니다. */
+    public static void checkCoordinates(double lat, double lon) {
+        if (!(lat >= -90 && lat <= 90) || !(lon >= -180 && lon <= 180)) {
+            throw new IllegalArgumentException("좌표 범위가 올바르지 않습니다: lat=" + lat + ", lng=" + lon);
+        }
+    }
+
+    // == 내부 헬퍼 == //
+
+    private static void checkRadius(double radiusKm) {
+        if (!(radiusKm >= 0) || Double.isInfinite(radiusKm)) {
+            throw new IllegalArgumentException("반경이 올바르지 않습니다: " + radiusKm);
+        }
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slotCount == ids.length) {
+            int newLength = ids.length * 2;
+            ids = Arrays.copyOf(ids, newLength);
+            lats = Arrays.copyOf(lats, newLength);
+            lons = Arrays.copyOf(lons, newLength);
+            visible = Arrays.copyOf(visible, newLength);
+            cellKeys = Arrays.copyOf(cellKeys, newLength);
+        }
+        return slotCount++;
+    }
+
+    private void removeFromCell(long key, int slot) {
+        Cell cell = cells.get(key);
+        if (cell != null && cell.remove(slot) && cell.size == 0) {
+            cells.remove(key);
+        }
+    }
+
+    private int cellIndex(double degree) {
+        return (int) Math.floor(degree / cellSizeDeg);
+    }
+
+    private long cellKey(double lat, double lon) {
+        return pack(cellIndex(lat), cellIndex(lon));
+    }
+
+    private static long pack(int latIndex, int lonIndex) {
+        return ((long) latIndex << 32) | (lonIndex & 0xffffffffL);
+    }
+
+    /** 한 셀에 속한 슬롯 번호 목록 (순서 없음, 삭제 시 마지막 원소와 교체) */
+    private static final class Cell {
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        boolean remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
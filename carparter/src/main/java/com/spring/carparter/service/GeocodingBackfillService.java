@@ -0,0 +1,233 @@
+package com.spring.carparter.service;
+
+import com.spring.carparter.entity.CarCenter;
+import com.spring.carparter.entity.CarCenterStatus;
+import com.spring.carparter.entity.type.QuoteStatus;
+import com.spring.carparter.repository.CarCenterRepository;
+import com.spring.carparter.repository.CoordinateJdbcRepository;
+import com.spring.carparter.repository.CoordinateJdbcRepository.CoordinateUpdate;
+import com.spring.carparter.repository.QuoteRequestRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 좌표가 비어 있는 카센터/견적 요청의 지오코딩 백필 작업
+ *
+ * - 좌표가 없는 행을 ID 키셋으로 chunk-size건씩 읽습니다. 반영된 행은 다음 조회 조건에서 빠지므로,
+ *   중간에 멈추거나 재시작해도 처음부터 다시 돌면 남은 행만 이어서 처리합니다.
+ * - 캐시에 있는 주소는 바로 쓰고, 나머지는 GeocodingService(WebClient)로 동시 concurrency건까지,
+ *   초당 rate-per-second건 이하로 조회합니다. (외부 API 호출 한도 보호)
+ * - 청크 결과는 배치 UPDATE 한 번으로 쓰고, 공간 인덱스에 반영합니다.
+ * - 호출에 실패한 행은 그대로 두어 다음 실행에서 다시 시도합니다. 검색 결과가 없는 주소는 캐시 기간(negative-ttl-hours) 동안 외부 API를 다시 부르지 않습니다.
+ * - 진행/실패는 geocoding.backfill.* 지표로 확인합니다. (대상별 target 태그)
+ */
+@Service
+@Slf4j
+public class GeocodingBackfillService {
+
+    private static final String CAR_CENTER = "car_center";
+    private static final String QUOTE_REQUEST = "quote_request";
+
+    private final CarCenterRepository carCenterRepository;
+    private final QuoteRequestRepository quoteRequestRepository;
+    private final CoordinateJdbcRepository coordinateJdbcRepository;
+    private final GeocodingService geocodingService;
+    private final CarCenterGeoIndex carCenterGeoIndex;
+    private final QuoteRequestGeoIndex quoteRequestGeoIndex;
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+    private final TaskExecutor batchJobExecutor;
+    private final int chunkSize;
+    private final int concurrency;
+    private final Duration requestInterval;
+    private final Duration chunkTimeout;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public GeocodingBackfillService(CarCenterRepository carCenterRepository,
+                                    QuoteRequestRepository quoteRequestRepository,
+                                    CoordinateJdbcRepository coordinateJdbcRepository,
+                                    GeocodingService geocodingService,
+                                    CarCenterGeoIndex carCenterGeoIndex,
+                                    QuoteRequestGeoIndex quoteRequestGeoIndex,
+                                    EntityManagerFactory entityManagerFactory,
+                                    @Qualifier("batchJobExecutor") TaskExecutor batchJobExecutor,
+                                    @Value("${geocoding.backfill.chunk-size:200}") int chunkSize,
+                                    @Value("${geocoding.backfill.concurrency:4}") int concurrency,
+                                    @Value("${geocoding.backfill.rate-per-second:10}") int ratePerSecond,
+                                    @Value("${geocoding.backfill.chunk-timeout-ms:120000}") long chunkTimeoutMs,
+                                    MeterRegistry meterRegistry) {
+        this.carCenterRepository = carCenterRepository;
+        this.quoteRequestRepository = quoteRequestRepository;
+        this.coordinateJdbcRepository = coordinateJdbcRepository;
+        this.geocodingService = geocodingService;
+        this.carCenterGeoIndex = carCenterGeoIndex;
+        this.quoteRequestGeoIndex = quoteRequestGeoIndex;
+        this.entityManagerFactory = entityManagerFactory;
+        this.meterRegistry = meterRegistry;
+        this.batchJobExecutor = batchJobExecutor;
+        this.chunkSize = chunkSize;
+        this.concurrency = concurrency;
+        this.requestInterval = Duration.ofMillis(Math.max(1, 1000L / Math.max(ratePerSecond, 1)));
+        this.chunkTimeout = Duration.ofMillis(chunkTimeoutMs);
+
+        meterRegistry.gauge("geocoding.backfill.running", running, flag -> flag.get() ? 1 : 0);
+    }
+
+    @Scheduled(cron = "${geocoding.backfill.cron:0 0 2 * * *}")
+    public void scheduleBackfill() {
+        batchJobExecutor.execute(this::backfill);
+    }
+
+    public void backfill() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("지오코딩 백필이 이미 실행 중이라 건너뜁니다.");
+            return;
+        }
+        try {
+            backfillCarCenters();
+            backfillQuoteRequests();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void backfillCarCenters() {
+        log.info("===== [START] 카센터 지오코딩 백필 =====");
+        long startNanos = System.nanoTime();
+        String lastCenterId = "";
+        int updated = 0;
+        while (true) {
+            List<Object[]> rows = carCenterRepository.findMissingCoordinatesAfter(lastCenterId, PageRequest.of(0, chunkSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+            lastCenterId = (String) rows.get(rows.size() - 1)[0];
+
+            Map<String, CarCenterStatus> statusById = new HashMap<>();
+            List<PendingRow<String>> chunk = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                statusById.put((String) row[0], (CarCenterStatus) row[2]);
+                chunk.add(new PendingRow<>((String) row[0], (String) row[1]));
+            }
+            List<CoordinateUpdate<String>> applied = coordinateJdbcRepository.updateCarCenters(geocodeChunk(CAR_CENTER, chunk));
+            for (CoordinateUpdate<String> update : applied) {
+                // JDBC로 직접 고쳤으므로 2차 캐시(car-center 리전)의 이전 상태를 지웁니다.
+                entityManagerFactory.getCache().evict(CarCenter.class, update.id());
+                carCenterGeoIndex.upsert(update.id(), update.latitude(), update.longitude(), statusById.get(update.id()));
+            }
+            updated += applied.size();
+            updatedCounter(CAR_CENTER).increment(applied.size());
+
+            if (rows.size() < chunkSize) {
+                break;
+            }
+        }
+        log.info("===== [END] 카센터 지오코딩 백필: {}건 반영, {}ms =====",
+                updated, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    private void backfillQuoteRequests() {
+        log.info("===== [START] 견적 요청 지오코딩 백필 =====");
+        long startNanos = System.nanoTime();
+        Integer lastRequestId = 0;
+        int updated = 0;
+        while (true) {
+            List<Object[]> rows = quoteRequestRepository.findMissingCoordinatesAfter(lastRequestId, PageRequest.of(0, chunkSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+            lastRequestId = (Integer) rows.get(rows.size() - 1)[0];
+
+            Map<Integer, QuoteStatus> statusById = new HashMap<>();
+            List<PendingRow<Integer>> chunk = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                statusById.put((Integer) row[0], (QuoteStatus) row[2]);
+                chunk.add(new PendingRow<>((Integer) row[0], (String) row[1]));
+            }
+            List<CoordinateUpdate<Integer>> applied = coordinateJdbcRepository.updateQuoteRequests(geocodeChunk(QUOTE_REQUEST, chunk));
+            for (CoordinateUpdate<Integer> update : applied) {
+                // 주변 견적 피드에는 대기 중인 요청만 노출합니다.
+                if (statusById.get(update.id()) == QuoteStatus.PENDING) {
+                    quoteRequestGeoIndex.add(update.id(), update.latitude(), update.longitude());
+                }
+            }
+            updated += applied.size();
+            updatedCounter(QUOTE_REQUEST).increment(applied.size());
+
+            if (rows.size() < chunkSize) {
+                break;
+            }
+        }
+        log.info("===== [END] 견적 요청 지오코딩 백필: {}건 반영, {}ms =====",
+                updated, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /**
+     * 청크의 주소를 좌표로 바꿉니다. 결과가 없거나 실패한 행은 빠집니다.
+     */
+    private <K> List<CoordinateUpdate<K>> geocodeChunk(String target, List<PendingRow<K>> chunk) {
+        Counter scanned = meterRegistry.counter("geocoding.backfill.scanned", "target", target);
+        Counter notFound = meterRegistry.counter("geocoding.backfill.not_found", "target", target);
+        Counter failed = meterRegistry.counter("geocoding.backfill.failed", "target", target);
+        scanned.increment(chunk.size());
+
+        // 1. 캐시에 좌표가 있는 주소는 외부 호출 없이 바로 씁니다.
+        List<CoordinateUpdate<K>> updates = new ArrayList<>(chunk.size());
+        List<PendingRow<K>> remote = new ArrayList<>();
+        for (PendingRow<K> row : chunk) {
+            geocodingService.findCached(row.address()).ifPresentOrElse(
+                    coords -> updates.add(new CoordinateUpdate<>(row.id(), row.address(), coords.getLatitude(), coords.getLongitude())),
+                    () -> remote.add(row));
+        }
+        if (remote.isEmpty()) {
+            return updates;
+        }
+
+        // 2. 나머지는 요청 간격(rate-per-second)과 동시 호출 수(concurrency)를 지키며 조회합니다.
+        try {
+            List<CoordinateUpdate<K>> fetched = Flux.fromIterable(remote)
+                    .delayElements(requestInterval)
+                    .flatMap(row -> geocodingService.getCoordinates(row.address())
+                            .map(coords -> new CoordinateUpdate<>(row.id(), row.address(), coords.getLatitude(), coords.getLongitude()))
+                            .switchIfEmpty(Mono.fromRunnable(notFound::increment))
+                            .onErrorResume(e -> {
+                                failed.increment();
+                                return Mono.empty();
+                            }), concurrency)
+                    .collectList()
+                    .block(chunkTimeout);
+            if (fetched != null) {
+                updates.addAll(fetched);
+            }
+        } catch (RuntimeException e) {
+            // 청크 제한 시간 초과 등: 이 청크의 남은 행은 다음 실행에서 다시 시도합니다.
+            failed.increment(remote.size());
+            log.error(" -> {} 지오코딩 청크 처리 실패 ({}건): {}", target, remote.size(), e.toString());
+        }
+        return updates;
+    }
+
+    private Counter updatedCounter(String target) {
+        return meterRegistry.counter("geocoding.backfill.updated", "target", target);
+    }
+
+    private record PendingRow<K>(K id, String address) {}
+}
@@ -0,0 +1,21 @@
+package com.spring.carparter.service;
+
+import com.spring.carparter.dto.Coordinates;
+import reactor.core.publisher.Mono;
+
+/**
+ * 주소 → 좌표 변환 외부 API 호출부
+ *
+ * geocoding.client 설정으로 구현을 고릅니다.
+ * - kakao(기본): 카카오 로컬 주소 검색 API (KakaoGeocodingClient)
+ * - stub: 외부 호출 없이 주소마다 고정된 서울 좌표를 돌려주는 로컬 대역 (StubGeocodingClient, 테스트/로컬 개발용)
+ *
+ * 캐시는 GeocodingService가 담당하며, 구현체는 매번 실제로 조회합니다.
+ */
+public interface GeocodingClient {
+
+    /**
+     * @return 좌표 (검색 결과가 없으면 빈 Mono, 호출 실패/시간 초과면 에러)
+     */
+    Mono<Coordinates> geocode(String address);
+}
@@ -1,62 +1,226 @@
 package com.spring.carparter.service;
 
 import com.spring.carparter.dto.Coordinates;
-import com.spring.carparter.dto.KakaoAddressResponse;
-import org.slf4j.Logger; // ❗❗ SLF4J Logger 임포트
-import org.slf4j.LoggerFactory; // ❗❗ SLF4J LoggerFactory 임포트
+import com.spring.carparter.entity.GeocodeCache;
+import com.spring.carparter.repository.GeocodeCacheRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 주소 → 좌표 변환 (캐시 포함)
+ *
+ * 조회 순서: 메모리 → geocode_cache 테이블 → 외부 API(GeocodingClient)
+ * - 주소는 공백 정리 + 유니코드 NFC로 정규화한 값을 키로 씁니다.
+ * - 외부 API 결과는 검색 결과가 없던 경우까지 테이블과 메모리에 저장하므로, 같은 주소로 외부 API를 두 번 부르지 않습니다.
+ *   동시에 같은 주소를 조회해도 진행 중인 조회 하나를 함께 기다립니다.
+ * - 단, 검색 결과 없음은 created_at 기준 negative-ttl-hours 동안만 믿습니다. (카카오에 새 주소가 반영되면 다시 찾을 수 있도록)
+ *   기간이 지난 행은 지우고 외부 API를 다시 부릅니다.
+ * - 호출 실패/시간 초과는 저장하지 않고 에러로 돌려주어, 호출 측(비동기 반영, 백필)이 다시 시도할 수 있게 합니다.
+ * - 메모리 캐시는 max-entries를 넘으면 비웁니다. (테이블에 남아 있으므로 다시 채워짐)
+ */
 @Service
+@Slf4j
 public class GeocodingService {
 
-    // ✅ 로그 출력을 위한 Logger 객체 생성
-    private static final Logger log = LoggerFactory.getLogger(GeocodingService.class);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final GeocodingClient geocodingClient;
+    private final GeocodeCacheRepository geocodeCacheRepository;
+    private final int maxEntries;
+    private final Duration negativeTtl;
+
+    private final Map<String, CachedResult> memory = new ConcurrentHashMap<>();
+    private final Map<String, Mono<Optional<Coordinates>>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter memoryHitCounter;
+    private final Counter tableHitCounter;
+    private final Counter remoteCallCounter;
+    private final Counter remoteFailureCounter;
 
-    private final WebClient webClient;
-    private final String kakaoApiKey;
-    private final String geocodingUrl;
+    public GeocodingService(GeocodingClient geocodingClient,
+                            GeocodeCacheRepository geocodeCacheRepository,
+                            @Value("${geocoding.cache.max-entries:10000}") int maxEntries,
+                            @Value("${geocoding.cache.negative-ttl-hours:24}") long negativeTtlHours,
+                            MeterRegistry meterRegistry) {
+        this.geocodingClient = geocodingClient;
+        this.geocodeCacheRepository = geocodeCacheRepository;
+        this.maxEntries = maxEntries;
+        this.negativeTtl = Duration.ofHours(negativeTtlHours);
 
-    public GeocodingService(WebClient.Builder webClientBuilder,
-                            @Value("${api.kakao.rest-api-key}") String kakaoApiKey,
-                            @Value("${api.kakao.geocoding-url}") String geocodingUrl) {
-        this.kakaoApiKey = "KakaoAK " + kakaoApiKey;
-        this.geocodingUrl = geocodingUrl;
-        this.webClient = webClientBuilder.baseUrl(this.geocodingUrl).build();
+        this.memoryHitCounter = meterRegistry.counter("geocoding.cache.hit", "level", "memory");
+        this.tableHitCounter = meterRegistry.counter("geocoding.cache.hit", "level", "table");
+        this.remoteCallCounter = meterRegistry.counter("geocoding.remote.calls");
+        this.remoteFailureCounter = meterRegistry.counter("geocoding.remote.failures");
+        meterRegistry.gauge("geocoding.cache.memory.size", memory, Map::size);
     }
 
+    /**
+     * 주소의 좌표를 조회합니다.
+     *
+     * @return 좌표 (검색 결과가 없는 주소면 빈 Mono, 외부 API 호출 실패면 에러)
+     */
     public Mono<Coordinates> getCoordinates(String address) {
-        // ✅ 로그 추가 1: 어떤 주소로 API를 호출하는지 기록
-        log.info("카카오 주소 변환 API 호출 시작. 주소: '{}'", address);
-
-        return webClient.get()
-                .uri(uriBuilder -> uriBuilder.queryParam("query", address).build())
-                .header(HttpHeaders.AUTHORIZATION, kakaoApiKey)
-                .accept(MediaType.APPLICATION_JSON)
-                .retrieve()
-                .bodyToMono(KakaoAddressResponse.class)
-                .map(response -> {
-                    if (response != null && !response.getDocuments().isEmpty()) {
-                        KakaoAddressResponse.Document firstDoc = response.getDocuments().get(0);
-                        double latitude = Double.parseDouble(firstDoc.getLatitude());
-                        double longitude = Double.parseDouble(firstDoc.getLongitude());
-
-                        // ✅ 로그 추가 2: API 호출 성공 및 결과 좌표 기록
-                        log.info("주소 변환 성공. 위도: {}, 경도: {}", latitude, longitude);
-                        return new Coordinates(latitude, longitude);
+        String key = normalize(address);
+        if (key.isEmpty()) {
+            return Mono.empty();
+        }
+        Optional<Coordinates> cached = fromMemory(key);
+        if (cached != null) {
+            memoryHitCounter.increment();
+            return Mono.justOrEmpty(cached);
+        }
+        return inFlight.computeIfAbsent(key, this::loadShared).flatMap(GeocodingService::toMono);
+    }
+
+    /**
+     * 캐시(메모리, 테이블)에 좌표가 있으면 바로 돌려줍니다. 외부 API는 호출하지 않습니다.
+     * 호출 스레드에서 PK 조회 한 번이 일어날 수 있습니다.
+     */
+    public Optional<Coordinates> findCached(String address) {
+        String key = normalize(address);
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<Coordinates> cached = fromMemory(key);
+        if (cached != null) {
+            memoryHitCounter.increment();
+            return cached;
+        }
+        return geocodeCacheRepository.findById(key)
+                .filter(row -> !isExpiredNegative(row))
+                .map(row -> {
+                    tableHitCounter.increment();
+                    return remember(key, toCoordinates(row), row.getCreatedAt());
+                })
+                .orElse(Optional.empty());
+    }
+
+    static String normalize(String address) {
+        if (address == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(Normalizer.normalize(address, Normalizer.Form.NFC).trim()).replaceAll(" ");
+    }
+
+    // == 내부 헬퍼 == //
+
+    /** 같은 주소의 동시 조회가 하나의 조회 결과를 함께 받도록 공유합니다. 끝나면 진행 중 목록에서 뺍니다. */
+    private Mono<Optional<Coordinates>> loadShared(String key) {
+        return load(key)
+                .doFinally(signal -> inFlight.remove(key))
+                .cache();
+    }
+
+    private Mono<Optional<Coordinates>> load(String key) {
+        return Mono.fromCallable(() -> geocodeCacheRepository.findById(key))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(row -> {
+                    if (row.isPresent() && !isExpiredNegative(row.get())) {
+                        tableHitCounter.increment();
+                        return Mono.just(remember(key, toCoordinates(row.get()), row.get().getCreatedAt()));
                     }
-                    // ✅ 로그 추가 3: API는 성공했으나, 검색 결과가 없는 경우
-                    log.warn("주소 검색 결과가 없습니다. 주소: '{}'", address);
-                    return null;
+                    row.ifPresent(this::deleteExpired);
+                    return fetchRemote(key);
+                });
+    }
+
+    private Mono<Optional<Coordinates>> fetchRemote(String key) {
+        remoteCallCounter.increment();
+        return geocodingClient.geocode(key)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .doOnError(e -> {
+                    remoteFailureCounter.increment();
+                    log.warn("주소 변환 API 호출 실패. 주소: '{}', 오류: {}", key, e.toString());
                 })
-                .onErrorResume(e -> {
-                    // ✅ 로그 추가 4: API 호출 중 네트워크 오류 등 예외가 발생한 경우
-                    log.error("카카오 주소 변환 API 호출 중 오류 발생! 주소: '{}', 오류: {}", address, e.getMessage());
-                    return Mono.empty(); // 오류 발생 시에는 비어있는 스트림(Mono)을 반환
+                // 결과 저장(JPA)은 블로킹이라 네트워크 스레드에서 하지 않습니다.
+                .publishOn(Schedulers.boundedElastic())
+                .map(result -> {
+                    store(key, result);
+                    return remember(key, result, LocalDateTime.now());
                 });
     }
-}
\ No newline at end of file
+
+    private void store(String key, Optional<Coordinates> result) {
+        if (key.length() > GeocodeCache.MAX_ADDRESS_KEY_LENGTH) {
+            return; // 키 컬럼보다 긴 주소는 메모리에만 둡니다.
+        }
+        try {
+            geocodeCacheRepository.save(GeocodeCache.builder()
+                    .addressKey(key)
+                    .latitude(result.map(Coordinates::getLatitude).orElse(null))
+                    .longitude(result.map(Coordinates::getLongitude).orElse(null))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 같은 주소를 먼저 저장한 경우: 결과가 같으므로 무시합니다.
+            log.debug("지오코딩 캐시 동시 저장: '{}'", key);
+        } catch (RuntimeException e) {
+            // 캐시 저장 실패가 좌표 조회 자체를 실패시키지는 않습니다.
+            log.warn("지오코딩 캐시 저장 실패. 주소: '{}', 오류: {}", key, e.toString());
+        }
+    }
+
+    /** 기간이 지난 검색 결과 없음 행을 지웁니다. (created_at은 바뀌지 않으므로 새 결과는 새 행으로 저장) */
+    private void deleteExpired(GeocodeCache row) {
+        try {
+            geocodeCacheRepository.delete(row);
+        } catch (RuntimeException e) {
+            // 다른 노드가 먼저 지웠거나 다시 저장한 경우: 저장 쪽에서 중복으로 처리됩니다.
+            log.debug("만료된 지오코딩 캐시 삭제 실패: '{}', 오류: {}", row.getAddressKey(), e.toString());
+        }
+    }
+
+    private boolean isExpiredNegative(GeocodeCache row) {
+        return !row.isFound() && row.getCreatedAt().plus(negativeTtl).isBefore(LocalDateTime.now());
+    }
+
+    /** 메모리에 있는 결과 (없거나 기간이 지난 검색 결과 없음이면 null) */
+    private Optional<Coordinates> fromMemory(String key) {
+        CachedResult cached = memory.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAtMillis() < System.currentTimeMillis()) {
+            memory.remove(key, cached);
+            return null;
+        }
+        return cached.coordinates();
+    }
+
+    private Optional<Coordinates> remember(String key, Optional<Coordinates> result, LocalDateTime createdAt) {
+        if (memory.size() >= maxEntries) {
+            memory.clear();
+        }
+        long expiresAtMillis = result.isPresent()
+                ? Long.MAX_VALUE
+                : createdAt.plus(negativeTtl).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        memory.put(key, new CachedResult(result, expiresAtMillis));
+        return result;
+    }
+
+    private static Mono<Coordinates> toMono(Optional<Coordinates> result) {
+        return Mono.justOrEmpty(result);
+    }
+
+    private static Optional<Coordinates> toCoordinates(GeocodeCache row) {
+        return row.isFound() ? Optional.of(new Coordinates(row.getLatitude(), row.getLongitude())) : Optional.empty();
+    }
+
+    /** 메모리 캐시 항목 (좌표를 찾은 결과는 만료 없음) */
+    private record CachedResult(Optional<Coordinates> coordinates, long expiresAtMillis) {}
+}
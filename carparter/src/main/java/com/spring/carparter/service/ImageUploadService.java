@@ -0,0 +1,124 @@
+package com.spring.carparter.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 이미지 파일의 S3 병렬 업로드와 비동기 삭제를 담당하는 서비스
+ *
+ * - uploadAll: 파일마다 업로드 풀에서 병렬로 올리고 모두 끝날 때까지 기다립니다.
+ *   하나라도 실패하면 이미 올라간 파일을 삭제(보상)한 뒤 예외를 던집니다.
+ * - deleteAsync: 삭제는 응답을 기다리게 할 필요가 없으므로 정리 풀에 맡깁니다.
+ *
+ * DB 트랜잭션 밖에서 호출하는 것을 전제로 합니다. (업로드 동안 DB 커넥션을 잡지 않기 위함)
+ */
+@Service
+@Slf4j
+public class ImageUploadService {
+
+    private final S3Service s3Service;
+    private final ThreadPoolTaskExecutor imageUploadExecutor;
+    private final ThreadPoolTaskExecutor imageCleanupExecutor;
+
+    public ImageUploadService(S3Service s3Service,
+                              @Qualifier("imageUploadExecutor") ThreadPoolTaskExecutor imageUploadExecutor,
+                              @Qualifier("imageCleanupExecutor") ThreadPoolTaskExecutor imageCleanupExecutor) {
+        this.s3Service = s3Service;
+        this.imageUploadExecutor = imageUploadExecutor;
+        this.imageCleanupExecutor = imageCleanupExecutor;
+    }
+
+    /**
+     * 파일들을 병렬로 업로드하고, 입력 순서대로 업로드된 URL 목록을 반환합니다.
+     *
+     * @param files     업로드할 파일 목록 (null 또는 빈 목록이면 빈 목록 반환)
+     * @param keyPrefix S3 객체 키 접두어 (예: "used-parts/")
+     * @throws IOException 하나라도 업로드에 실패한 경우 (성공한 파일은 삭제 요청 후 던짐)
+     */
+    public List<String> uploadAll(List<MultipartFile> files, String keyPrefix) throws IOException {
+        if (files == null || files.isEmpty()) {
+            return List.of();
+        }
+        log.info("===== [START] 이미지 병렬 업로드: {}건 =====", files.size());
+        long startNanos = System.nanoTime();
+
+        List<CompletableFuture<String>> futures = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            String objectKey = keyPrefix + UUID.randomUUID() + extensionOf(file.getOriginalFilename());
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return s3Service.uploadFile(file, objectKey);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, imageUploadExecutor));
+        }
+
+        // 실패가 있어도 나머지 업로드가 끝날 때까지 기다려야 보상 삭제 대상을 빠짐없이 알 수 있습니다.
+        List<String> uploadedUrls = new ArrayList<>(files.size());
+        Throwable failure = null;
+        for (CompletableFuture<String> future : futures) {
+            try {
+                uploadedUrls.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            }
+        }
+
+        if (failure != null) {
+            log.error(" -> 이미지 업로드 실패: {}/{}건 성공, 업로드된 파일 삭제(보상) 요청", uploadedUrls.size(), files.size(), failure);
+            deleteAsync(uploadedUrls);
+            if (failure instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw new IOException("이미지 업로드 중 오류가 발생했습니다.", failure);
+        }
+
+        log.info("===== [END] 이미지 병렬 업로드: {}건, {}ms =====", uploadedUrls.size(), (System.nanoTime() - startNanos) / 1_000_000);
+        return uploadedUrls;
+    }
+
+    /**
+     * S3 파일들을 정리 풀에서 비동기로 삭제합니다. 삭제 실패는 로그만 남깁니다.
+     */
+    public void deleteAsync(List<String> fileUrls) {
+        if (fileUrls == null || fileUrls.isEmpty()) {
+            return;
+        }
+        List<String> targets = List.copyOf(fileUrls);
+        try {
+            imageCleanupExecutor.execute(() -> {
+                for (String fileUrl : targets) {
+                    try {
+                        s3Service.deleteFile(fileUrl);
+                    } catch (Exception e) {
+                        log.warn(" -> S3 이미지 삭제 실패 (수동 정리 필요): {}", fileUrl, e);
+                    }
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.warn(" -> 정리 큐가 가득 차 S3 이미지 삭제 작업이 거부되었습니다. (수동 정리 필요) {}", targets);
+        }
+    }
+
+    private static String extensionOf(String originalFilename) {
+        if (originalFilename != null && originalFilename.contains(".")) {
+            return originalFilename.substring(originalFilename.lastIndexOf("."));
+        }
+        return "";
+    }
+}
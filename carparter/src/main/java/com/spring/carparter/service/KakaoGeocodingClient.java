@@ -0,0 +1,68 @@
+package com.spring.carparter.service;
+
+import com.spring.carparter.dto.Coordinates;
+import com.spring.carparter.dto.KakaoAddressResponse;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
+
+/**
+ * 카카오 로컬 주소 검색 API 호출 (geocoding.client=kakao, 기본값)
+ * 연결 시간 제한과 전체 응답 시간 제한을 두어, 카카오 API가 느려져도 호출이 무한정 붙잡혀 있지 않게 합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "geocoding.client", havingValue = "kakao", matchIfMissing = true)
+@Slf4j
+public class KakaoGeocodingClient implements GeocodingClient {
+
+    private final WebClient webClient;
+    private final String kakaoApiKey;
+    private final Duration timeout;
+
+    public KakaoGeocodingClient(WebClient.Builder webClientBuilder,
+                                @Value("${api.kakao.rest-api-key}") String kakaoApiKey,
+                                @Value("${api.kakao.geocoding-url}") String geocodingUrl,
+                                @Value("${geocoding.kakao.connect-timeout-ms:1000}") int connectTimeoutMs,
+                                @Value("${geocoding.kakao.timeout-ms:3000}") long timeoutMs) {
+        this.kakaoApiKey = "KakaoAK " + kakaoApiKey;
+        this.timeout = Duration.ofMillis(timeoutMs);
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(timeout);
+        this.webClient = webClientBuilder
+                .baseUrl(geocodingUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    @Override
+    public Mono<Coordinates> geocode(String address) {
+        log.debug("카카오 주소 변환 API 호출: '{}'", address);
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.queryParam("query", address).build())
+                .header(HttpHeaders.AUTHORIZATION, kakaoApiKey)
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToMono(KakaoAddressResponse.class)
+                .timeout(timeout)
+                .flatMap(response -> {
+                    if (response.getDocuments() == null || response.getDocuments().isEmpty()) {
+                        log.warn("주소 검색 결과가 없습니다. 주소: '{}'", address);
+                        return Mono.empty();
+                    }
+                    KakaoAddressResponse.Document firstDoc = response.getDocuments().get(0);
+                    return Mono.just(new Coordinates(
+                            Double.parseDouble(firstDoc.getLatitude()), Double.parseDouble(firstDoc.getLongitude())));
+                });
+    }
+}
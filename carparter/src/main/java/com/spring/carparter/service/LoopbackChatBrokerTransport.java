@@ -0,0 +1,83 @@
+package com.spring.carparter.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안에서 방 단위로 메시지를 전달하는 루프백 전송
+ *
+ * - 단일 노드 운영과 테스트용입니다. 같은 허브를 공유하는 인스턴스끼리만 메시지가 오가므로,
+ *   한 JVM에 애플리케이션 컨텍스트를 여러 개 띄우면 다중 노드처럼 동작을 확인할 수 있습니다.
+ * - 전달은 보내는 스레드에서 동기로 이루어집니다.
+ */
+@Component
+@ConditionalOnProperty(name = "chat.broker.transport", havingValue = "loopback", matchIfMissing = true)
+@Slf4j
+public class LoopbackChatBrokerTransport implements ChatBrokerTransport {
+
+    /** JVM 전체에서 공유하는 기본 허브 */
+    private static final Hub SHARED_HUB = new Hub();
+
+    private final Hub hub;
+    private volatile Consumer<Envelope> listener = envelope -> { };
+
+    public LoopbackChatBrokerTransport() {
+        this(SHARED_HUB);
+    }
+
+    public LoopbackChatBrokerTransport(Hub hub) {
+        this.hub = hub;
+    }
+
+    @Override
+    public void setListener(Consumer<Envelope> listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void publish(Envelope envelope) {
+        for (LoopbackChatBrokerTransport node : hub.subscribersOf(envelope.roomId())) {
+            try {
+                node.listener.accept(envelope);
+            } catch (Exception e) {
+                log.warn(" -> 루프백 채팅 메시지 전달 실패 (방 ID: {})", envelope.roomId(), e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Integer roomId) {
+        hub.add(roomId, this);
+    }
+
+    @Override
+    public void unsubscribe(Integer roomId) {
+        hub.remove(roomId, this);
+    }
+
+    /** 방 ID → 구독 중인 전송 인스턴스 목록 */
+    public static final class Hub {
+        private final Map<Integer, Set<LoopbackChatBrokerTransport>> subscribers = new ConcurrentHashMap<>();
+
+        void add(Integer roomId, LoopbackChatBrokerTransport node) {
+            subscribers.computeIfAbsent(roomId, k -> ConcurrentHashMap.newKeySet()).add(node);
+        }
+
+        void remove(Integer roomId, LoopbackChatBrokerTransport node) {
+            subscribers.computeIfPresent(roomId, (k, nodes) -> {
+                nodes.remove(node);
+                return nodes.isEmpty() ? null : nodes;
+            });
+        }
+
+        Set<LoopbackChatBrokerTransport> subscribersOf(Integer roomId) {
+            return subscribers.getOrDefault(roomId, Set.of());
+        }
+    }
+}
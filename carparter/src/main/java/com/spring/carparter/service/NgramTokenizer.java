@@ -0,0 +1,76 @@
+package com.spring.carparter.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 한글 검색용 n-gram 토크나이저
+ *
+ * 한국어는 조사/복합어 때문에 띄어쓰기 단위로는 검색이 잘 되지 않으므로("헤드라이트어셈블리" ⊃ "헤드라이트"),
+ * 단어를 글자 2개씩 잘라(bigram) 색인합니다.
+ * - 소문자로 바꾸고 글자/숫자가 아닌 문자는 구분자로 취급합니다.
+ * - 단어마다 bigram, 1글자 토큰(unigram), 3글자 이상이면 단어 전체를 함께 내보냅니다.
+ *   (unigram은 한 글자 검색어용, 단어 전체 토큰은 정확히 일치하는 문서의 점수를 높이는 용도)
+ */
+final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    /** 색인용: 문서의 모든 토큰 (중복 포함, 빈도 계산에 사용) */
+    static List<String> indexTokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.add(word.substring(i, i + 1));
+            }
+            appendGrams(word, tokens);
+        }
+        return tokens;
+    }
+
+    /** 검색용: 1글자 단어는 unigram, 그 외는 bigram과 단어 전체 (중복 제거는 호출 측에서) */
+    static List<String> queryTokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+            } else {
+                appendGrams(word, tokens);
+            }
+        }
+        return tokens;
+    }
+
+    private static void appendGrams(String word, List<String> tokens) {
+        for (int i = 0; i + 2 <= word.length(); i++) {
+            tokens.add(word.substring(i, i + 2));
+        }
+        if (word.length() >= 3) {
+            tokens.add(word);
+        }
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return words;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (current.length() > 0) {
+                words.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            words.add(current.toString());
+        }
+        return words;
+    }
+}
@@ -0,0 +1,192 @@
+package com.spring.carparter.service;
+
+import com.spring.carparter.repository.CarCenterRepository;
+import com.spring.carparter.repository.NotificationJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 카센터 대상 알림 팬아웃 파이프라인
+ *
+ * 1. 요청 스레드는 작업을 큐에 넣고 바로 반환합니다.
+ * 2. 팬아웃 스레드가 카센터 ID를 키셋 청크 단위로 읽어 청크마다 JDBC 배치 INSERT를 수행합니다.
+ * 3. 접속 중인 카센터에 대한 SSE 전송은 별도의 제한된 워커 풀로 넘깁니다.
+ */
+@Service
+@Slf4j
+public class NotificationFanoutService {
+
+    private final CarCenterRepository carCenterRepository;
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final SseEmitterRegistry sseEmitterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor fanoutExecutor;
+    private final ThreadPoolTaskExecutor sseDeliveryExecutor;
+    private final int chunkSize;
+
+    private final Counter insertedCounter;
+    private final Counter sseSentCounter;
+    private final Counter sseDroppedCounter;
+    private final Counter rejectedJobCounter;
+    private final Timer fanoutTimer;
+
+    public NotificationFanoutService(CarCenterRepository carCenterRepository,
+                                     NotificationJdbcRepository notificationJdbcRepository,
+                                     SseEmitterRegistry sseEmitterRegistry,
+                                     TransactionTemplate transactionTemplate,
+                                     @Qualifier("notificationFanoutExecutor") ThreadPoolTaskExecutor fanoutExecutor,
+                                     @Qualifier("sseDeliveryExecutor") ThreadPoolTaskExecutor sseDeliveryExecutor,
+                                     @Value("${notification.fanout.chunk-size:500}") int chunkSize,
+                                     MeterRegistry meterRegistry) {
+        this.carCenterRepository = carCenterRepository;
+        this.notificationJdbcRepository = notificationJdbcRepository;
+        this.sseEmitterRegistry = sseEmitterRegistry;
+        this.transactionTemplate = transactionTemplate;
+        this.fanoutExecutor = fanoutExecutor;
+        this.sseDeliveryExecutor = sseDeliveryExecutor;
+        this.chunkSize = chunkSize;
+
+        this.insertedCounter = meterRegistry.counter("notification.fanout.inserted");
+        this.sseSentCounter = meterRegistry.counter("notification.fanout.sse.sent");
+        this.sseDroppedCounter = meterRegistry.counter("notification.fanout.sse.dropped");
+        this.rejectedJobCounter = meterRegistry.counter("notification.fanout.rejected");
+        this.fanoutTimer = meterRegistry.timer("notification.fanout.duration");
+    }
+
+    /**
+     * 전체 카센터 알림 작업을 큐에 넣고 즉시 반환합니다.
+     * 팬아웃 큐가 가득 차면 지표를 남기고 TaskRejectedException을 그대로 던집니다.
+     * (호출 측 아웃박스 이벤트가 삭제되지 않고 백오프 후 다시 시도되도록)
+     *
+     * @throws TaskRejectedException 팬아웃 큐가 가득 찬 경우
+     */
+    public void enqueueToAllCarCenters(String message, String url) {
+        try {
+            fanoutExecutor.execute(() -> fanoutToAllCarCenters(message, url));
+            log.info(" -> 전체 카센터 알림 작업 등록 완료. 대기 중인 작업 수: {}", fanoutExecutor.getThreadPoolExecutor().getQueue().size());
+        } catch (TaskRejectedException e) {
+            rejectedJobCounter.increment();
+            log.warn(" -> 팬아웃 큐가 가득 차 전체 카센터 알림 작업이 거부되었습니다. (내용: '{}')", message);
+            throw e;
+        }
+    }
+
+    /**
+     * 지정한 카센터들에게만 보내는 알림 작업을 큐에 넣고 즉시 반환합니다. (위치 기반 견적 매칭 등)
+     * 저장/전송 방식은 전체 팬아웃과 같고, 대상 ID 목록을 청크로 나눠 처리합니다.
+     *
+     * @throws TaskRejectedException 팬아웃 큐가 가득 찬 경우
+     */
+    public void enqueueToCarCenters(List<String> centerIds, String message, String url) {
+        if (centerIds.isEmpty()) {
+            return;
+        }
+        List<String> targets = List.copyOf(centerIds);
+        try {
+            fanoutExecutor.execute(() -> fanoutToCarCenters(targets, message, url));
+            log.info(" -> 카센터 {}곳 대상 알림 작업 등록 완료.", targets.size());
+        } catch (TaskRejectedException e) {
+            rejectedJobCounter.increment();
+            log.warn(" -> 팬아웃 큐가 가득 차 카센터 {}곳 대상 알림 작업이 거부되었습니다. (내용: '{}')", targets.size(), message);
+            throw e;
+        }
+    }
+
+    private void fanoutToCarCenters(List<String> centerIds, String message, String url) {
+        log.info("===== [START] 대상 카센터 알림 팬아웃: {}곳 =====", centerIds.size());
+        long startNanos = System.nanoTime();
+        LocalDateTime createTime = LocalDateTime.now();
+        int delivered = 0;
+
+        try {
+            for (int from = 0; from < centerIds.size(); from += chunkSize) {
+                List<String> chunk = centerIds.subList(from, Math.min(from + chunkSize, centerIds.size()));
+                deliverChunk(chunk, message, url, createTime);
+                delivered += chunk.size();
+            }
+        } catch (Exception e) {
+            log.error(" -> 대상 카센터 알림 팬아웃 중 오류 발생. 처리 완료: {}/{}곳", delivered, centerIds.size(), e);
+        } finally {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            fanoutTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            log.info("===== [END] 대상 카센터 알림 팬아웃: {}건, {}ms =====", delivered, elapsedNanos / 1_000_000);
+        }
+    }
+
+    private void fanoutToAllCarCenters(String message, String url) {
+        log.info("===== [START] 전체 카센터 알림 팬아웃 =====");
+        long startNanos = System.nanoTime();
+        LocalDateTime createTime = LocalDateTime.now();
+        String lastCenterId = "";
+        long total = 0;
+        int chunks = 0;
+
+        try {
+            while (true) {
+                List<String> centerIds = carCenterRepository.findCenterIdsAfter(lastCenterId, PageRequest.of(0, chunkSize));
+                if (centerIds.isEmpty()) {
+                    break;
+                }
+
+                deliverChunk(centerIds, message, url, createTime);
+                total += centerIds.size();
+                chunks++;
+
+                if (centerIds.size() < chunkSize) {
+                    break;
+                }
+                lastCenterId = centerIds.get(centerIds.size() - 1);
+            }
+        } catch (Exception e) {
+            log.error(" -> 전체 카센터 알림 팬아웃 중 오류 발생. 마지막 처리 카센터 ID: '{}'", lastCenterId, e);
+        } finally {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            fanoutTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            double seconds = Math.max(elapsedNanos / 1_000_000_000.0, 0.001);
+            log.info("===== [END] 전체 카센터 알림 팬아웃: {}건 / {}청크, {}ms ({}건/초), SSE 대기열: {} =====",
+                    total, chunks, elapsedNanos / 1_000_000, Math.round(total / seconds),
+                    sseDeliveryExecutor.getThreadPoolExecutor().getQueue().size());
+        }
+    }
+
+    /** 한 청크: 배치 INSERT 후, 접속 중인 카센터에만 SSE 전송을 맡깁니다. */
+    private void deliverChunk(List<String> centerIds, String message, String url, LocalDateTime createTime) {
+        transactionTemplate.executeWithoutResult(status ->
+                notificationJdbcRepository.batchInsert(centerIds, message, url, createTime));
+        insertedCounter.increment(centerIds.size());
+
+        for (String centerId : centerIds) {
+            if (sseEmitterRegistry.isOnline(centerId)) {
+                dispatchSse(centerId, message);
+            }
+        }
+    }
+
+    private void dispatchSse(String centerId, String message) {
+        try {
+            sseDeliveryExecutor.execute(() -> {
+                if (sseEmitterRegistry.send(centerId, message)) {
+                    sseSentCounter.increment();
+                } else {
+                    sseDroppedCounter.increment();
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // 전송 큐가 가득 찬 경우: 알림은 DB에 저장되어 있으므로 실시간 전송만 생략합니다.
+            sseDroppedCounter.increment();
+        }
+    }
+}
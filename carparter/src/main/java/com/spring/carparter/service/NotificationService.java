@@ -4,7 +4,6 @@ import com.spring.carparter.dto.NotificationResDTO;
 import com.spring.carparter.entity.CarCenter;
 import com.spring.carparter.entity.Notification;
 import com.spring.carparter.entity.User;
-import com.spring.carparter.repository.CarCenterRepository;
 import com.spring.carparter.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,8 +15,6 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,43 +22,33 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class NotificationService {
 
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
     private final NotificationRepository notificationRepository;
-    private final CarCenterRepository carCenterRepository;
+    private final SseEmitterRegistry sseEmitterRegistry;
+    private final NotificationFanoutService notificationFanoutService;
 
     public SseEmitter subscribe(String userId) {
         log.info("===== [START] SSE 구독 시작: 사용자 ID '{}' =====", userId);
         SseEmitter emitter = new SseEmitter(3600L * 1000);
-        emitters.put(userId, emitter);
-        log.info(" -> Emitter 객체 생성 및 저장 완료. 현재 연결된 Emitter 수: {}", emitters.size());
-
-        emitter.onCompletion(() -> {
-            log.info(" -> SSE 연결 완료됨 (onCompletion). 사용자 ID: '{}'", userId);
-            emitters.remove(userId);
-        });
-        emitter.onTimeout(() -> {
-            log.info(" -> SSE 연결 시간 초과 (onTimeout). 사용자 ID: '{}'", userId);
-            emitters.remove(userId);
-        });
-        emitter.onError(e -> {
-            log.warn(" -> SSE 오류 발생 (onError). 사용자 ID: '{}', 오류: {}", userId, e.toString());
-            emitters.remove(userId);
-        });
+        sseEmitterRegistry.register(userId, emitter);
+        log.info(" -> Emitter 객체 생성 및 저장 완료. 현재 연결된 Emitter 수: {}", sseEmitterRegistry.size());
 
         try {
             emitter.send(SseEmitter.event().name("connect").data("SSE connection established for user: " + userId));
             log.info(" -> 초기 연결 확인 메시지 전송 성공.");
         } catch (IOException e) {
             log.error(" -> 초기 연결 메시지 전송 중 오류 발생.", e);
-            emitters.remove(userId);
+            sseEmitterRegistry.remove(userId);
         }
         log.info("===== [END] SSE 구독 완료: 사용자 ID '{}' =====", userId);
         return emitter;
     }
 
-    @Transactional
-    private void sendNotification(String receiverId, String message, String url) {
-        log.info(" -> [private] sendNotification 호출됨. 수신자: '{}'", receiverId);
+    /**
+     * 수신자 한 명에게 알림을 저장하고, 접속 중이면 실시간(SSE)으로 전송합니다.
+     * 호출 측 트랜잭션(OutboxRelay)에 참여하며, SSE 전송은 알림 저장이 커밋된 뒤에 수행합니다.
+     */
+    public void sendNotification(String receiverId, String message, String url) {
+        log.info(" -> sendNotification 호출됨. 수신자: '{}'", receiverId);
         Notification notification = Notification.builder()
                 .receiverId(receiverId)
                 .message(message)
@@ -70,33 +57,37 @@ public class NotificationService {
         notificationRepository.save(notification);
         log.info("   - 알림 DB 저장 완료. (내용: '{}')", message);
 
-        SseEmitter emitter = emitters.get(receiverId);
-        if (emitter != null) {
-            log.info("   - 온라인 상태(Emitter 존재). 실시간 알림 전송 시도...");
-            try {
-                // 실제 전송 시 DTO 변환이 필요할 수 있습니다.
-                // 예: emitter.send(SseEmitter.event().name("notification").data(NotificationResDTO.from(notification)));
-                emitter.send(SseEmitter.event().name("notification").data(message));
-                log.info("   - ✅ 실시간 알림 전송 성공!");
-            } catch (IOException e) {
-                log.error("   - ❌ 실시간 알림 전송 중 오류 발생.", e);
-                emitters.remove(receiverId);
+        AfterCommit.run(() -> {
+            if (sseEmitterRegistry.isOnline(receiverId)) {
+                log.info("   - 온라인 상태(Emitter 존재). 실시간 알림 전송 시도...");
+                if (sseEmitterRegistry.send(receiverId, message)) {
+                    log.info("   - ✅ 실시간 알림 전송 성공!");
+                }
+            } else {
+                log.warn("   - 오프라인 상태(Emitter 없음). DB에만 알림이 저장됩니다.");
             }
-        } else {
-            log.warn("   - 오프라인 상태(Emitter 없음). DB에만 알림이 저장됩니다.");
-        }
+        });
     }
 
+    /**
+     * 전체 카센터에 알림을 보냅니다.
+     * 카센터 수만큼 INSERT/SSE 전송이 발생하므로 요청 스레드에서는 작업 등록만 하고,
+     * 실제 저장과 전송은 NotificationFanoutService가 백그라운드에서 청크 단위로 처리합니다.
+     */
     public void sendNotificationToAllCarCenters(String message, String url) {
-        log.info("===== [START] 전체 카센터 알림 전송 =====");
-        List<CarCenter> allCarCenters = carCenterRepository.findAll();
-        log.info(" -> 총 {}개의 카센터를 대상으로 알림 전송을 시작합니다.", allCarCenters.size());
+        log.info("===== [START] 전체 카센터 알림 전송 요청 =====");
+        notificationFanoutService.enqueueToAllCarCenters(message, url);
+        log.info("===== [END] 전체 카센터 알림 전송 요청 완료 =====");
+    }
 
-        for (CarCenter center : allCarCenters) {
-            log.info("   -> 카센터 '{}' 알림 전송 처리...", center.getCenterId());
-            sendNotification(center.getCenterId(), message, url);
-        }
-        log.info("===== [END] 전체 카센터 알림 전송 완료 =====");
+    /**
+     * 지정한 카센터들에게만 알림을 보냅니다. (위치 기반 견적 매칭 결과 등)
+     * 전체 알림과 마찬가지로 백그라운드에서 청크 단위 배치 INSERT + SSE 전송으로 처리됩니다.
+     */
+    public void sendNotificationToCarCenters(List<String> centerIds, String message, String url) {
+        log.info("===== [START] 대상 카센터 알림 전송 요청: {}곳 =====", centerIds.size());
+        notificationFanoutService.enqueueToCarCenters(centerIds, message, url);
+        log.info("===== [END] 대상 카센터 알림 전송 요청 완료 =====");
     }
 
     public void sendNotificationToUser(User user, String message, String url) {
@@ -0,0 +1,192 @@
+package com.spring.carparter.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.carparter.entity.OutboxEvent;
+import com.spring.carparter.entity.type.OutboxStatus;
+import com.spring.carparter.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 아웃박스 이벤트 전달기
+ *
+ * - 커밋 직후 신호(OutboxEventsCommitted)를 받거나 주기 폴링 시, 대기 이벤트를 배치 단위로 읽어 전달합니다.
+ * - 이벤트마다 별도 트랜잭션에서 "부수 효과 실행 + 이벤트 삭제"를 함께 커밋하므로, 성공한 이벤트가 다시 전달되지 않습니다.
+ * - 실패하면 지수 백오프로 다음 시도 시각을 미루고, 최대 횟수를 넘으면 FAILED로 남겨 둡니다.
+ *   팬아웃 작업이 큐에 들어가지 못한 경우(TaskRejectedException)도 실패로 보아, 이벤트를 지우지 않고 다시 시도합니다.
+ * - 한 인스턴스 안에서는 한 번에 하나의 전달 루프만 실행됩니다.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final NotificationService notificationService;
+    private final QuoteMatchingService quoteMatchingService;
+    private final ChatLifecycleService chatLifecycleService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor outboxRelayExecutor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBaseSeconds;
+
+    private final ReentrantLock relayLock = new ReentrantLock();
+    private final AtomicBoolean rerunRequested = new AtomicBoolean();
+
+    private final Counter dispatchedCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       NotificationService notificationService,
+                       QuoteMatchingService quoteMatchingService,
+                       ChatLifecycleService chatLifecycleService,
+                       ObjectMapper objectMapper,
+                       TransactionTemplate transactionTemplate,
+                       @Qualifier("outboxRelayExecutor") ThreadPoolTaskExecutor outboxRelayExecutor,
+                       @Value("${outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+                       @Value("${outbox.relay.retry-base-seconds:5}") long retryBaseSeconds,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.notificationService = notificationService;
+        this.quoteMatchingService = quoteMatchingService;
+        this.chatLifecycleService = chatLifecycleService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.outboxRelayExecutor = outboxRelayExecutor;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBaseSeconds = retryBaseSeconds;
+
+        this.dispatchedCounter = meterRegistry.counter("outbox.dispatched");
+        this.retryCounter = meterRegistry.counter("outbox.retry");
+        this.failedCounter = meterRegistry.counter("outbox.failed");
+        meterRegistry.gauge("outbox.pending", outboxEventRepository, repo -> repo.countByStatus(OutboxStatus.PENDING));
+    }
+
+    /**
+     * 이벤트를 기록한 트랜잭션이 커밋되면 전달 루프를 바로 깨웁니다.
+     * (트랜잭션 밖에서 발행된 경우에도 실행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsCommitted(DomainEventPublisher.OutboxEventsCommitted signal) {
+        // 이미 대기 중인 실행이 있으면 풀에서 버려지며, 그 실행이 새 이벤트까지 처리합니다.
+        outboxRelayExecutor.execute(this::relayPending);
+    }
+
+    /**
+     * 주기 폴링: 재시도 시각이 된 이벤트나, 커밋 신호를 놓친 이벤트를 전달합니다.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:2000}")
+    public void relayPending() {
+        if (!relayLock.tryLock()) {
+            // 다른 스레드가 전달 중이면 끝난 뒤 한 번 더 돌도록 표시만 합니다.
+            rerunRequested.set(true);
+            return;
+        }
+        try {
+            do {
+                rerunRequested.set(false);
+                while (relayBatch() == batchSize) {
+                    // 배치가 가득 찼다면 남은 이벤트가 더 있을 수 있으므로 계속 진행
+                }
+            } while (rerunRequested.get());
+        } catch (Exception e) {
+            log.error(" -> 아웃박스 전달 루프 중 오류 발생", e);
+        } finally {
+            relayLock.unlock();
+        }
+    }
+
+    private int relayBatch() {
+        List<Long> eventIds = outboxEventRepository.findDispatchableIds(
+                OutboxStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize));
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+
+        int dispatched = 0;
+        for (Long eventId : eventIds) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        outboxEventRepository.findById(eventId).ifPresent(event -> {
+                            dispatch(event);
+                            outboxEventRepository.delete(event);
+                        }));
+                dispatchedCounter.increment();
+                dispatched++;
+            } catch (Exception e) {
+                recordFailure(eventId, e);
+            }
+        }
+        log.info(" -> 아웃박스 이벤트 전달: {}/{}건 성공", dispatched, eventIds.size());
+        return eventIds.size();
+    }
+
+    private void dispatch(OutboxEvent event) {
+        try {
+            switch (event.getEventType()) {
+                case NOTIFICATION -> {
+                    DomainEventPublisher.NotificationPayload payload =
+                            objectMapper.readValue(event.getPayload(), DomainEventPublisher.NotificationPayload.class);
+                    notificationService.sendNotification(payload.receiverId(), payload.message(), payload.url());
+                }
+                case ALL_CAR_CENTERS_NOTIFICATION -> {
+                    DomainEventPublisher.BroadcastPayload payload =
+                            objectMapper.readValue(event.getPayload(), DomainEventPublisher.BroadcastPayload.class);
+                    notificationService.sendNotificationToAllCarCenters(payload.message(), payload.url());
+                }
+                case QUOTE_REQUEST_CREATED -> {
+                    DomainEventPublisher.QuoteRequestCreatedPayload payload =
+                            objectMapper.readValue(event.getPayload(), DomainEventPublisher.QuoteRequestCreatedPayload.class);
+                    quoteMatchingService.notifyMatchingCenters(payload.requestId(), payload.latitude(), payload.longitude(),
+                            payload.message(), payload.url());
+                }
+                case CHAT_ROOMS_CLOSED -> {
+                    DomainEventPublisher.ChatRoomsClosedPayload payload =
+                            objectMapper.readValue(event.getPayload(), DomainEventPublisher.ChatRoomsClosedPayload.class);
+                    chatLifecycleService.purgeRoomData(payload.roomIds());
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 역직렬화에 실패했습니다. ID: " + event.getId(), e);
+        }
+    }
+
+    private void recordFailure(Long eventId, Exception cause) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxEventRepository.findById(eventId).ifPresent(event -> {
+                        long backoffSeconds = retryBaseSeconds << Math.min(event.getAttempts(), 10);
+                        event.recordFailure(cause.toString(), maxAttempts, LocalDateTime.now().plusSeconds(backoffSeconds));
+                        if (event.getStatus() == OutboxStatus.FAILED) {
+                            failedCounter.increment();
+                            log.error(" -> 아웃박스 이벤트 전달 포기 (ID: {}, 시도: {}회)", eventId, event.getAttempts(), cause);
+                        } else {
+                            retryCounter.increment();
+                            log.warn(" -> 아웃박스 이벤트 전달 실패, {}초 후 재시도 (ID: {}, 시도: {}회): {}",
+                                    backoffSeconds, eventId, event.getAttempts(), cause.toString());
+                        }
+                    }));
+        } catch (Exception e) {
+            log.error(" -> 아웃박스 이벤트 실패 기록 중 오류 발생 (ID: {})", eventId, e);
+        }
+    }
+}
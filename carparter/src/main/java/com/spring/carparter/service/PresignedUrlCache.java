@@ -0,0 +1,49 @@
+package com.spring.carparter.service;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 객체 키별로 발급한 Pre-signed URL을 보관하는 LRU 캐시
+ * - 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거합니다.
+ * - 만료 직전(refreshMargin 이내)의 URL은 돌려주지 않아, 응답으로 나간 URL이 곧바로 만료되는 일이 없도록 합니다.
+ */
+class PresignedUrlCache {
+
+    private record Entry(String url, Instant expiresAt) {}
+
+    private final Map<String, Entry> entries;
+
+    PresignedUrlCache(int maxSize) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @param usableUntil 이 시각 이후까지 유효한 URL만 반환합니다. (현재 시각 + 재발급 여유 시간)
+     */
+    synchronized String get(String objectKey, Instant usableUntil) {
+        Entry entry = entries.get(objectKey);
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.expiresAt().isAfter(usableUntil)) {
+            entries.remove(objectKey);
+            return null;
+        }
+        return entry.url();
+    }
+
+    synchronized void put(String objectKey, String url, Instant expiresAt) {
+        entries.put(objectKey, new Entry(url, expiresAt));
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+}
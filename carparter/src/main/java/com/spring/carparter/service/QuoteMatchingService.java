@@ -0,0 +1,66 @@
+package com.spring.carparter.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 새 견적 요청을 알릴 카센터를 고르는 매칭 서비스
+ *
+ * - 요청 좌표 기준 반경(quote.matching.radius-km) 안의 승인된 카센터를 가까운 순으로 최대 max-centers곳 선택합니다.
+ * - 반경 안에 카센터가 없으면 가장 가까운 fallback-nearest곳에 보냅니다. (요청이 아무에게도 전달되지 않는 것을 방지)
+ * - 요청에 좌표가 없으면(지오코딩 실패 등) 기존처럼 전체 카센터에 알립니다.
+ */
+@Service
+@Slf4j
+public class QuoteMatchingService {
+
+    /** 반경 밖 대체 매칭 시에도 이보다 먼 카센터는 제외합니다. */
+    private static final double FALLBACK_MAX_RADIUS_KM = 50.0;
+
+    private final CarCenterGeoIndex carCenterGeoIndex;
+    private final NotificationService notificationService;
+    private final double radiusKm;
+    private final int maxCenters;
+    private final int fallbackNearest;
+
+    public QuoteMatchingService(CarCenterGeoIndex carCenterGeoIndex,
+                                NotificationService notificationService,
+                                @Value("${quote.matching.radius-km:10}") double radiusKm,
+                                @Value("${quote.matching.max-centers:200}") int maxCenters,
+                                @Value("${quote.matching.fallback-nearest:20}") int fallbackNearest) {
+        this.carCenterGeoIndex = carCenterGeoIndex;
+        this.notificationService = notificationService;
+        this.radiusKm = radiusKm;
+        this.maxCenters = maxCenters;
+        this.fallbackNearest = fallbackNearest;
+    }
+
+    /**
+     * 견적 요청 주변 카센터를 골라 알림을 보냅니다.
+     *
+     * @return 알림 대상 카센터 ID 목록 (전체 알림으로 대체된 경우 빈 목록)
+     */
+    public List<String> notifyMatchingCenters(Integer requestId, Double latitude, Double longitude, String message, String url) {
+        log.info("===== [START] 견적 요청 매칭: 요청 ID '{}' =====", requestId);
+
+        if (latitude == null || longitude == null) {
+            log.warn(" -> 요청 좌표가 없어 전체 카센터에 알립니다. 요청 ID: {}", requestId);
+            notificationService.sendNotificationToAllCarCenters(message, url);
+            return List.of();
+        }
+
+        List<GeoGridIndex.Hit> hits = carCenterGeoIndex.withinRadius(latitude, longitude, radiusKm, maxCenters);
+        if (hits.isEmpty()) {
+            log.info(" -> 반경 {}km 안에 카센터가 없어 가장 가까운 {}곳으로 대체합니다.", radiusKm, fallbackNearest);
+            hits = carCenterGeoIndex.nearest(latitude, longitude, fallbackNearest, FALLBACK_MAX_RADIUS_KM);
+        }
+
+        List<String> centerIds = hits.stream().map(GeoGridIndex.Hit::id).toList();
+        notificationService.sendNotificationToCarCenters(centerIds, message, url);
+        log.info("===== [END] 견적 요청 매칭: {}곳에 알림 =====", centerIds.size());
+        return centerIds;
+    }
+}
@@ -0,0 +1,60 @@
+package com.spring.carparter.service;
+
+import com.spring.carparter.entity.type.QuoteStatus;
+import com.spring.carparter.repository.QuoteRequestRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 대기 중(PENDING)인 견적 요청 위치 공간 인덱스
+ *
+ * - 카센터의 "내 주변 견적 요청" 피드에 사용합니다. (카센터 인덱스와 같은 GeoGridIndex 구조)
+ * - 기동 시 좌표가 있는 대기 요청을 적재하고, 생성 시 추가 / 마감·삭제 시 제거합니다. (커밋 이후 반영)
+ */
+@Component
+@Slf4j
+public class QuoteRequestGeoIndex {
+
+    private final QuoteRequestRepository quoteRequestRepository;
+    private final GeoGridIndex index;
+
+    public QuoteRequestGeoIndex(QuoteRequestRepository quoteRequestRepository,
+                                @Value("${geo.index.cell-size-deg:0.02}") double cellSizeDeg) {
+        this.quoteRequestRepository = quoteRequestRepository;
+        this.index = new GeoGridIndex(cellSizeDeg);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        log.info("===== [START] 견적 요청 공간 인덱스 적재 =====");
+        long startNanos = System.nanoTime();
+        for (Object[] row : quoteRequestRepository.findLocationsByStatus(QuoteStatus.PENDING)) {
+            index.upsert(String.valueOf(row[0]), (Double) row[1], (Double) row[2], true);
+        }
+        log.info("===== [END] 견적 요청 공간 인덱스 적재: {}건, {}ms =====",
+                index.size(), (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /** 좌표가 없는 요청은 색인하지 않습니다. */
+    public void add(Integer requestId, Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            return;
+        }
+        AfterCommit.run(() -> index.upsert(String.valueOf(requestId), latitude, longitude, true));
+    }
+
+    /** 마감(COMPLETED)되거나 삭제된 요청을 피드에서 제외합니다. */
+    public void remove(Integer requestId) {
+        AfterCommit.run(() -> index.remove(String.valueOf(requestId)));
+    }
+
+    /** 반경(km) 안의 대기 중인 견적 요청을 가까운 순으로 조회합니다. */
+    public List<GeoGridIndex.Hit> withinRadius(double latitude, double longitude, double radiusKm, int limit) {
+        return index.withinRadius(latitude, longitude, radiusKm, limit);
+    }
+}
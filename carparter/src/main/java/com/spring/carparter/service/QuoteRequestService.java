@@ -1,12 +1,17 @@
 package com.spring.carparter.service;
 
+import com.spring.carparter.dto.CursorPageResDTO;
+import com.spring.carparter.dto.NearbyQuoteRequestResDTO;
 import com.spring.carparter.dto.QuoteRequestReqDTO;
 import com.spring.carparter.dto.QuoteRequestResDTO;
+import com.spring.carparter.entity.CarCenter;
+import com.spring.carparter.entity.Estimate;
 import com.spring.carparter.entity.QuoteRequest;
 import com.spring.carparter.entity.RequestImage;
 import com.spring.carparter.entity.User;
 import com.spring.carparter.entity.UserCar;
 import com.spring.carparter.entity.type.QuoteStatus;
+import com.spring.carparter.repository.CarCenterRepository;
 import com.spring.carparter.repository.EstimateRepository;
 import com.spring.carparter.repository.QuoteRequestRepository;
 import com.spring.carparter.repository.UserCarRepository;
@@ -14,6 +19,7 @@ import com.spring.carparter.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -21,8 +27,11 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -30,12 +39,20 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class QuoteRequestService {
 
+    /** 견적 일괄 조회 시 IN 절에 넣을 최대 ID 수 */
+    private static final int ID_QUERY_CHUNK_SIZE = 1000;
+    /** 주변 견적 요청 조회 반경 상한(km)과 결과 수 상한 */
+    private static final double MAX_NEARBY_RADIUS_KM = 50.0;
+    private static final int MAX_NEARBY_LIMIT = 200;
+
     private final QuoteRequestRepository quoteRequestRepository;
     private final UserRepository userRepository;
     private final UserCarRepository userCarRepository;
     private final S3Service s3Service;
     private final EstimateRepository estimateRepository;
-    private final NotificationService notificationService;
+    private final DomainEventPublisher domainEventPublisher;
+    private final QuoteRequestGeoIndex quoteRequestGeoIndex;
+    private final CarCenterRepository carCenterRepository;
 
 
     /**
@@ -65,16 +82,13 @@ public class QuoteRequestService {
 
             QuoteRequest savedQuoteRequest = quoteRequestRepository.save(quoteRequest);
             log.info("견적 요청서 DB 저장 성공. Request ID: {}", savedQuoteRequest.getRequestId());
+            quoteRequestGeoIndex.add(savedQuoteRequest.getRequestId(), savedQuoteRequest.getLatitude(), savedQuoteRequest.getLongitude());
 
-            log.info(" -> 6. 전체 카센터 알림 전송 로직 시작...");
-            try {
-                String message = "새로운 견적 요청이 등록되었습니다: " + savedQuoteRequest.getRequestDetails();
-                String url = "/center/estimates"; // 카센터가 이동할 프론트엔드 경로
-                notificationService.sendNotificationToAllCarCenters(message, url);
-            } catch (Exception e) {
-                log.error("   ❌ 전체 카센터 알림 전송 중 오류 발생. 요청 ID: {}", savedQuoteRequest.getRequestId(), e);
-            }
-            log.info(" -> 6. 전체 카센터 알림 전송 로직 완료.");
+            log.info(" -> 6. 주변 카센터 알림 이벤트 기록 (커밋 후 매칭/전송)...");
+            String message = "새로운 견적 요청이 등록되었습니다: " + savedQuoteRequest.getRequestDetails();
+            String url = "/center/estimates"; // 카센터가 이동할 프론트엔드 경로
+            domainEventPublisher.quoteRequestCreated(savedQuoteRequest.getRequestId(),
+                    savedQuoteRequest.getLatitude(), savedQuoteRequest.getLongitude(), message, url);
 
             // ✅ 7. DTO 변환 및 반환
             return QuoteRequestResDTO.from(savedQuoteRequest, 0); // 새로 생성했으므로 견적 개수는 0
@@ -88,6 +102,7 @@ public class QuoteRequestService {
     @Transactional
     public void deleteQuoteRequest(Integer quoteRequestId) {
         quoteRequestRepository.deleteById(quoteRequestId);
+        quoteRequestGeoIndex.remove(quoteRequestId);
     }
 
     /** 엔티티 단건 조회 */
@@ -102,10 +117,7 @@ public class QuoteRequestService {
      */
     @Transactional(readOnly = true)
     public List<QuoteRequestResDTO> getAllQuoteRequests() {
-        return quoteRequestRepository.findAllWithDetails()
-                .stream()
-                .map(this::convertToDtoWithDetails)
-                .collect(Collectors.toList());
+        return convertToDtosWithDetails(quoteRequestRepository.findAllWithDetails());
     }
 
     /** 아이디로 상세 정보를 조회합니다. */
@@ -121,9 +133,82 @@ public class QuoteRequestService {
      */
     @Transactional(readOnly = true)
     public List<QuoteRequestResDTO> getQuoteRequestsForCenter(String centerId) {
-        return quoteRequestRepository.findAllWithDetails().stream()
-                .map(this::convertToDtoWithDetails)
+        return convertToDtosWithDetails(quoteRequestRepository.findAllWithDetails());
+    }
+
+    /**
+     * 카센터용 견적 요청 피드 (대기 중인 요청, 최신순, 커서 기반 페이지)
+     * 1. (createdAt, requestId) 키셋 조건으로 size+1건만 조회해 다음 페이지 유무를 판단합니다.
+     * 2. 이미지 컬렉션은 두 번째 쿼리 한 번으로 일괄 초기화합니다. (컬렉션 페치 조인 시의 행 폭증/메모리 페이징 방지)
+     * 3. 견적 개수는 GROUP BY 쿼리 한 번으로 채웁니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResDTO<QuoteRequestResDTO> getQuoteRequestFeed(String cursor, int size) {
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<QuoteRequest> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = quoteRequestRepository.findFeedFirstPage(QuoteStatus.PENDING, limit);
+        } else {
+            FeedCursor after = FeedCursor.decode(cursor);
+            rows = quoteRequestRepository.findFeedAfter(QuoteStatus.PENDING, after.createdAt(), (int) after.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<QuoteRequest> page = hasNext ? rows.subList(0, size) : rows;
+        if (!page.isEmpty()) {
+            quoteRequestRepository.fetchRequestImages(page);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            QuoteRequest last = page.get(page.size() - 1);
+            nextCursor = new FeedCursor(last.getCreatedAt(), last.getRequestId()).encode();
+        }
+        return new CursorPageResDTO<>(convertToDtosWithDetails(page), nextCursor, hasNext);
+    }
+
+    /**
+     * 카센터용 "내 주변 견적 요청" 피드 (대기 중인 요청, 가까운 순)
+     * 카센터 좌표 기준으로 공간 인덱스에서 요청 ID를 고른 뒤, 요청/이미지/견적 개수를 각각 한 번씩 일괄 조회합니다.
+     * 반경은 최대 50km, 개수는 1~200으로 잘라냅니다. (반경이 크면 인덱스가 방문할 셀 수가 제곱으로 늘어남)
+     */
+    @Transactional(readOnly = true)
+    public List<NearbyQuoteRequestResDTO> getNearbyQuoteRequestsForCenter(String centerId, double radiusKm, int limit) {
+        double boundedRadiusKm = Math.min(Math.max(radiusKm, 0), MAX_NEARBY_RADIUS_KM);
+        int boundedLimit = Math.min(Math.max(limit, 1), MAX_NEARBY_LIMIT);
+        CarCenter carCenter = carCenterRepository.findById(centerId)
+                .orElseThrow(() -> new EntityNotFoundException("카센터를 찾을 수 없습니다: " + centerId));
+        if (carCenter.getLatitude() == null || carCenter.getLongitude() == null) {
+            log.warn(" -> 카센터 좌표가 없어 주변 견적 요청을 조회할 수 없습니다. CenterId: {}", centerId);
+            return new ArrayList<>();
+        }
+
+        List<GeoGridIndex.Hit> hits = quoteRequestGeoIndex.withinRadius(carCenter.getLatitude(), carCenter.getLongitude(), boundedRadiusKm, boundedLimit);
+        if (hits.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Integer> requestIds = hits.stream().map(hit -> Integer.valueOf(hit.id())).collect(Collectors.toList());
+        List<QuoteRequest> quoteRequests = quoteRequestRepository.findAllByIdWithDetails(requestIds).stream()
+                .filter(qr -> qr.getStatus() == QuoteStatus.PENDING)
                 .collect(Collectors.toList());
+        if (!quoteRequests.isEmpty()) {
+            quoteRequestRepository.fetchRequestImages(quoteRequests);
+        }
+        Map<Integer, QuoteRequestResDTO> dtoById = convertToDtosWithDetails(quoteRequests).stream()
+                .collect(Collectors.toMap(QuoteRequestResDTO::getRequestId, Function.identity()));
+
+        // 인덱스가 반환한 거리 순서를 유지합니다. (그 사이 삭제/마감된 요청은 건너뜀)
+        List<NearbyQuoteRequestResDTO> result = new ArrayList<>();
+        for (GeoGridIndex.Hit hit : hits) {
+            QuoteRequestResDTO dto = dtoById.get(Integer.valueOf(hit.id()));
+            if (dto != null) {
+                result.add(new NearbyQuoteRequestResDTO(dto, hit.distanceKm()));
+            }
+        }
+        return result;
     }
 
     /**
@@ -157,6 +242,35 @@ public class QuoteRequestService {
         return QuoteRequestResDTO.from(quoteRequest, (int) estimateCount);
     }
 
+    /**
+     * 공통(목록용): 여러 견적 요청을 DTO로 변환합니다.
+     * 견적은 요청마다 지연 로딩하지 않고, IN 절 청크마다 견적 항목/카센터를 함께 페치하는 쿼리 한 번으로 가져옵니다.
+     * (견적 개수도 이 목록의 크기로 채우므로 따로 COUNT 하지 않음)
+     * 호출 측에서 요청의 사용자/차량/이미지를 미리 페치해 두었다면, 목록 변환은 청크당 쿼리 한 번으로 끝납니다.
+     */
+    private List<QuoteRequestResDTO> convertToDtosWithDetails(List<QuoteRequest> quoteRequests) {
+        if (quoteRequests.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Integer> requestIds = quoteRequests.stream()
+                .map(QuoteRequest::getRequestId)
+                .collect(Collectors.toList());
+
+        Map<Integer, List<Estimate>> estimatesByRequestId = new HashMap<>();
+        for (int from = 0; from < requestIds.size(); from += ID_QUERY_CHUNK_SIZE) {
+            List<Integer> chunk = requestIds.subList(from, Math.min(from + ID_QUERY_CHUNK_SIZE, requestIds.size()));
+            for (Estimate estimate : estimateRepository.findAllByRequestIdsWithDetails(chunk)) {
+                estimatesByRequestId.computeIfAbsent(estimate.getQuoteRequest().getRequestId(), k -> new ArrayList<>())
+                        .add(estimate);
+            }
+        }
+
+        return quoteRequests.stream()
+                .map(qr -> QuoteRequestResDTO.from(qr, estimatesByRequestId.getOrDefault(qr.getRequestId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
     /**
      z        List<QuoteRequest> quoteRequests = quoteRequestRepository.findAllWithDetails();
 
@@ -192,10 +306,8 @@ public class QuoteRequestService {
         List<QuoteRequest> quoteRequests = quoteRequestRepository.findByStatusWithDetails(QuoteStatus.PENDING);
 
 
-        // requests 안에는 estimates 정보가 없지만, DTO 변환 시 문제 없음
-        return quoteRequests.stream()
-                .map(this::convertToDtoWithDetails)
-                .collect(Collectors.toList());
+        // requests 안에는 estimates 정보가 없으므로, 견적 개수는 GROUP BY 조회 한 번으로 채웁니다.
+        return convertToDtosWithDetails(quoteRequests);
     }
 
 }
\ No newline at end of file
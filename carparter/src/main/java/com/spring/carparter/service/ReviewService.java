@@ -49,6 +49,7 @@ public class ReviewService {
         review.setCompletedRepair(completedRepair);
 
         Review savedReview = reviewRepository.save(review);
+        carCenterRepository.applyReviewDelta(carCenter.getCenterId(), 1, ratingOf(savedReview));
         return ReviewResDTO.from(savedReview);
     }
 
@@ -61,8 +62,9 @@ public class ReviewService {
 
     @Transactional
     public ReviewResDTO updateReview(Integer reviewId, ReviewReqDTO reqDto,String userId) { // ✅ Long -> Integer로 수정
-        Review review = reviewRepository.findById(reviewId) // ✅ .longValue() 없이 바로 사용
+        Review review = reviewRepository.findByIdForUpdate(reviewId) // ✅ .longValue() 없이 바로 사용
                 .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다."));
+        long previousRating = ratingOf(review);
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
@@ -71,15 +73,18 @@ public class ReviewService {
         // if (!review.getUser().getUserId().equals(reqDto.getUserId())) { ... }
         review.setContent(reqDto.getContent());
         review.setRating(reqDto.getRating());
+        if (ratingOf(review) != previousRating) {
+            carCenterRepository.applyReviewDelta(review.getCarCenter().getCenterId(), 0, ratingOf(review) - previousRating);
+        }
         return ReviewResDTO.from(review);
     }
 
     @Transactional
     public void deleteReview(Integer reviewId) { // ✅ Long -> Integer로 수정
-        if (!reviewRepository.existsById(reviewId)) { // ✅ .longValue() 없이 바로 사용
-            throw new IllegalArgumentException("삭제할 리뷰를 찾을 수 없습니다.");
-        }
-        reviewRepository.deleteById(reviewId);
+        Review review = reviewRepository.findByIdForUpdate(reviewId) // ✅ .longValue() 없이 바로 사용
+                .orElseThrow(() -> new IllegalArgumentException("삭제할 리뷰를 찾을 수 없습니다."));
+        reviewRepository.delete(review);
+        carCenterRepository.applyReviewDelta(review.getCarCenter().getCenterId(), -1, -ratingOf(review));
     }
 
     @Transactional(readOnly = true)
@@ -99,5 +104,8 @@ public class ReviewService {
         return ReviewResDTO.from(review);
     }
 
-
+    /** 평점이 없는 리뷰는 합계에 0으로 더합니다. (재계산 쿼리의 COALESCE(SUM)와 같은 기준) */
+    private static long ratingOf(Review review) {
+        return review.getRating() != null ? review.getRating() : 0;
+    }
 }
\ No newline at end of file
@@ -1,31 +1,59 @@
 package com.spring.carparter.service;
 
 import io.awspring.cloud.s3.S3Template;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 
 import java.io.IOException;
-import java.net.URL;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * AWS S3 버킷과의 파일 통신(업로드, 삭제, URL 생성)을 담당하는 서비스
  */
 @Service
-@RequiredArgsConstructor
 public class S3Service {
 
-    @Value("${spring.cloud.aws.s3.bucket}")
-    private String bucketName;
+    private static final Duration PRESIGN_DURATION = Duration.ofMinutes(10);
 
+    private final String bucketName;
     private final S3Presigner s3Presigner;
     private final S3Template s3Template;
 
+    // Pre-signed URL 캐시 (같은 객체 키는 만료 직전까지 같은 URL 재사용)
+    private final PresignedUrlCache presignedUrlCache;
+    private final Duration presignRefreshMargin;
+    private final Counter presignCacheHitCounter;
+    private final Counter presignCacheMissCounter;
+
+    public S3Service(@Value("${spring.cloud.aws.s3.bucket}") String bucketName,
+                     S3Presigner s3Presigner,
+                     S3Template s3Template,
+                     @Value("${s3.presign.cache-size:10000}") int presignCacheSize,
+                     @Value("${s3.presign.refresh-margin-seconds:60}") long presignRefreshMarginSeconds,
+                     MeterRegistry meterRegistry) {
+        this.bucketName = bucketName;
+        this.s3Presigner = s3Presigner;
+        this.s3Template = s3Template;
+        this.presignedUrlCache = new PresignedUrlCache(presignCacheSize);
+        this.presignRefreshMargin = Duration.ofSeconds(presignRefreshMarginSeconds);
+
+        this.presignCacheHitCounter = meterRegistry.counter("s3.presign.cache.hit");
+        this.presignCacheMissCounter = meterRegistry.counter("s3.presign.cache.miss");
+        meterRegistry.gauge("s3.presign.cache.size", presignedUrlCache, PresignedUrlCache::size);
+        meterRegistry.gauge("s3.presign.cache.hit.ratio", this, S3Service::presignCacheHitRatio);
+    }
+
     /**
      * 파일을 S3 버킷에 업로드하는 메소드
      *
@@ -54,11 +82,48 @@ public class S3Service {
     /**
      * S3 객체 키(파일 경로)를 사용하여 Pre-signed URL을 생성합니다.
      * Pre-signed URL은 비공개(private) 객체에 대해 제한된 시간 동안 접근 권한을 부여하는 임시 URL입니다.
+     * 같은 객체 키로 이미 발급한 URL이 충분히 남아 있으면 서명하지 않고 캐시된 URL을 반환합니다.
      *
      * @param objectKey S3 버킷 내의 파일 경로
      * @return 생성된 Pre-signed URL    (내가 추가함)
      */
     public String createPresignedUrl(String objectKey) {
+        String cached = presignedUrlCache.get(objectKey, Instant.now().plus(presignRefreshMargin));
+        if (cached != null) {
+            presignCacheHitCounter.increment();
+            return cached;
+        }
+        presignCacheMissCounter.increment();
+        return presignAndCache(objectKey);
+    }
+
+    /**
+     * 여러 객체 키의 Pre-signed URL을 한 번에 발급합니다. (목록 조회용)
+     * 중복 키는 한 번만 서명하며, 캐시에 없는 키만 새로 서명합니다.
+     *
+     * @param objectKeys S3 버킷 내의 파일 경로 목록
+     * @return 객체 키 → Pre-signed URL (입력 순서 유지)
+     */
+    public Map<String, String> createPresignedUrls(Collection<String> objectKeys) {
+        Instant usableUntil = Instant.now().plus(presignRefreshMargin);
+        Map<String, String> urls = new LinkedHashMap<>();
+        for (String objectKey : objectKeys) {
+            if (urls.containsKey(objectKey)) {
+                continue;
+            }
+            String cached = presignedUrlCache.get(objectKey, usableUntil);
+            if (cached != null) {
+                presignCacheHitCounter.increment();
+                urls.put(objectKey, cached);
+            } else {
+                presignCacheMissCounter.increment();
+                urls.put(objectKey, presignAndCache(objectKey));
+            }
+        }
+        return urls;
+    }
+
+    private String presignAndCache(String objectKey) {
         // URL을 생성할 S3 객체를 특정합니다.
         GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                 .bucket(bucketName)
@@ -67,12 +132,20 @@ public class S3Service {
 
         // URL의 유효 시간을 설정하여 요청을 생성합니다.
         GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                .signatureDuration(Duration.ofMinutes(10)) // URL의 유효 시간 (예: 10분)
+                .signatureDuration(PRESIGN_DURATION) // URL의 유효 시간 (10분)
                 .getObjectRequest(getObjectRequest)
                 .build();
 
-        // S3Presigner를 통해 URL을 생성하고 문자열로 반환합니다.
-        URL url = s3Presigner.presignGetObject(presignRequest).url();
-        return url.toString();
+        // S3Presigner를 통해 URL을 생성하고, 만료 시각과 함께 캐시에 저장합니다.
+        PresignedGetObjectRequest presigned = s3Presigner.presignGetObject(presignRequest);
+        String url = presigned.url().toString();
+        presignedUrlCache.put(objectKey, url, presigned.expiration());
+        return url;
+    }
+
+    private double presignCacheHitRatio() {
+        double hits = presignCacheHitCounter.count();
+        double total = hits + presignCacheMissCounter.count();
+        return total == 0 ? 0.0 : hits / total;
     }
 }
@@ -0,0 +1,97 @@
+package com.spring.carparter.service;
+
+import com.spring.carparter.document.SenderType;
+import com.spring.carparter.repository.CarCenterRepository;
+import com.spring.carparter.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅 발신자 표시 이름 캐시 (사용자/카센터 ID → 이름)
+ *
+ * - 채팅 메시지마다 엔티티를 읽어 DTO로 바꾸던 것을, ID별로 처음 한 번만 이름 컬럼을 조회하도록 바꿉니다.
+ * - 이름이 바뀌는 경로(CarCenterService.update, UserService.updateUser)와 탈퇴 시 커밋 후에 무효화합니다.
+ * - JWT의 username 클레임은 토큰 발급 시점 이름이라 개명 후에도 남아 있을 수 있어, DB에 없는 경우의 대체값으로만 씁니다.
+ */
+@Component
+@Slf4j
+public class SenderNameCache {
+
+    private static final String DEFAULT_CAR_CENTER_NAME = "카센터";
+    private static final String DEFAULT_USER_NAME = "사용자";
+
+    private final CarCenterRepository carCenterRepository;
+    private final UserRepository userRepository;
+    private final int maxEntries;
+
+    private final Map<String, String> carCenterNames = new ConcurrentHashMap<>();
+    private final Map<String, String> userNames = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public SenderNameCache(CarCenterRepository carCenterRepository,
+                           UserRepository userRepository,
+                           @Value("${chat.sender-name-cache.max-entries:10000}") int maxEntries,
+                           MeterRegistry meterRegistry) {
+        this.carCenterRepository = carCenterRepository;
+        this.userRepository = userRepository;
+        this.maxEntries = maxEntries;
+
+        this.hitCounter = meterRegistry.counter("chat.sender-name.cache.hit");
+        this.missCounter = meterRegistry.counter("chat.sender-name.cache.miss");
+        meterRegistry.gauge("chat.sender-name.cache.size", this, cache -> cache.carCenterNames.size() + cache.userNames.size());
+    }
+
+    /**
+     * 발신자 표시 이름을 반환합니다.
+     *
+     * @param claimName JWT에 담긴 이름 (DB에서 찾지 못했을 때의 대체값, null 가능)
+     */
+    public String resolve(SenderType senderType, String senderId, String claimName) {
+        boolean carCenter = senderType == SenderType.CAR_CENTER;
+        Map<String, String> names = carCenter ? carCenterNames : userNames;
+
+        String cached = names.get(senderId);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        missCounter.increment();
+        String name = (carCenter
+                ? carCenterRepository.findCenterNameById(senderId)
+                : userRepository.findNameByUserId(senderId))
+                .orElse(claimName);
+        if (name == null) {
+            // 기본값은 캐시하지 않아 이후 가입/수정이 바로 반영되도록 합니다.
+            return carCenter ? DEFAULT_CAR_CENTER_NAME : DEFAULT_USER_NAME;
+        }
+
+        if (names.size() >= maxEntries) {
+            // 상한에 닿으면 통째로 비웁니다. (활성 발신자는 다음 메시지에서 한 번씩만 다시 조회)
+            log.info(" -> 발신자 이름 캐시가 상한({})에 도달해 초기화합니다.", maxEntries);
+            names.clear();
+        }
+        names.put(senderId, name);
+        return name;
+    }
+
+    /** 카센터 이름 변경/탈퇴 시 호출합니다. (커밋 후 반영) */
+    public void evictCarCenter(String centerId) {
+        carCenterNames.remove(centerId);
+        AfterCommit.run(() -> carCenterNames.remove(centerId));
+    }
+
+    /** 사용자 이름 변경/탈퇴 시 호출합니다. (커밋 후 반영) */
+    public void evictUser(String userId) {
+        userNames.remove(userId);
+        AfterCommit.run(() -> userNames.remove(userId));
+    }
+}
@@ -0,0 +1,68 @@
+package com.spring.carparter.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 접속 중인 사용자/카센터의 SSE Emitter를 보관하는 저장소
+ * NotificationService(단건 알림)와 NotificationFanoutService(전체 알림)가 함께 사용합니다.
+ */
+@Component
+@Slf4j
+public class SseEmitterRegistry {
+
+    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+
+    public void register(String receiverId, SseEmitter emitter) {
+        emitters.put(receiverId, emitter);
+        emitter.onCompletion(() -> {
+            log.info(" -> SSE 연결 완료됨 (onCompletion). 사용자 ID: '{}'", receiverId);
+            emitters.remove(receiverId, emitter);
+        });
+        emitter.onTimeout(() -> {
+            log.info(" -> SSE 연결 시간 초과 (onTimeout). 사용자 ID: '{}'", receiverId);
+            emitters.remove(receiverId, emitter);
+        });
+        emitter.onError(e -> {
+            log.warn(" -> SSE 오류 발생 (onError). 사용자 ID: '{}', 오류: {}", receiverId, e.toString());
+            emitters.remove(receiverId, emitter);
+        });
+    }
+
+    public void remove(String receiverId) {
+        emitters.remove(receiverId);
+    }
+
+    public boolean isOnline(String receiverId) {
+        return emitters.containsKey(receiverId);
+    }
+
+    public int size() {
+        return emitters.size();
+    }
+
+    /**
+     * 수신자가 접속 중이면 알림 이벤트를 전송합니다.
+     *
+     * @return 실제로 전송했으면 true, 오프라인이거나 전송에 실패했으면 false
+     */
+    public boolean send(String receiverId, String message) {
+        SseEmitter emitter = emitters.get(receiverId);
+        if (emitter == null) {
+            return false;
+        }
+        try {
+            emitter.send(SseEmitter.event().name("notification").data(message));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.warn("   - 실시간 알림 전송 실패. 수신자: '{}', 오류: {}", receiverId, e.toString());
+            emitters.remove(receiverId, emitter);
+            return false;
+        }
+    }
+}
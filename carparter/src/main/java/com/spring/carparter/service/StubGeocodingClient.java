@@ -0,0 +1,76 @@
+package com.spring.carparter.service;
+
+import com.spring.carparter.dto.Coordinates;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * 카카오 주소 검색 API의 로컬 대역 (geocoding.client=stub)
+ *
+ * 외부 호출 없이 주소 문자열로 서울 영역 안의 좌표를 결정적으로 만들어 돌려줍니다. (같은 주소 → 항상 같은 좌표)
+ * - 주소에 geocoding.stub.not-found-marker가 들어 있으면 검색 결과 없음, fail-marker가 들어 있으면 호출 실패를 흉내 냅니다.
+ * - latency-ms로 응답 지연을 줄 수 있고, callCount로 실제 호출 횟수를 확인할 수 있습니다. (캐시 적중 여부 확인용)
+ */
+@Component
+@ConditionalOnProperty(name = "geocoding.client", havingValue = "stub")
+@Slf4j
+public class StubGeocodingClient implements GeocodingClient {
+
+    // 서울 대략적인 경계
+    private static final double MIN_LATITUDE = 37.45;
+    private static final double MAX_LATITUDE = 37.70;
+    private static final double MIN_LONGITUDE = 126.80;
+    private static final double MAX_LONGITUDE = 127.18;
+
+    private final Duration latency;
+    private final String notFoundMarker;
+    private final String failMarker;
+    private final AtomicLong callCount = new AtomicLong();
+
+    public StubGeocodingClient(@Value("${geocoding.stub.latency-ms:0}") long latencyMs,
+                               @Value("${geocoding.stub.not-found-marker:[없는주소]}") String notFoundMarker,
+                               @Value("${geocoding.stub.fail-marker:[호출실패]}") String failMarker) {
+        this.latency = Duration.ofMillis(latencyMs);
+        this.notFoundMarker = notFoundMarker;
+        this.failMarker = failMarker;
+        log.warn("지오코딩 로컬 대역(stub)을 사용합니다. 실제 좌표가 아닙니다.");
+    }
+
+    @Override
+    public Mono<Coordinates> geocode(String address) {
+        callCount.incrementAndGet();
+        Mono<Coordinates> result;
+        if (address.contains(failMarker)) {
+            result = Mono.error(new IllegalStateException("stub geocoding failure: " + address));
+        } else if (address.contains(notFoundMarker)) {
+            result = Mono.empty();
+        } else {
+            result = Mono.just(coordinatesOf(address));
+        }
+        return latency.isZero() ? result : result.delaySubscription(latency);
+    }
+
+    /** 지금까지 geocode가 호출된 횟수 */
+    public long callCount() {
+        return callCount.get();
+    }
+
+    private static Coordinates coordinatesOf(String address) {
+        CRC32 crc = new CRC32();
+        crc.update(address.getBytes(StandardCharsets.UTF_8));
+        long hash = crc.getValue();
+        double latitudeRatio = (hash & 0xFFFF) / 65535.0;
+        double longitudeRatio = ((hash >>> 16) & 0xFFFF) / 65535.0;
+        return new Coordinates(
+                MIN_LATITUDE + (MAX_LATITUDE - MIN_LATITUDE) * latitudeRatio,
+                MIN_LONGITUDE + (MAX_LONGITUDE - MIN_LONGITUDE) * longitudeRatio);
+    }
+}
@@ -0,0 +1,254 @@
+package com.spring.carparter.service;
+
+import com.spring.carparter.entity.UsedPart;
+import com.spring.carparter.repository.UsedPartRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 중고 부품 전문(full-text) 검색용 메모리 역색인
+ *
+ * - partName / category / compatibleCarModel / description 을 n-gram으로 잘라 토큰 → 부품 ID 목록(posting)을 보관합니다.
+ * - 필드마다 가중치를 두고(부품명 > 분류/차종 > 설명) BM25 방식으로 점수를 매깁니다.
+ * - 검색어 토큰의 일정 비율(MIN_SHOULD_MATCH) 이상을 포함한 부품만 결과로 인정합니다.
+ * - 기동 시 키셋 청크로 전체를 적재하고, 등록/수정/삭제는 커밋 이후에 증분 반영합니다.
+ */
+@Component
+@Slf4j
+public class UsedPartSearchIndex {
+
+    private static final float PART_NAME_WEIGHT = 3.0f;
+    private static final float CATEGORY_WEIGHT = 2.0f;
+    private static final float CAR_MODEL_WEIGHT = 2.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    private static final double BM25_K1 = 1.2;
+    private static final double BM25_B = 0.75;
+    private static final double MIN_SHOULD_MATCH = 0.75;
+
+    /** 검색 결과: 요청한 페이지의 부품 ID(점수 순)와 전체 적중 건수 */
+    public record SearchResult(List<Integer> partIds, long totalHits) {}
+
+    private final UsedPartRepository usedPartRepository;
+    private final int loadChunkSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postingsByToken = new HashMap<>();
+    private final Map<Integer, String[]> tokensByPart = new HashMap<>();
+    private final Map<Integer, Float> lengthByPart = new HashMap<>();
+    private double totalLength;
+
+    public UsedPartSearchIndex(UsedPartRepository usedPartRepository,
+                               @Value("${search.used-part.load-chunk-size:1000}") int loadChunkSize) {
+        this.usedPartRepository = usedPartRepository;
+        this.loadChunkSize = loadChunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        log.info("===== [START] 중고 부품 검색 색인 적재 =====");
+        long startNanos = System.nanoTime();
+        int lastPartId = 0;
+        while (true) {
+            List<Object[]> rows = usedPartRepository.findSearchFieldsAfter(lastPartId, PageRequest.of(0, loadChunkSize));
+            for (Object[] row : rows) {
+                put((Integer) row[0], (String) row[1], (String) row[2], (String) row[3], (String) row[4]);
+            }
+            if (rows.size() < loadChunkSize) {
+                break;
+            }
+            lastPartId = (Integer) rows.get(rows.size() - 1)[0];
+        }
+        log.info("===== [END] 중고 부품 검색 색인 적재: 부품 {}건, 토큰 {}종, {}ms =====",
+                documentCount(), tokenCount(), (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /** 등록/수정된 부품을 (재)색인합니다. 값은 호출 시점에 복사해 두고 커밋 후에 반영합니다. */
+    public void index(UsedPart part) {
+        Integer partId = part.getPartId();
+        String partName = part.getPartName();
+        String category = part.getCategory();
+        String carModel = part.getCompatibleCarModel();
+        String description = part.getDescription();
+        AfterCommit.run(() -> put(partId, partName, category, carModel, description));
+    }
+
+    public void remove(Integer partId) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                removeInternal(partId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 검색어와 관련도가 높은 순으로 부품 ID를 반환합니다. (동점이면 최근 등록된 부품 우선)
+     *
+     * @param page 0부터 시작하는 페이지 번호
+     */
+    public SearchResult search(String query, int page, int size) {
+        List<String> queryTokens = new ArrayList<>(new LinkedHashSet<>(NgramTokenizer.queryTokens(query)));
+        if (queryTokens.isEmpty() || size <= 0) {
+            return new SearchResult(List.of(), 0);
+        }
+        int required = (int) Math.ceil(queryTokens.size() * MIN_SHOULD_MATCH);
+
+        lock.readLock().lock();
+        try {
+            int docCount = tokensByPart.size();
+            double avgLength = docCount == 0 ? 1.0 : totalLength / docCount;
+
+            // partId → [점수, 일치한 검색어 토큰 수]
+            Map<Integer, double[]> scores = new HashMap<>();
+            for (String token : queryTokens) {
+                Postings postings = postingsByToken.get(token);
+                if (postings == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (docCount - postings.size + 0.5) / (postings.size + 0.5));
+                for (int i = 0; i < postings.size; i++) {
+                    int partId = postings.partIds[i];
+                    double tf = postings.weights[i];
+                    double norm = BM25_K1 * (1 - BM25_B + BM25_B * lengthByPart.get(partId) / avgLength);
+                    double[] acc = scores.computeIfAbsent(partId, k -> new double[2]);
+                    acc[0] += idf * tf * (BM25_K1 + 1) / (tf + norm);
+                    acc[1] += 1;
+                }
+            }
+
+            List<Map.Entry<Integer, double[]>> hits = new ArrayList<>();
+            for (Map.Entry<Integer, double[]> entry : scores.entrySet()) {
+                if (entry.getValue()[1] >= required) {
+                    hits.add(entry);
+                }
+            }
+            hits.sort((a, b) -> {
+                int byScore = Double.compare(b.getValue()[0], a.getValue()[0]);
+                return byScore != 0 ? byScore : Integer.compare(b.getKey(), a.getKey());
+            });
+
+            int from = (int) Math.min((long) page * size, hits.size());
+            int to = Math.min(from + size, hits.size());
+            List<Integer> partIds = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                partIds.add(hits.get(i).getKey());
+            }
+            return new SearchResult(partIds, hits.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return tokensByPart.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int tokenCount() {
+        lock.readLock().lock();
+        try {
+            return postingsByToken.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // == 내부 헬퍼 == //
+
+    private void put(Integer partId, String partName, String category, String carModel, String description) {
+        Map<String, Float> weights = new HashMap<>();
+        addField(weights, partName, PART_NAME_WEIGHT);
+        addField(weights, category, CATEGORY_WEIGHT);
+        addField(weights, carModel, CAR_MODEL_WEIGHT);
+        addField(weights, description, DESCRIPTION_WEIGHT);
+
+        float length = 0;
+        for (float w : weights.values()) {
+            length += w;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(partId);
+            for (Map.Entry<String, Float> entry : weights.entrySet()) {
+                postingsByToken.computeIfAbsent(entry.getKey(), k -> new Postings()).add(partId, entry.getValue());
+            }
+            tokensByPart.put(partId, weights.keySet().toArray(new String[0]));
+            lengthByPart.put(partId, length);
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeInternal(Integer partId) {
+        String[] tokens = tokensByPart.remove(partId);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            Postings postings = postingsByToken.get(token);
+            if (postings != null && postings.remove(partId) && postings.size == 0) {
+                postingsByToken.remove(token);
+            }
+        }
+        Float length = lengthByPart.remove(partId);
+        if (length != null) {
+            totalLength -= length;
+        }
+    }
+
+    private static void addField(Map<String, Float> weights, String text, float fieldWeight) {
+        for (String token : NgramTokenizer.indexTokens(text)) {
+            weights.merge(token, fieldWeight, Float::sum);
+        }
+    }
+
+    /** 토큰 하나의 posting 목록: 부품 ID와 필드 가중치가 반영된 빈도 (순서 없음) */
+    private static final class Postings {
+        private int[] partIds = new int[4];
+        private float[] weights = new float[4];
+        private int size;
+
+        void add(int partId, float weight) {
+            if (size == partIds.length) {
+                partIds = Arrays.copyOf(partIds, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            partIds[size] = partId;
+            weights[size] = weight;
+            size++;
+        }
+
+        boolean remove(int partId) {
+            for (int i = 0; i < size; i++) {
+                if (partIds[i] == partId) {
+                    size--;
+                    partIds[i] = partIds[size];
+                    weights[i] = weights[size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
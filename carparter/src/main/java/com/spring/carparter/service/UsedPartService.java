@@ -10,81 +10,109 @@ import com.spring.carparter.repository.UsedPartRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 @Service
 @RequiredArgsConstructor
 public class UsedPartService {
+
+    private static final String USED_PART_KEY_PREFIX = "used-parts/";
+
     private final UsedPartRepository usedPartRepository;
     private final CarCenterRepository carCenterRepository;
     private final S3Service s3Service;
+    private final UsedPartSearchIndex usedPartSearchIndex;
+    private final ImageUploadService imageUploadService;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    /**
+     * 중고 부품을 등록합니다.
+     * 1. 이미지를 트랜잭션 밖에서 병렬 업로드합니다. (업로드 동안 DB 커넥션을 잡지 않음)
+     * 2. 모든 업로드가 성공한 뒤에만 부품 정보를 커밋합니다.
+     * 3. DB 저장이 실패하면 업로드한 이미지를 삭제(보상)합니다.
+     */
     public UsedPartResDTO registerUsedPart(String centerID, UsedPartReqDTO req, List<MultipartFile> images) throws IOException {
-        CarCenter carCenter = carCenterRepository.findById(centerID)
-                .orElseThrow(() -> new IllegalArgumentException("카센터 정보를 찾을 수 없습니다."));
-
-        UsedPart usedPart = req.toEntity();
-        usedPart.setCarCenter(carCenter);
-
-        if (images != null && !images.isEmpty()) {
-            for (MultipartFile imageFile : images) {
-                String originalFilename = imageFile.getOriginalFilename();
-                String extension = "";
-                if (originalFilename != null && originalFilename.contains(".")) {
-                    extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-                }
-                String objectKey = "used-parts/" + UUID.randomUUID().toString() + extension;
-
-                String imageUrl = s3Service.uploadFile(imageFile, objectKey);
-                usedPart.addImage(UsedPartImage.builder().imageUrl(imageUrl).build());
-            }
+        List<String> uploadedUrls = imageUploadService.uploadAll(images, USED_PART_KEY_PREFIX);
+
+        try {
+            return transactionTemplate.execute(status -> {
+                CarCenter carCenter = carCenterRepository.findById(centerID)
+                        .orElseThrow(() -> new IllegalArgumentException("카센터 정보를 찾을 수 없습니다."));
+
+                UsedPart usedPart = req.toEntity();
+                usedPart.setCarCenter(carCenter);
+                uploadedUrls.forEach(url -> usedPart.addImage(UsedPartImage.builder().imageUrl(url).build()));
+
+                UsedPart savedUsedPart = usedPartRepository.save(usedPart);
+                usedPartSearchIndex.index(savedUsedPart);
+                return UsedPartResDTO.from(savedUsedPart, s3Service);
+            });
+        } catch (RuntimeException e) {
+            imageUploadService.deleteAsync(uploadedUrls);
+            throw e;
         }
-
-        UsedPart savedUsedPart = usedPartRepository.save(usedPart);
-        return UsedPartResDTO.from(savedUsedPart, s3Service);
     }
 
-    // ✅ [수정] 기존 중고 부품 정보를 수정합니다.
-    @Transactional
+    /**
+     * 기존 중고 부품 정보를 수정합니다.
+     * 소유자를 먼저 확인한 뒤, 새 이미지가 있으면 트랜잭션 밖에서 병렬 업로드하고, 커밋이 끝난 뒤 교체된 기존 이미지를 비동기로 삭제합니다.
+     * (권한 없는 요청이 S3에 파일을 올리지 못하도록 업로드 전에 확인합니다)
+     * 수정이 실패하면 새로 올린 이미지를 삭제(보상)하고 기존 이미지는 그대로 둡니다.
+     */
     public UsedPartResDTO updateUsedPart(Integer partId, String centerId, UsedPartReqDTO requestDto, List<MultipartFile> newImages) throws IOException {
-        UsedPart usedPart = usedPartRepository.findByIdWithImages(partId)
+        String ownerCenterId = usedPartRepository.findCenterIdByPartId(partId)
                 .orElseThrow(() -> new IllegalArgumentException("수정할 부품 정보를 찾을 수 없습니다."));
-
-        if (!usedPart.getCarCenter().getCenterId().equals(centerId)) {
+        if (!ownerCenterId.equals(centerId)) {
             throw new SecurityException("부품 정보를 수정할 권한이 없습니다.");
         }
 
-        usedPart.updateInfo(requestDto);
+        List<String> uploadedUrls = imageUploadService.uploadAll(newImages, USED_PART_KEY_PREFIX);
+        List<String> replacedUrls = new ArrayList<>();
 
-        if (newImages != null && !newImages.isEmpty()) {
-            usedPart.getImages().forEach(image -> s3Service.deleteFile(image.getImageUrl()));
-            usedPart.getImages().clear();
+        UsedPartResDTO result;
+        try {
+            result = transactionTemplate.execute(status -> {
+                UsedPart usedPart = usedPartRepository.findByIdWithImages(partId)
+                        .orElseThrow(() -> new IllegalArgumentException("수정할 부품 정보를 찾을 수 없습니다."));
 
-            for (MultipartFile imageFile : newImages) {
-                // [수정] 원본 파일 이름 대신 UUID와 확장자로 새로운 파일 키를 생성합니다.
-                String originalFilename = imageFile.getOriginalFilename();
-                String extension = "";
-                if (originalFilename != null && originalFilename.contains(".")) {
-                    extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+                if (!usedPart.getCarCenter().getCenterId().equals(centerId)) {
+                    throw new SecurityException("부품 정보를 수정할 권한이 없습니다.");
                 }
-                String objectKey = "used-parts/" + UUID.randomUUID().toString() + extension;
 
-                String imageUrl = s3Service.uploadFile(imageFile, objectKey);
-                usedPart.addImage(UsedPartImage.builder().imageUrl(imageUrl).build());
-            }
+                usedPart.updateInfo(requestDto);
+                usedPartSearchIndex.index(usedPart);
+
+                if (!uploadedUrls.isEmpty()) {
+                    usedPart.getImages().forEach(image -> replacedUrls.add(image.getImageUrl()));
+                    usedPart.getImages().clear();
+                    uploadedUrls.forEach(url -> usedPart.addImage(UsedPartImage.builder().imageUrl(url).build()));
+                }
+                return UsedPartResDTO.from(usedPart, s3Service);
+            });
+        } catch (RuntimeException e) {
+            imageUploadService.deleteAsync(uploadedUrls);
+            throw e;
         }
-        return UsedPartResDTO.from(usedPart, s3Service);
+
+        // 커밋 완료 후: 더 이상 참조되지 않는 기존 이미지 정리
+        imageUploadService.deleteAsync(replacedUrls);
+        return result;
     }
 
     /**
      * 중고 부품을 삭제합니다.
+     * S3 이미지는 DB 삭제가 커밋된 뒤 비동기로 삭제합니다.
      */
     @Transactional
     public void deleteUsedPart(Integer partId, String centerId) {
@@ -95,8 +123,12 @@ public class UsedPartService {
             throw new SecurityException("부품 정보를 삭제할 권한이 없습니다.");
         }
 
-        usedPart.getImages().forEach(image -> s3Service.deleteFile(image.getImageUrl()));
+        List<String> imageUrls = usedPart.getImages().stream()
+                .map(UsedPartImage::getImageUrl)
+                .collect(Collectors.toList());
         usedPartRepository.delete(usedPart);
+        usedPartSearchIndex.remove(partId);
+        AfterCommit.run(() -> imageUploadService.deleteAsync(imageUrls));
     }
 
     /**
@@ -105,9 +137,7 @@ public class UsedPartService {
     @Transactional(readOnly = true)
     public List<UsedPartResDTO> getMyUsedParts(String centerId) {
         List<UsedPart> usedParts = usedPartRepository.findByCarCenter_CenterIdWithImages(centerId);
-        return usedParts.stream()
-                .map(part -> UsedPartResDTO.from(part, s3Service))
-                .collect(Collectors.toList());
+        return UsedPartResDTO.fromList(usedParts, s3Service);
     }
 
     /**
@@ -121,14 +151,28 @@ public class UsedPartService {
     }
 
     /**
-     * 부품 이름으로 부품을 검색합니다.
+     * 부품명/설명/분류/호환 차종으로 부품을 검색합니다. (전문 검색 색인 사용)
+     * 색인에서 관련도 순으로 해당 페이지의 부품 ID만 얻은 뒤, 부품 정보는 IN 조회 한 번으로 가져옵니다.
      */
     @Transactional(readOnly = true)
-    public List<UsedPartResDTO> searchPartsByName(String partName) {
-        return usedPartRepository.findByPartNameContainingIgnoreCase(partName)
+    public Page<UsedPartResDTO> searchParts(String query, Pageable pageable) {
+        UsedPartSearchIndex.SearchResult result =
+                usedPartSearchIndex.search(query, pageable.getPageNumber(), pageable.getPageSize());
+        if (result.partIds().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, result.totalHits());
+        }
+
+        Map<Integer, UsedPart> parts = usedPartRepository.findAllByIdWithImages(result.partIds())
                 .stream()
-                .map(part -> UsedPartResDTO.from(part, s3Service))
+                .collect(Collectors.toMap(UsedPart::getPartId, Function.identity()));
+
+        // 색인이 매긴 관련도 순서를 유지합니다.
+        List<UsedPart> orderedParts = result.partIds().stream()
+                .map(parts::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+        List<UsedPartResDTO> content = UsedPartResDTO.fromList(orderedParts, s3Service);
+        return new PageImpl<>(content, pageable, result.totalHits());
     }
 
     /**
@@ -142,9 +186,7 @@ public class UsedPartService {
         // 레포지토리 호출
         Page<UsedPart> partPage = usedPartRepository.findAllByOrderByCreatedAtDesc(pageable);
 
-        // 결과를 DTO 리스트로 변환 (Pre-signed URL 생성 포함)
-        return partPage.getContent().stream()
-                .map(part -> UsedPartResDTO.from(part, s3Service))
-                .collect(Collectors.toList());
+        // 결과를 DTO 리스트로 변환 (Pre-signed URL은 일괄 발급)
+        return UsedPartResDTO.fromList(partPage.getContent(), s3Service);
     }
 }
\ No newline at end of file
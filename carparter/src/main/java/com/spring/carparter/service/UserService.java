@@ -8,6 +8,7 @@ import com.spring.carparter.entity.User;
 import com.spring.carparter.entity.UserCar;
 import com.spring.carparter.repository.UserCarRepository;
 import com.spring.carparter.repository.UserRepository;
+import com.spring.carparter.security.CustomUserDetailsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,6 +23,8 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserCarRepository userCarRepository;
+    private final SenderNameCache senderNameCache;
+    private final CustomUserDetailsService customUserDetailsService;
 
 
     /**
@@ -60,10 +63,14 @@ public class UserService {
         return UserResDTO.from(savedUser);
     }
 
+    @Transactional
     public void deleteUser(String userId) {
         userRepository.deleteByUserId(userId);
+        senderNameCache.evictUser(userId);
+        customUserDetailsService.evict(userId);
     }
 
+    @Transactional
     public UserResDTO updateUser(String userId, UserReqDTO request) {
         // 1. 기존 사용자 정보를 DB에서 조회합니다.
         User user = userRepository.findById(userId)
@@ -73,9 +80,12 @@ public class UserService {
         //    (이 부분의 로직이 누락되었을 가능성이 높습니다)
         if (request.getName() != null)
             user.setName(request.getName());
-        if (request.getPassword() != null)
-            user.setPassword(request.getPassword());
+        // 비밀번호는 회원가입과 같이 BCrypt로 암호화해서 저장합니다. (빈 문자열은 변경하지 않음)
+        if (request.getPassword() != null && !request.getPassword().isBlank())
+            user.setPassword(passwordEncoder.encode(request.getPassword()));
 
+        senderNameCache.evictUser(userId);
+        customUserDetailsService.evict(userId);
         return UserResDTO.from(user);
     }
 
@@ -85,6 +95,7 @@ public class UserService {
         User user = userRepository.findByUserId(req.getUserId());
         user.setPassword(password);
         userRepository.save(user);
+        customUserDetailsService.evict(req.getUserId());
     }
 
     public UserResDTO getUser(String userId){
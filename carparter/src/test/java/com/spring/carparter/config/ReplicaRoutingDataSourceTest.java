@@ -0,0 +1,249 @@
+package com.spring.carparter.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메모리 H2 두 개를 주 DB / 복제본으로 두고, 같은 probe 행에 서로 다른 값을 넣어 읽힌 값으로 어느 쪽에 연결됐는지 확인합니다.
+ * 실제 복제 대신 하트비트 행을 손으로 복제본에 복사해 "따라잡은 상태"와 "지연된 상태"를 만듭니다.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final long MAX_LAG_MS = 200;
+    private static final long READ_YOUR_WRITES_MS = 500;
+    private static final String READ_PROBE = "SELECT source FROM probe WHERE id = 1";
+
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+    private FailingDataSource replicaConnections;
+    private ReplicaLagMonitor monitor;
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        DataSource primary = h2("routing_primary_" + suffix);
+        DataSource replica = h2("routing_replica_" + suffix);
+        primaryJdbc = new JdbcTemplate(primary);
+        replicaJdbc = new JdbcTemplate(replica);
+        for (JdbcTemplate each : List.of(primaryJdbc, replicaJdbc)) {
+            each.execute("CREATE TABLE probe (id INT PRIMARY KEY, source VARCHAR(20))");
+            each.execute("CREATE TABLE replica_heartbeat (id INT PRIMARY KEY, beat_millis BIGINT NOT NULL)");
+        }
+        primaryJdbc.update("INSERT INTO probe VALUES (1, 'primary')");
+        replicaJdbc.update("INSERT INTO probe VALUES (1, 'replica')");
+
+        meterRegistry = new SimpleMeterRegistry();
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(READ_YOUR_WRITES_MS);
+        monitor = new ReplicaLagMonitor(primary, replica, tracker, MAX_LAG_MS, meterRegistry);
+        replicaConnections = new FailingDataSource(replica);
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replicaConnections, monitor, tracker, meterRegistry));
+        jdbc = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        ReplicaRoutingDataSource.setRoutingListener(null);
+    }
+
+    @Test
+    void beforeFirstCheck_readsFromPrimary() {
+        assertThat(readSource(readOnly)).isEqualTo("primary");
+        assertThat(monitor.isAvailable()).isFalse();
+    }
+
+    @Test
+    void caughtUp_onlyReadOnlyTransactionsGoToReplica() {
+        catchUp();
+
+        assertThat(readSource(readOnly)).isEqualTo("replica");
+        assertThat(readSource(readWrite)).isEqualTo("primary");
+        assertThat(jdbc.queryForObject(READ_PROBE, String.class)).isEqualTo("primary");
+        assertThat(routingCount("replica", "read_only")).isEqualTo(1);
+    }
+
+    @Test
+    void afterWrite_onlyWriterIsPinnedToPrimaryUntilWindowPasses() throws InterruptedException {
+        catchUp();
+
+        login("alice");
+        readWrite.executeWithoutResult(status -> jdbc.update("UPDATE probe SET source = 'primary' WHERE id = 1"));
+        assertThat(readSource(readOnly)).isEqualTo("primary");
+        assertThat(routingCount("primary", "read_your_writes")).isEqualTo(1);
+
+        login("bob");
+        assertThat(readSource(readOnly)).isEqualTo("replica");
+
+        Thread.sleep(READ_YOUR_WRITES_MS + 50);
+        catchUp();
+        login("alice");
+        assertThat(readSource(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void rolledBackWrite_doesNotPin() {
+        catchUp();
+
+        login("alice");
+        readWrite.executeWithoutResult(status -> {
+            jdbc.update("UPDATE probe SET source = 'primary' WHERE id = 1");
+            status.setRollbackOnly();
+        });
+
+        assertThat(readSource(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void lagging_fallsBackToPrimaryAndRecovers() throws InterruptedException {
+        catchUp();
+        assertThat(readSource(readOnly)).isEqualTo("replica");
+
+        // 하트비트를 복제본에 복사하지 않은 채 허용 지연을 넘깁니다.
+        Thread.sleep(MAX_LAG_MS + 50);
+        monitor.check();
+        assertThat(monitor.isAvailable()).isFalse();
+        assertThat(readSource(readOnly)).isEqualTo("primary");
+        assertThat(routingCount("primary", "replica_lagging")).isEqualTo(1);
+
+        catchUp();
+        assertThat(readSource(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void missingHeartbeatRow_keepsReplicaUnavailable() {
+        monitor.check();
+
+        assertThat(monitor.isAvailable()).isFalse();
+        assertThat(monitor.getLagMs()).isEqualTo(-1);
+        assertThat(readSource(readOnly)).isEqualTo("primary");
+    }
+
+    @Test
+    void replicaConnectFailure_fallsBackToPrimary() {
+        catchUp();
+        replicaConnections.failing = true;
+
+        assertThat(readSource(readOnly)).isEqualTo("primary");
+        assertThat(routingCount("primary", "replica_error")).isEqualTo(1);
+        assertThat(monitor.isAvailable()).isFalse();
+    }
+
+    // == 라우팅 리스너 == //
+
+    @Test
+    void routingListener_receivesActualTargetAfterFallback() {
+        List<ReplicaRoutingDataSource.Target> routed = new ArrayList<>();
+        ReplicaRoutingDataSource.setRoutingListener(routed::add);
+
+        readSource(readOnly);
+        catchUp();
+        readSource(readOnly);
+        readSource(readWrite);
+        replicaConnections.failing = true;
+        readSource(readOnly);
+
+        assertThat(routed).containsExactly(
+                ReplicaRoutingDataSource.Target.PRIMARY,
+                ReplicaRoutingDataSource.Target.REPLICA,
+                ReplicaRoutingDataSource.Target.PRIMARY,
+                ReplicaRoutingDataSource.Target.PRIMARY);
+    }
+
+    @Test
+    void routingListener_isNotCalledBeforeFirstStatement() {
+        catchUp();
+        List<ReplicaRoutingDataSource.Target> routed = new ArrayList<>();
+        ReplicaRoutingDataSource.setRoutingListener(routed::add);
+
+        readOnly.executeWithoutResult(status -> assertThat(routed).isEmpty());
+        assertThat(routed).isEmpty();
+    }
+
+    @Test
+    void setRoutingListener_returnsPreviousForRestore() {
+        Consumer<ReplicaRoutingDataSource.Target> outer = target -> {};
+        assertThat(ReplicaRoutingDataSource.setRoutingListener(outer)).isNull();
+
+        Consumer<ReplicaRoutingDataSource.Target> previous =
+                ReplicaRoutingDataSource.setRoutingListener(target -> {});
+        assertThat(previous).isSameAs(outer);
+        ReplicaRoutingDataSource.setRoutingListener(previous);
+
+        assertThat(ReplicaRoutingDataSource.setRoutingListener(null)).isSameAs(outer);
+    }
+
+    // == 헬퍼 == //
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private String readSource(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status -> jdbc.queryForObject(READ_PROBE, String.class));
+    }
+
+    /** 하트비트를 새로 쓰고 곧바로 복제본에 복사한 뒤 다시 점검합니다. (복제가 따라잡은 상황) */
+    private void catchUp() {
+        monitor.check();
+        Long beat = primaryJdbc.queryForObject("SELECT beat_millis FROM replica_heartbeat WHERE id = 1", Long.class);
+        replicaJdbc.update("MERGE INTO replica_heartbeat KEY (id) VALUES (1, ?)", beat);
+        monitor.check();
+        assertThat(monitor.isAvailable()).isTrue();
+    }
+
+    private double routingCount(String target, String reason) {
+        return meterRegistry.counter("datasource.routing", "target", target, "reason", reason).count();
+    }
+
+    /** failing이 켜지면 연결을 주지 않는 복제본 (복제본 장애) */
+    private static class FailingDataSource extends DelegatingDataSource {
+
+        private volatile boolean failing;
+
+        FailingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (failing) {
+                throw new SQLException("replica down");
+            }
+            return super.getConnection();
+        }
+    }
+
+    private static void login(String userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(userId, null, List.of()));
+    }
+}
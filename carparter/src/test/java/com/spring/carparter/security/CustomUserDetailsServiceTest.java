@@ -0,0 +1,118 @@
+package com.spring.carparter.security;
+
+import com.spring.carparter.repository.PrincipalJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CustomUserDetailsServiceTest {
+
+    private static final String LOGIN_ID = "user1";
+
+    private PrincipalJdbcRepository repository;
+    private CustomUserDetailsService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(PrincipalJdbcRepository.class);
+        service = new CustomUserDetailsService(repository, 30, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void cacheHit_loadsPrincipalOnce() {
+        CustomUserDetails principal = principal("pw1", "ROLE_USER");
+        when(repository.findByLoginId(LOGIN_ID)).thenReturn(Optional.of(principal));
+
+        assertThat(service.loadUserByUsername(LOGIN_ID)).isSameAs(principal);
+        assertThat(service.loadUserByUsername(LOGIN_ID)).isSameAs(principal);
+
+        verify(repository, times(1)).findByLoginId(LOGIN_ID);
+    }
+
+    @Test
+    void evict_reloadsChangedPasswordAndRole() {
+        when(repository.findByLoginId(LOGIN_ID)).thenReturn(Optional.of(principal("pw1", "ROLE_USER")));
+        service.loadUserByUsername(LOGIN_ID);
+
+        when(repository.findByLoginId(LOGIN_ID)).thenReturn(Optional.of(principal("pw2", "ROLE_CAR_CENTER")));
+        service.evict(LOGIN_ID);
+
+        CustomUserDetails reloaded = (CustomUserDetails) service.loadUserByUsername(LOGIN_ID);
+        assertThat(reloaded.getPassword()).isEqualTo("pw2");
+        assertThat(reloaded.getRole()).isEqualTo("ROLE_CAR_CENTER");
+    }
+
+    @Test
+    void evictInTransaction_evictsAgainAfterCommit() {
+        when(repository.findByLoginId(LOGIN_ID)).thenReturn(Optional.of(principal("pw1", "ROLE_USER")));
+        service.loadUserByUsername(LOGIN_ID);
+
+        TransactionSynchronizationManager.initSynchronization();
+        service.evict(LOGIN_ID);
+        // 커밋 전: 다른 요청이 아직 커밋되지 않은 이전 값을 다시 캐시합니다.
+        service.loadUserByUsername(LOGIN_ID);
+        when(repository.findByLoginId(LOGIN_ID)).thenReturn(Optional.of(principal("pw2", "ROLE_USER")));
+        assertThat(service.loadUserByUsername(LOGIN_ID).getPassword()).isEqualTo("pw1");
+
+        commit();
+
+        assertThat(service.loadUserByUsername(LOGIN_ID).getPassword()).isEqualTo("pw2");
+    }
+
+    @Test
+    void expiredEntry_isReloaded() throws InterruptedException {
+        service = new CustomUserDetailsService(repository, 1, 100);
+        when(repository.findByLoginId(LOGIN_ID)).thenReturn(Optional.of(principal("pw1", "ROLE_USER")));
+        service.loadUserByUsername(LOGIN_ID);
+        service.loadUserByUsername(LOGIN_ID);
+        verify(repository, times(1)).findByLoginId(LOGIN_ID);
+
+        Thread.sleep(1_100);
+        service.loadUserByUsername(LOGIN_ID);
+
+        verify(repository, times(2)).findByLoginId(LOGIN_ID);
+    }
+
+    @Test
+    void unknownLoginId_isNotCached() {
+        when(repository.findByLoginId(LOGIN_ID)).thenReturn(Optional.empty());
+        assertThatThrownBy(() -> service.loadUserByUsername(LOGIN_ID)).isInstanceOf(UsernameNotFoundException.class);
+
+        when(repository.findByLoginId(LOGIN_ID)).thenReturn(Optional.of(principal("pw1", "ROLE_USER")));
+
+        assertThat(service.loadUserByUsername(LOGIN_ID).getPassword()).isEqualTo("pw1");
+    }
+
+    // == 헬퍼 == //
+
+    private static CustomUserDetails principal(String password, String role) {
+        return new CustomUserDetails(LOGIN_ID, password, "홍길동", role, role.substring("ROLE_".length()));
+    }
+
+    /** 트랜잭션 매니저 없이 커밋 이후 콜백만 실행합니다. */
+    private static void commit() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
@@ -0,0 +1,148 @@
+package com.spring.carparter.service;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.spring.carparter.document.ChatArchiveDocument;
+import com.spring.carparter.document.ChatMessageDocument;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatArchiveServiceTest {
+
+    private static final int ROOM_ID = 7;
+    private static final int BUNDLE_SIZE = 3;
+    private static final LocalDateTime OLD = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    private MongoTemplate mongoTemplate;
+    private ChatRoomSummaryStore summaryStore;
+    private SimpleMeterRegistry meterRegistry;
+    private ChatArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        summaryStore = mock(ChatRoomSummaryStore.class);
+        meterRegistry = new SimpleMeterRegistry();
+        archiveService = new ChatArchiveService(mongoTemplate, summaryStore, JsonMapper.builder().findAndAddModules().build(),
+                new SyncTaskExecutor(), 30, BUNDLE_SIZE, 10, meterRegistry);
+
+        when(mongoTemplate.findDistinct(any(Query.class), eq("roomId"), eq(ChatMessageDocument.class), eq(Integer.class)))
+                .thenReturn(List.of(ROOM_ID));
+        when(summaryStore.findClosedRoomIds(anyCollection())).thenReturn(Set.of());
+    }
+
+    @Test
+    void archiveJob_bundlesOldMessagesAndMarksThemArchived() {
+        List<ChatMessageDocument> messages = messages(4);
+        when(mongoTemplate.find(any(Query.class), eq(ChatMessageDocument.class)))
+                .thenReturn(messages.subList(0, 3), messages.subList(3, 4));
+
+        archiveService.scheduleArchive();
+
+        List<ChatArchiveDocument> bundles = savedBundles(2);
+        assertThat(bundles).extracting(ChatArchiveDocument::getId)
+                .containsExactly(ROOM_ID + ":m0:m2", ROOM_ID + ":m3:m3");
+        assertThat(bundles).extracting(ChatArchiveDocument::getMessageCount).containsExactly(3, 1);
+        verify(mongoTemplate, times(2)).updateMulti(any(Query.class), any(Update.class), eq(ChatMessageDocument.class));
+        assertThat(meterRegistry.counter("chat.archive.messages").count()).isEqualTo(4);
+        assertThat(meterRegistry.counter("chat.archive.bundles").count()).isEqualTo(2);
+    }
+
+    @Test
+    void archiveJob_oneRoomFailing_doesNotStopOtherRooms() {
+        when(mongoTemplate.findDistinct(any(Query.class), eq("roomId"), eq(ChatMessageDocument.class), eq(Integer.class)))
+                .thenReturn(List.of(ROOM_ID, ROOM_ID + 1));
+        when(mongoTemplate.find(any(Query.class), eq(ChatMessageDocument.class)))
+                .thenThrow(new IllegalStateException("boom"))
+                .thenReturn(messages(1));
+
+        archiveService.archiveOldMessages();
+
+        assertThat(savedBundles(1)).hasSize(1);
+    }
+
+    @Test
+    void closedRoom_isNotArchived() {
+        when(summaryStore.findClosedRoomIds(anyCollection())).thenReturn(Set.of(ROOM_ID));
+
+        archiveService.archiveOldMessages();
+
+        verify(mongoTemplate, never()).find(any(Query.class), eq(ChatMessageDocument.class));
+        verify(mongoTemplate, never()).save(any(ChatArchiveDocument.class));
+    }
+
+    @Test
+    void roomClosedWhileWritingBundle_removesTheBundle() {
+        when(mongoTemplate.find(any(Query.class), eq(ChatMessageDocument.class))).thenReturn(messages(2));
+        when(summaryStore.findClosedRoomIds(anyCollection())).thenReturn(Set.of(), Set.of(ROOM_ID));
+
+        archiveService.archiveOldMessages();
+
+        String bundleId = savedBundles(1).get(0).getId();
+        ArgumentCaptor<Query> removed = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).remove(removed.capture(), eq(ChatArchiveDocument.class));
+        assertThat(removed.getValue().getQueryObject().get("id")).isEqualTo(bundleId);
+        verify(mongoTemplate, never()).updateMulti(any(Query.class), any(Update.class), eq(ChatMessageDocument.class));
+    }
+
+    @Test
+    void readBefore_unpacksBundlesNewestFirstFromBoundary() {
+        List<ChatMessageDocument> messages = messages(3);
+        when(mongoTemplate.find(any(Query.class), eq(ChatMessageDocument.class))).thenReturn(messages, List.of());
+        archiveService.archiveOldMessages();
+        ChatArchiveDocument bundle = savedBundles(1).get(0);
+        when(mongoTemplate.stream(any(Query.class), eq(ChatArchiveDocument.class)))
+                .thenAnswer(invocation -> Stream.of(bundle));
+
+        List<ChatMessageDocument> all = archiveService.readBefore(ROOM_ID, null, 10);
+        List<ChatMessageDocument> beforeLast = archiveService.readBefore(
+                ROOM_ID, new ChatCursor(messages.get(2).getSentAt(), messages.get(2).getId()), 10);
+
+        assertThat(all).extracting(ChatMessageDocument::getId).containsExactly("m2", "m1", "m0");
+        assertThat(beforeLast).extracting(ChatMessageDocument::getId).containsExactly("m1", "m0");
+        assertThat(all.get(0).getSentAt()).isEqualTo(messages.get(2).getSentAt());
+    }
+
+    // == 헬퍼 == //
+
+    private List<ChatArchiveDocument> savedBundles(int count) {
+        ArgumentCaptor<ChatArchiveDocument> saved = ArgumentCaptor.forClass(ChatArchiveDocument.class);
+        verify(mongoTemplate, times(count)).save(saved.capture());
+        return saved.getAllValues();
+    }
+
+    private static List<ChatMessageDocument> messages(int count) {
+        List<ChatMessageDocument> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            messages.add(ChatMessageDocument.builder()
+                    .id("m" + i)
+                    .roomId(ROOM_ID)
+                    .senderId("user1")
+                    .content("message " + i)
+                    .sentAt(OLD.plusMinutes(i))
+                    .build());
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,99 @@
+package com.spring.carparter.service;
+
+import com.spring.carparter.document.ChatMessageDocument;
+import com.spring.carparter.dto.CursorPageResDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * hot 컬렉션(messages)과 보관 묶음(ChatArchiveService.readBefore)을 이어 읽는 기록 조회를 확인합니다.
+ * 두 저장소 모두 최근 순으로 돌려주므로, 목에도 최근 순 목록을 넣습니다.
+ */
+class ChatHistoryServiceTest {
+
+    private static final int ROOM_ID = 7;
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    private MongoTemplate mongoTemplate;
+    private ChatArchiveService archiveService;
+    private ChatHistoryService historyService;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        archiveService = mock(ChatArchiveService.class);
+        historyService = new ChatHistoryService(mongoTemplate, archiveService);
+    }
+
+    @Test
+    void hotPageFull_doesNotReadArchive() {
+        hot(message(5), message(4), message(3));
+
+        CursorPageResDTO<ChatMessageDocument> page = historyService.getHistoryBefore(ROOM_ID, null, 2);
+
+        assertThat(page.getItems()).extracting(ChatMessageDocument::getId).containsExactly("m4", "m5");
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(ChatCursor.decode(page.getNextCursor())).isEqualTo(keyOf(message(4)));
+        verify(archiveService, never()).readBefore(any(), any(), anyInt());
+    }
+
+    @Test
+    void hotShort_continuesFromArchiveBeforeOldestHotMessage() {
+        hot(message(5), message(4));
+        when(archiveService.readBefore(eq(ROOM_ID), eq(keyOf(message(4))), eq(2)))
+                .thenReturn(List.of(message(3), message(2)));
+
+        CursorPageResDTO<ChatMessageDocument> page = historyService.getHistoryBefore(ROOM_ID, null, 3);
+
+        assertThat(page.getItems()).extracting(ChatMessageDocument::getId).containsExactly("m3", "m4", "m5");
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(ChatCursor.decode(page.getNextCursor())).isEqualTo(keyOf(message(3)));
+    }
+
+    @Test
+    void cursorPastHot_readsArchiveFromCursor() {
+        hot();
+        ChatCursor cursor = keyOf(message(3));
+        when(archiveService.readBefore(eq(ROOM_ID), eq(cursor), eq(3)))
+                .thenReturn(List.of(message(2), message(1)));
+
+        CursorPageResDTO<ChatMessageDocument> page = historyService.getHistoryBefore(ROOM_ID, cursor.encode(), 2);
+
+        assertThat(page.getItems()).extracting(ChatMessageDocument::getId).containsExactly("m1", "m2");
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    // == 헬퍼 == //
+
+    private void hot(ChatMessageDocument... newestFirst) {
+        when(mongoTemplate.find(any(Query.class), eq(ChatMessageDocument.class))).thenReturn(List.of(newestFirst));
+    }
+
+    private static ChatMessageDocument message(int minute) {
+        return ChatMessageDocument.builder()
+                .id("m" + minute)
+                .roomId(ROOM_ID)
+                .content("message " + minute)
+                .sentAt(BASE.plusMinutes(minute))
+                .build();
+    }
+
+    private static ChatCursor keyOf(ChatMessageDocument message) {
+        return new ChatCursor(message.getSentAt(), message.getId());
+    }
+}
@@ -0,0 +1,229 @@
+package com.spring.carparter.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.spring.carparter.document.ChatMessageDocument;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Mongo 대신 BulkOperations 목을 두고, 배치에 실린 메시지와 실패 보관으로 간 메시지를 기록해 확인합니다.
+ * execute()가 던질 예외를 outcome에 넣어 일시 오류/문서 단위 오류를 흉내 냅니다.
+ */
+class ChatMessageWriteBehindTest {
+
+    private static final int VALIDATION_ERROR = 121;
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+
+    @TempDir
+    Path spillDir;
+
+    private MongoTemplate mongoTemplate;
+    private ChatRoomSummaryStore summaryStore;
+    private SimpleMeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    /** 저장 시도마다 실린 배치(복사본) */
+    private final List<List<ChatMessageDocument>> attempts = new CopyOnWriteArrayList<>();
+    private final List<ChatMessageDocument> deadLettered = new CopyOnWriteArrayList<>();
+    /** 채팅방 요약에 반영된 메시지 (쓰기 스레드가 배치 목록을 다시 쓰므로 복사해 둠) */
+    private final List<ChatMessageDocument> applied = new CopyOnWriteArrayList<>();
+    /** 다음 execute()가 던질 예외 (null이면 성공) */
+    private final AtomicReference<RuntimeException> outcome = new AtomicReference<>();
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        summaryStore = mock(ChatRoomSummaryStore.class);
+        meterRegistry = new SimpleMeterRegistry();
+        doAnswer(invocation -> applied.addAll(invocation.getArgument(0)))
+                .when(summaryStore).applySaved(anyList());
+
+        BulkOperations messages = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(ChatMessageDocument.class))).thenReturn(messages);
+        when(messages.insert(anyList())).thenAnswer(invocation -> {
+            attempts.add(List.copyOf(invocation.<List<ChatMessageDocument>>getArgument(0)));
+            return messages;
+        });
+        when(messages.execute()).thenAnswer(invocation -> {
+            RuntimeException failure = outcome.get();
+            if (failure != null && failuresLeft.getAndDecrement() > 0) {
+                throw failure;
+            }
+            return BulkWriteResult.unacknowledged();
+        });
+
+        BulkOperations deadLetter = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(ChatMessageDocument.class),
+                eq(ChatMessageWriteBehind.DEAD_LETTER_COLLECTION))).thenReturn(deadLetter);
+        when(deadLetter.insert(anyList())).thenAnswer(invocation -> {
+            deadLettered.addAll(invocation.getArgument(0));
+            return deadLetter;
+        });
+        when(deadLetter.execute()).thenReturn(BulkWriteResult.unacknowledged());
+    }
+
+    @Test
+    void batchesUpToBatchSize() throws InterruptedException {
+        ChatMessageWriteBehind writeBehind = writeBehind(3, 500, 2_000);
+        writeBehind.start();
+
+        for (int i = 0; i < 7; i++) {
+            writeBehind.enqueue(message(1, "m" + i));
+        }
+        awaitWritten(7);
+        writeBehind.stop();
+
+        assertThat(attempts).extracting(List::size).containsExactly(3, 3, 1);
+        verify(mongoTemplate, never()).save(any(ChatMessageDocument.class));
+    }
+
+    @Test
+    void transientFailure_retriesUntilSavedWithoutDeadLetter() throws InterruptedException {
+        outcome.set(new DataAccessResourceFailureException("mongo down"));
+        failuresLeft.set(3);
+        ChatMessageWriteBehind writeBehind = writeBehind(10, 20, 5_000);
+        writeBehind.start();
+
+        ChatMessageDocument message = writeBehind.enqueue(message(1, "hello"));
+        awaitWritten(1);
+        writeBehind.stop();
+
+        assertThat(attempts).hasSize(4).allSatisfy(batch -> assertThat(batch).containsExactly(message));
+        assertThat(meterRegistry.counter("chat.write-behind.retry").count()).isEqualTo(3);
+        assertThat(deadLettered).isEmpty();
+        assertThat(applied).containsExactly(message);
+    }
+
+    @Test
+    void rejectedDocument_onlyThatDocumentIsDeadLettered() {
+        ChatMessageWriteBehind writeBehind = writeBehind(10, 500, 5_000);
+        ChatMessageDocument alreadySaved = message(1, "a");
+        ChatMessageDocument rejected = message(1, "b");
+        ChatMessageDocument saved = message(1, "c");
+        outcome.set(bulkFailure(
+                new BulkWriteError(DUPLICATE_KEY_ERROR, "duplicate key", new BsonDocument(), 0),
+                new BulkWriteError(VALIDATION_ERROR, "document failed validation", new BsonDocument(), 1)));
+        failuresLeft.set(1);
+        writeBehind.start();
+
+        writeBehind.enqueue(alreadySaved);
+        writeBehind.enqueue(rejected);
+        writeBehind.enqueue(saved);
+        writeBehind.stop();
+
+        assertThat(attempts).hasSize(1);
+        assertThat(deadLettered).containsExactly(rejected);
+        assertThat(applied).containsExactly(alreadySaved, saved);
+    }
+
+    @Test
+    void stop_drainsQueueAndSavesLaterMessagesSynchronously() {
+        ChatMessageWriteBehind writeBehind = writeBehind(2, 500, 5_000);
+        writeBehind.start();
+        List<ChatMessageDocument> queued = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            queued.add(writeBehind.enqueue(message(1, "m" + i)));
+        }
+
+        writeBehind.stop();
+
+        assertThat(attempts.stream().flatMap(List::stream).toList()).containsExactlyElementsOf(queued);
+        assertThat(writeBehind.isRunning()).isFalse();
+
+        ChatMessageDocument late = writeBehind.enqueue(message(1, "late"));
+        verify(mongoTemplate).save(late);
+    }
+
+    @Test
+    void stopTimeout_spillsToFileAndNextStartReplaysIt() throws Exception {
+        outcome.set(new DataAccessResourceFailureException("mongo down"));
+        failuresLeft.set(Integer.MAX_VALUE);
+        ChatMessageWriteBehind first = writeBehind(10, 20, 300);
+        first.start();
+        ChatMessageDocument a = first.enqueue(message(1, "a"));
+        ChatMessageDocument b = first.enqueue(message(2, "b"));
+
+        first.stop();
+
+        try (var files = Files.list(spillDir)) {
+            assertThat(files.toList()).hasSize(1);
+        }
+        assertThat(meterRegistry.counter("chat.write-behind.spilled").count()).isEqualTo(2);
+        assertThat(deadLettered).isEmpty();
+
+        outcome.set(null);
+        attempts.clear();
+        ChatMessageWriteBehind second = writeBehind(10, 20, 5_000);
+        second.start();
+        second.stop();
+
+        assertThat(attempts).hasSize(1);
+        assertThat(attempts.get(0)).extracting(ChatMessageDocument::getId).containsExactly(a.getId(), b.getId());
+        try (var files = Files.list(spillDir)) {
+            assertThat(files.toList()).isEmpty();
+        }
+    }
+
+    // == 헬퍼 == //
+
+    private ChatMessageWriteBehind writeBehind(int batchSize, long flushIntervalMs, long shutdownTimeoutMs) {
+        return new ChatMessageWriteBehind(mongoTemplate, summaryStore, objectMapper,
+                100, batchSize, flushIntervalMs, 100, shutdownTimeoutMs, spillDir.toString(), meterRegistry);
+    }
+
+    private void awaitWritten(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (meterRegistry.counter("chat.write-behind.written").count() < count
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(meterRegistry.counter("chat.write-behind.written").count()).isEqualTo(count);
+    }
+
+    private static ChatMessageDocument message(int roomId, String content) {
+        return ChatMessageDocument.builder()
+                .roomId(roomId)
+                .senderId("user1")
+                .content(content)
+                .sentAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static BulkOperationException bulkFailure(BulkWriteError... errors) {
+        return new BulkOperationException("bulk write failed", new MongoBulkWriteException(
+                BulkWriteResult.unacknowledged(), List.of(errors), null, new ServerAddress(), Set.of()));
+    }
+}
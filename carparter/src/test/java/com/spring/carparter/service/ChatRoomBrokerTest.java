@@ -0,0 +1,175 @@
+package com.spring.carparter.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 노드 두 개(브로커 + 루프백 전송)를 같은 허브에 붙여, 방 단위 구독 수 추적과 노드 간 중계를 확인합니다.
+ */
+class ChatRoomBrokerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private LoopbackChatBrokerTransport.Hub hub;
+    private LoopbackChatBrokerTransport transportA;
+    private SimpMessagingTemplate templateA;
+    private SimpMessagingTemplate templateB;
+    private SimpleMeterRegistry meterRegistryA;
+    private ChatRoomBroker brokerA;
+    private ChatRoomBroker brokerB;
+
+    @BeforeEach
+    void setUp() {
+        hub = new LoopbackChatBrokerTransport.Hub();
+        transportA = new LoopbackChatBrokerTransport(hub);
+        templateA = mock(SimpMessagingTemplate.class);
+        templateB = mock(SimpMessagingTemplate.class);
+        meterRegistryA = new SimpleMeterRegistry();
+        brokerA = new ChatRoomBroker(templateA, transportA, objectMapper, "relay", meterRegistryA);
+        brokerB = new ChatRoomBroker(templateB, new LoopbackChatBrokerTransport(hub), objectMapper, "relay",
+                new SimpleMeterRegistry());
+    }
+
+    // == 구독 수 추적 == //
+
+    @Test
+    void transportSubscription_followsFirstAndLastLocalSubscriber() {
+        brokerA.onSubscribe(subscribe("s1", "sub-0", "/topic/room/1"));
+        brokerA.onSubscribe(subscribe("s2", "sub-0", "/topic/room/1"));
+        assertThat(hub.subscribersOf(1)).containsExactly(transportA);
+        assertThat(meterRegistryA.get("chat.broker.rooms.local").gauge().value()).isEqualTo(1);
+
+        brokerA.onUnsubscribe(unsubscribe("s1", "sub-0"));
+        assertThat(hub.subscribersOf(1)).containsExactly(transportA);
+
+        brokerA.onDisconnect(disconnect("s2"));
+        assertThat(hub.subscribersOf(1)).isEmpty();
+        assertThat(meterRegistryA.get("chat.broker.rooms.local").gauge().value()).isEqualTo(0);
+    }
+
+    @Test
+    void reusedSubscriptionId_movesToNewRoom() {
+        brokerA.onSubscribe(subscribe("s1", "sub-0", "/topic/room/1"));
+        brokerA.onSubscribe(subscribe("s1", "sub-0", "/topic/room/2"));
+
+        assertThat(hub.subscribersOf(1)).isEmpty();
+        assertThat(hub.subscribersOf(2)).containsExactly(transportA);
+    }
+
+    @Test
+    void transportUnsubscribe_onlyWhenRoomHadLocalSubscription() {
+        ChatBrokerTransport transport = mock(ChatBrokerTransport.class);
+        ChatRoomBroker broker = new ChatRoomBroker(mock(SimpMessagingTemplate.class), transport, objectMapper, "relay",
+                new SimpleMeterRegistry());
+
+        broker.onSubscribe(subscribe("s1", "sub-0", "/topic/room/1"));
+        broker.onSubscribe(subscribe("s1", "sub-0", "/topic/room/1"));
+        broker.onUnsubscribe(unsubscribe("s1", "sub-0"));
+        broker.onUnsubscribe(unsubscribe("s1", "sub-0"));
+        broker.onDisconnect(disconnect("s1"));
+        broker.onUnsubscribe(unsubscribe("unknown", "sub-9"));
+
+        verify(transport, times(1)).subscribe(1);
+        verify(transport, times(1)).unsubscribe(1);
+    }
+
+    @Test
+    void nonRoomDestinations_areIgnored() {
+        brokerA.onSubscribe(subscribe("s1", "sub-0", "/topic/notifications"));
+        brokerA.onSubscribe(subscribe("s1", "sub-1", "/topic/room/abc"));
+
+        assertThat(meterRegistryA.get("chat.broker.rooms.local").gauge().value()).isEqualTo(0);
+    }
+
+    // == 노드 간 중계 == //
+
+    @Test
+    void publish_reachesOtherNodeSubscribedToRoom() {
+        brokerB.onSubscribe(subscribe("s-b", "sub-0", "/topic/room/1"));
+
+        Map<String, String> message = Map.of("content", "hello");
+        brokerA.publish(1, message);
+
+        verify(templateA).convertAndSend("/topic/room/1", (Object) message);
+        ArgumentCaptor<Object> relayed = ArgumentCaptor.forClass(Object.class);
+        verify(templateB).convertAndSend(eq("/topic/room/1"), relayed.capture());
+        assertThat(((JsonNode) relayed.getValue()).get("content").asText()).isEqualTo("hello");
+        assertThat(meterRegistryA.counter("chat.broker.relay.out").count()).isEqualTo(1);
+    }
+
+    @Test
+    void publish_skipsNodesWithoutSubscribersAndOriginNode() {
+        brokerA.onSubscribe(subscribe("s-a", "sub-0", "/topic/room/1"));
+        brokerB.onSubscribe(subscribe("s-b", "sub-0", "/topic/room/2"));
+
+        brokerA.publish(1, Map.of("content", "hello"));
+
+        // A는 로컬로 한 번만 보내고(중계로 되돌아온 것은 건너뜀), 방 1을 구독하지 않은 B에는 가지 않습니다.
+        verify(templateA, times(1)).convertAndSend(anyString(), any(Object.class));
+        verify(templateB, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void localMode_doesNotRelay() {
+        ChatRoomBroker localBroker = new ChatRoomBroker(mock(SimpMessagingTemplate.class),
+                new LoopbackChatBrokerTransport(hub), objectMapper, "local", new SimpleMeterRegistry());
+        brokerB.onSubscribe(subscribe("s-b", "sub-0", "/topic/room/1"));
+        localBroker.onSubscribe(subscribe("s-l", "sub-0", "/topic/room/1"));
+
+        localBroker.publish(1, Map.of("content", "hello"));
+
+        assertThat(hub.subscribersOf(1)).hasSize(1);
+        verify(templateB, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    // == 헬퍼 == //
+
+    private static SessionSubscribeEvent subscribe(String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return new SessionSubscribeEvent(ChatRoomBrokerTest.class, message(accessor));
+    }
+
+    private static SessionUnsubscribeEvent unsubscribe(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return new SessionUnsubscribeEvent(ChatRoomBrokerTest.class, message(accessor));
+    }
+
+    private static SessionDisconnectEvent disconnect(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        return new SessionDisconnectEvent(ChatRoomBrokerTest.class, message(accessor), sessionId, CloseStatus.NORMAL);
+    }
+
+    private static Message<byte[]> message(StompHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
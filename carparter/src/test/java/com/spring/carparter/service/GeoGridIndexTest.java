@@ -0,0 +1,90 @@
+package com.spring.carparter.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeoGridIndexTest {
+
+    // 강남역 기준
+    private static final double LAT = 37.4979;
+    private static final double LNG = 127.0276;
+
+    private GeoGridIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new GeoGridIndex(0.02);
+        index.upsert("near", 37.4985, 127.0280, true);       // 약 0.08km
+        index.upsert("mid", 37.5172, 127.0473, true);        // 약 2.7km (다른 셀)
+        index.upsert("far", 37.5665, 126.9780, true);        // 약 8.8km (시청)
+        index.upsert("hidden", 37.4980, 127.0277, false);    // 가장 가깝지만 비노출
+    }
+
+    @Test
+    void withinRadius_returnsVisibleHitsInDistanceOrder() {
+        List<GeoGridIndex.Hit> hits = index.withinRadius(LAT, LNG, 5, 0);
+
+        assertThat(hits).extracting(GeoGridIndex.Hit::id).containsExactly("near", "mid");
+        assertThat(hits.get(0).distanceKm()).isLessThan(hits.get(1).distanceKm());
+    }
+
+    @Test
+    void withinRadius_appliesLimit() {
+        assertThat(index.withinRadius(LAT, LNG, 20, 2)).extracting(GeoGridIndex.Hit::id).containsExactly("near", "mid");
+    }
+
+    @Test
+    void nearest_matchesBruteForceOrder() {
+        assertThat(index.nearest(LAT, LNG, 3, 50)).extracting(GeoGridIndex.Hit::id).containsExactly("near", "mid", "far");
+        assertThat(index.nearest(LAT, LNG, 1, 50)).extracting(GeoGridIndex.Hit::id).containsExactly("near");
+    }
+
+    @Test
+    void nearest_respectsMaxRadius() {
+        assertThat(index.nearest(LAT, LNG, 10, 5)).extracting(GeoGridIndex.Hit::id).containsExactly("near", "mid");
+    }
+
+    @Test
+    void nearest_withHugeKDoesNotPreallocate() {
+        assertThat(index.nearest(LAT, LNG, Integer.MAX_VALUE, 50)).hasSize(3);
+    }
+
+    @Test
+    void upsert_movesEntryBetweenCells() {
+        index.upsert("far", 37.4990, 127.0290, true);
+
+        assertThat(index.withinRadius(LAT, LNG, 1, 0)).extracting(GeoGridIndex.Hit::id).containsExactly("near", "far");
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void setVisibleAndRemove_excludeFromResults() {
+        index.setVisible("hidden", true);
+        assertThat(index.nearest(LAT, LNG, 1, 50)).extracting(GeoGridIndex.Hit::id).containsExactly("hidden");
+
+        index.remove("hidden");
+        index.remove("near");
+        assertThat(index.nearest(LAT, LNG, 1, 50)).extracting(GeoGridIndex.Hit::id).containsExactly("mid");
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsOutOfRangeCoordinatesAndRadius() {
+        assertThatThrownBy(() -> index.withinRadius(91, LNG, 1, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.withinRadius(LAT, -181, 1, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.nearest(Double.NaN, LNG, 1, 50)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.withinRadius(LAT, LNG, -1, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.withinRadius(LAT, LNG, Double.POSITIVE_INFINITY, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void haversine_knownDistance() {
+        // 강남역 - 서울시청 약 8.8km
+        assertThat(GeoGridIndex.haversineKm(LAT, LNG, 37.5665, 126.9780)).isBetween(8.5, 9.1);
+    }
+}
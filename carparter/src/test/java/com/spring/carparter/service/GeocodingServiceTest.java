@@ -0,0 +1,137 @@
+package com.spring.carparter.service;
+
+import com.spring.carparter.dto.Coordinates;
+import com.spring.carparter.entity.GeocodeCache;
+import com.spring.carparter.repository.GeocodeCacheRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 메모리 → geocode_cache 테이블 → 외부 API 순서의 캐시를 StubGeocodingClient 호출 횟수로 확인합니다.
+ * 테이블은 Map으로 흉내 내고, 서비스 인스턴스를 새로 만들면 메모리만 비운 상태(다른 노드, 재시작)가 됩니다.
+ */
+class GeocodingServiceTest {
+
+    private static final String NOT_FOUND = "[없는주소]";
+    private static final String FAIL = "[호출실패]";
+    private static final String ADDRESS = "서울특별시 강남구 테헤란로 123";
+    private static final long NEGATIVE_TTL_HOURS = 24;
+
+    private final Map<String, GeocodeCache> table = new ConcurrentHashMap<>();
+    private GeocodeCacheRepository repository;
+    private StubGeocodingClient client;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(GeocodeCacheRepository.class);
+        when(repository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(table.get(invocation.<String>getArgument(0))));
+        when(repository.save(any(GeocodeCache.class))).thenAnswer(invocation -> {
+            GeocodeCache row = invocation.getArgument(0);
+            table.put(row.getAddressKey(), row);
+            return row;
+        });
+        doAnswer(invocation -> table.remove(invocation.<GeocodeCache>getArgument(0).getAddressKey()))
+                .when(repository).delete(any(GeocodeCache.class));
+        client = new StubGeocodingClient(0, NOT_FOUND, FAIL);
+    }
+
+    @Test
+    void foundAddress_hitsClientOnceAcrossMemoryAndTable() {
+        GeocodingService first = service(NEGATIVE_TTL_HOURS);
+
+        Coordinates coordinates = first.getCoordinates(ADDRESS).block();
+        assertThat(coordinates).isNotNull();
+        assertThat(client.callCount()).isEqualTo(1);
+
+        // 메모리
+        assertThat(first.getCoordinates(ADDRESS).block()).isSameAs(coordinates);
+        assertThat(first.getCoordinates("  서울특별시   강남구 테헤란로 123 ").block()).isSameAs(coordinates);
+        // 테이블 (메모리가 빈 다른 인스턴스)
+        assertThat(service(NEGATIVE_TTL_HOURS).getCoordinates(ADDRESS).block().getLatitude())
+                .isEqualTo(coordinates.getLatitude());
+        assertThat(service(NEGATIVE_TTL_HOURS).findCached(ADDRESS)).isPresent();
+
+        assertThat(client.callCount()).isEqualTo(1);
+    }
+
+    @Test
+    void notFound_isCachedInBothTiersUntilTtlExpires() {
+        String address = "서울특별시 어딘가 " + NOT_FOUND;
+        GeocodingService first = service(NEGATIVE_TTL_HOURS);
+
+        assertThat(first.getCoordinates(address).block()).isNull();
+        assertThat(first.getCoordinates(address).block()).isNull();
+        assertThat(service(NEGATIVE_TTL_HOURS).getCoordinates(address).block()).isNull();
+        assertThat(client.callCount()).isEqualTo(1);
+
+        // 테이블의 검색 결과 없음이 기간을 넘기면 지우고 다시 부른 뒤, 새 결과를 다시 믿습니다.
+        String key = GeocodingService.normalize(address);
+        table.put(key, GeocodeCache.builder()
+                .addressKey(key)
+                .createdAt(LocalDateTime.now().minusHours(NEGATIVE_TTL_HOURS + 1))
+                .build());
+        GeocodingService afterExpiry = service(NEGATIVE_TTL_HOURS);
+        assertThat(afterExpiry.getCoordinates(address).block()).isNull();
+        assertThat(client.callCount()).isEqualTo(2);
+        assertThat(table.get(key).getCreatedAt()).isAfter(LocalDateTime.now().minusMinutes(1));
+
+        assertThat(afterExpiry.getCoordinates(address).block()).isNull();
+        assertThat(service(NEGATIVE_TTL_HOURS).getCoordinates(address).block()).isNull();
+        assertThat(client.callCount()).isEqualTo(2);
+    }
+
+    @Test
+    void notFound_expiredInMemory_callsClientAgain() throws InterruptedException {
+        String address = "서울특별시 어딘가 " + NOT_FOUND;
+        GeocodingService service = service(0);
+
+        service.getCoordinates(address).block();
+        Thread.sleep(5);
+        service.getCoordinates(address).block();
+
+        assertThat(client.callCount()).isEqualTo(2);
+    }
+
+    @Test
+    void failure_isNotCached() {
+        String address = "서울특별시 " + FAIL;
+        GeocodingService service = service(NEGATIVE_TTL_HOURS);
+
+        assertThatThrownBy(() -> service.getCoordinates(address).block()).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> service.getCoordinates(address).block()).isInstanceOf(IllegalStateException.class);
+
+        assertThat(client.callCount()).isEqualTo(2);
+        assertThat(table).isEmpty();
+        assertThat(service.findCached(address)).isEmpty();
+    }
+
+    @Test
+    void concurrentLookups_shareOneClientCall() {
+        client = new StubGeocodingClient(50, NOT_FOUND, FAIL);
+        GeocodingService service = service(NEGATIVE_TTL_HOURS);
+
+        Mono.zip(service.getCoordinates(ADDRESS), service.getCoordinates(ADDRESS)).block();
+
+        assertThat(client.callCount()).isEqualTo(1);
+    }
+
+    private GeocodingService service(long negativeTtlHours) {
+        return new GeocodingService(client, repository, 10_000, negativeTtlHours, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,34 @@
+package com.spring.carparter.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramTokenizerTest {
+
+    @Test
+    void indexTokens_emitsUnigramsBigramsAndWholeWord() {
+        assertThat(NgramTokenizer.indexTokens("헤드라이트"))
+                .containsExactly("헤", "드", "라", "이", "트", "헤드", "드라", "라이", "이트", "헤드라이트");
+    }
+
+    @Test
+    void indexTokens_lowercasesAndSplitsOnNonAlphanumerics() {
+        assertThat(NgramTokenizer.indexTokens("AB-12"))
+                .containsExactly("a", "b", "ab", "1", "2", "12");
+    }
+
+    @Test
+    void queryTokens_usesUnigramOnlyForSingleCharacterWords() {
+        assertThat(NgramTokenizer.queryTokens("휠 범퍼"))
+                .containsExactly("휠", "범퍼");
+        assertThat(NgramTokenizer.queryTokens("아반떼"))
+                .containsExactly("아반", "반떼", "아반떼");
+    }
+
+    @Test
+    void blankOrNullText_hasNoTokens() {
+        assertThat(NgramTokenizer.indexTokens(null)).isEmpty();
+        assertThat(NgramTokenizer.queryTokens("  !! ")).isEmpty();
+    }
+}
@@ -0,0 +1,109 @@
+package com.spring.carparter.service;
+
+import com.spring.carparter.entity.UsedPart;
+import com.spring.carparter.repository.UsedPartRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UsedPartSearchIndexTest {
+
+    private UsedPartRepository usedPartRepository;
+    private UsedPartSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        usedPartRepository = mock(UsedPartRepository.class);
+        index = new UsedPartSearchIndex(usedPartRepository, 2);
+    }
+
+    @Test
+    void search_matchesCompoundWordsByNgram() {
+        index.index(part(1, "헤드라이트어셈블리", null, null, null));
+
+        assertThat(index.search("헤드라이트", 0, 10).partIds()).containsExactly(1);
+    }
+
+    @Test
+    void search_ranksPartNameAboveDescription() {
+        index.index(part(1, "범퍼", null, null, "헤드라이트 교환 시 함께 구매"));
+        index.index(part(2, "헤드라이트", null, null, null));
+
+        assertThat(index.search("헤드라이트", 0, 10).partIds()).containsExactly(2, 1);
+    }
+
+    @Test
+    void search_requiresMinimumShouldMatch() {
+        index.index(part(1, "헤드라이트", null, null, null));
+        index.index(part(2, "헤드라이트", "조명", "아반떼", null));
+
+        // 검색어 토큰 8개 중 6개 이상 일치해야 하므로, 헤드라이트만 일치하는 부품은 빠집니다.
+        UsedPartSearchIndex.SearchResult result = index.search("아반떼 헤드라이트", 0, 10);
+        assertThat(result.partIds()).containsExactly(2);
+        assertThat(result.totalHits()).isEqualTo(1);
+    }
+
+    @Test
+    void search_pagesByScoreThenNewestFirst() {
+        for (int id = 1; id <= 5; id++) {
+            index.index(part(id, "브레이크 패드", null, null, null));
+        }
+
+        UsedPartSearchIndex.SearchResult first = index.search("브레이크", 0, 2);
+        assertThat(first.partIds()).containsExactly(5, 4);
+        assertThat(first.totalHits()).isEqualTo(5);
+        assertThat(index.search("브레이크", 2, 2).partIds()).containsExactly(1);
+        assertThat(index.search("브레이크", 3, 2).partIds()).isEmpty();
+    }
+
+    @Test
+    void reindexAndRemove_updatePostings() {
+        index.index(part(1, "헤드라이트", null, null, null));
+        index.index(part(1, "범퍼", null, null, null));
+        assertThat(index.search("헤드라이트", 0, 10).partIds()).isEmpty();
+        assertThat(index.search("범퍼", 0, 10).partIds()).containsExactly(1);
+
+        index.remove(1);
+        assertThat(index.search("범퍼", 0, 10).partIds()).isEmpty();
+        assertThat(index.documentCount()).isZero();
+    }
+
+    @Test
+    void search_withBlankQueryReturnsNothing() {
+        index.index(part(1, "헤드라이트", null, null, null));
+
+        assertThat(index.search("   ", 0, 10).totalHits()).isZero();
+    }
+
+    @Test
+    void loadAll_readsKeysetChunks() {
+        when(usedPartRepository.findSearchFieldsAfter(eq(0), any())).thenReturn(List.of(
+                new Object[]{1, "헤드라이트", "조명", "아반떼", null},
+                new Object[]{2, "브레이크 패드", "제동", "쏘나타", null}));
+        when(usedPartRepository.findSearchFieldsAfter(eq(2), any())).thenReturn(List.<Object[]>of(
+                new Object[]{3, "사이드미러", "외장", "아반떼", null}));
+
+        index.loadAll();
+
+        assertThat(index.documentCount()).isEqualTo(3);
+        assertThat(index.search("아반떼", 0, 10).partIds()).containsExactlyInAnyOrder(1, 3);
+    }
+
+    private static UsedPart part(int id, String partName, String category, String carModel, String description) {
+        return UsedPart.builder()
+                .partId(id)
+                .partName(partName)
+                .category(category)
+                .compatibleCarModel(carModel)
+                .description(description)
+                .price(10000)
+                .build();
+    }
+}